@@ -0,0 +1,47 @@
+package com.goodhelp.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for repository interfaces, so benchmarks measure the code around
+ * the database rather than the database.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Implementation of {@code type} answering the named methods from {@code answers}.
+     * Other default methods run as declared; anything else throws, so a benchmark never
+     * silently measures an unexpected path.
+     */
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.isDefault()) {
+                try {
+                    return InvocationHandler.invokeDefault(proxy, method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,55 @@
+package com.goodhelp.billing.application;
+
+import com.goodhelp.config.GoodHelpProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signature of a WayForPay purchase form, with the fields PreparePaymentUseCase signs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WayForPaySignatureServiceBenchmark {
+
+    private WayForPaySignatureService service;
+    private List<String> fields;
+
+    @Setup
+    public void setUp() {
+        GoodHelpProperties properties = new GoodHelpProperties();
+        properties.getWayforpay().setMerchantLogin("goodhelp_com_ua");
+        properties.getWayforpay().setMerchantDomain("goodhelp.com.ua");
+        properties.getWayforpay().setMerchantSecretKey("0123456789abcdef0123456789abcdef01234567");
+        service = new WayForPaySignatureService(properties);
+        fields = List.of(
+            "goodhelp_com_ua",
+            "goodhelp.com.ua",
+            "3f2a9c1e7b6d4a5f8e0c2b1a9d8e7f6a",
+            "1773842400",
+            "1200.00",
+            "UAH",
+            "Individual consultation",
+            "1",
+            "1200.00");
+    }
+
+    @Benchmark
+    public String sign() {
+        return service.sign(fields);
+    }
+}
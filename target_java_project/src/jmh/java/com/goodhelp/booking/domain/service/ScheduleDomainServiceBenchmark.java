@@ -0,0 +1,76 @@
+package com.goodhelp.booking.domain.service;
+
+import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.therapist.domain.model.Sex;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.therapist.domain.model.TherapistRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slot filtering and grouping as done for a therapist's booking calendar.
+ *
+ * <p>336 slots is one week of half-hour cells; 2016 is the six weeks a calendar can show.
+ * A quarter of the slots are booked and the first day is within the booking time cap.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleDomainServiceBenchmark {
+
+    private static final int TIME_CAP_HOURS = 24;
+
+    @Param({"336", "2016"})
+    private int slotCount;
+
+    private final ScheduleDomainService service = new ScheduleDomainService();
+    private List<ScheduleSlot> slots;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        Therapist therapist = Therapist.create("benchmark@example.com", TherapistRole.THERAPIST,
+            TherapistProfile.create("Anna", "Benchmark", null, LocalDate.of(2015, 1, 1), "001-benchmark", Sex.FEMALE));
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            ScheduleSlot slot = ScheduleSlot.createAvailable(therapist, now.plusMinutes(30L * (i + 1)));
+            if (i % 4 == 0) {
+                slot.hold("benchmark", now.plusMinutes(15));
+                slot.book("benchmark");
+            }
+            slots.add(slot);
+        }
+    }
+
+    @Benchmark
+    public List<ScheduleSlot> filterBookableSlots() {
+        return service.filterBookableSlots(slots, now, TIME_CAP_HOURS);
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<ScheduleSlot>> groupSlotsByDate() {
+        return service.groupSlotsByDate(slots, "Europe/Kiev");
+    }
+}
@@ -0,0 +1,51 @@
+package com.goodhelp.common.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultation date labels, rendered on dashboards and in every booking email.
+ * Messages come from the application's own bundles, configured as in application.yml.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateLocalizedHelperBenchmark {
+
+    @Param({"ua", "ru", "en"})
+    private String locale;
+
+    private DateLocalizedHelper helper;
+    private LocalDateTime dateTime;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+        helper = new DateLocalizedHelper(messageSource);
+        dateTime = LocalDateTime.of(2026, 3, 18, 14, 30);
+    }
+
+    @Benchmark
+    public String dateTimeGoodLookingLabel() {
+        return helper.getDateTimeGoodLookingLabel(dateTime, locale);
+    }
+}
@@ -0,0 +1,38 @@
+package com.goodhelp.common.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timezone picker options, built for every profile and checkout form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimezoneServiceBenchmark {
+
+    private final TimezoneService service = new TimezoneService();
+
+    @Benchmark
+    public Map<String, String> availableTimezones() {
+        return service.getAvailableTimezones();
+    }
+
+    @Benchmark
+    public Map<String, String> timezonesSortedByOffset() {
+        return service.getTimezonesSortedByOffset();
+    }
+}
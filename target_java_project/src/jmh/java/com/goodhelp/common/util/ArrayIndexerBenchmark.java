@@ -0,0 +1,78 @@
+package com.goodhelp.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indexing by key and grouping, over typed rows and over column maps as returned by
+ * JdbcTemplate. Sizes are a therapist's clients and the whole catalog's slot rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayIndexerBenchmark {
+
+    private static final int THERAPISTS = 60;
+
+    @Param({"100", "5000"})
+    private int size;
+
+    private final ArrayIndexer indexer = new ArrayIndexer();
+    private List<Row> rows;
+    private List<Map<String, Object>> maps;
+
+    record Row(long id, long therapistId, String label) {}
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(size);
+        maps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Row row = new Row(i + 1, i % THERAPISTS + 1, "row-" + i);
+            rows.add(row);
+            Map<String, Object> map = new HashMap<>();
+            map.put("id", row.id());
+            map.put("therapist_id", row.therapistId());
+            map.put("label", row.label());
+            maps.add(map);
+        }
+    }
+
+    @Benchmark
+    public Map<Long, Row> byKeyUnique() {
+        return indexer.byKeyUnique(rows, Row::id);
+    }
+
+    @Benchmark
+    public Map<Long, List<Row>> byKey() {
+        return indexer.byKey(rows, Row::therapistId);
+    }
+
+    @Benchmark
+    public Map<Object, Map<String, Object>> mapsByKeyUnique() {
+        return indexer.byKeyUnique(maps, "id");
+    }
+
+    @Benchmark
+    public Map<Object, List<Map<String, Object>>> mapsByKey() {
+        return indexer.byKey(maps, "therapist_id");
+    }
+}
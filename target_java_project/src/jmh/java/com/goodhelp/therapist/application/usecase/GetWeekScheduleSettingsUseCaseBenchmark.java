@@ -0,0 +1,112 @@
+package com.goodhelp.therapist.application.usecase;
+
+import com.goodhelp.benchmark.Stubs;
+import com.goodhelp.booking.application.RecurringAvailabilityService;
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
+import com.goodhelp.booking.domain.model.SlotStatus;
+import com.goodhelp.booking.domain.repository.AvailabilityExceptionRepository;
+import com.goodhelp.booking.domain.repository.AvailabilityRuleRepository;
+import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import com.goodhelp.booking.domain.service.AvailabilityRuleExpander;
+import com.goodhelp.common.service.TimezoneHelper;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.therapist.application.dto.CompactWeekGridDto;
+import com.goodhelp.therapist.application.dto.WeekGridDto;
+import com.goodhelp.therapist.domain.model.Sex;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.therapist.domain.model.TherapistRole;
+import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grid construction of the therapist's weekly schedule settings page, per cell and compact.
+ *
+ * <p>Repositories are stubbed: the week holds {@code slotCount} slot rows (every half hour
+ * from Monday 08:00, in mixed states) and weekday rules opening 09:00-18:00.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GetWeekScheduleSettingsUseCaseBenchmark {
+
+    private static final String TIMEZONE = "Europe/Kiev";
+    private static final SlotStatus[] STATUSES = {
+        SlotStatus.AVAILABLE, SlotStatus.AVAILABLE, SlotStatus.BOOKED, SlotStatus.DONE, SlotStatus.HELD
+    };
+
+    @Param({"40", "336"})
+    private int slotCount;
+
+    private GetWeekScheduleSettingsUseCase useCase;
+    private GetWeekScheduleSettingsUseCase.Query query;
+
+    @Setup
+    public void setUp() {
+        Therapist therapist = Therapist.create("benchmark@example.com", TherapistRole.THERAPIST,
+            TherapistProfile.create("Anna", "Benchmark", null, LocalDate.of(2015, 1, 1), "001-benchmark", Sex.FEMALE));
+        LocalDate monday = LocalDate.now(ZoneId.of(TIMEZONE)).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        List<ScheduleSlotView> views = new ArrayList<>(slotCount);
+        long firstSecond = monday.atTime(8, 0).atZone(ZoneId.of(TIMEZONE)).toEpochSecond();
+        for (int i = 0; i < slotCount; i++) {
+            views.add(new ScheduleSlotView(i + 1, 1, firstSecond + i * 30L * 60, STATUSES[i % STATUSES.length].getValue()));
+        }
+        List<AvailabilityRule> rules = new ArrayList<>();
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            rules.add(AvailabilityRule.create(1L, day, LocalTime.of(9, 0), LocalTime.of(18, 0), null, null));
+        }
+
+        TherapistRepository therapistRepository = Stubs.of(TherapistRepository.class,
+            Map.of("findById", args -> Optional.of(therapist)));
+        ScheduleSlotRepository slotRepository = Stubs.of(ScheduleSlotRepository.class,
+            Map.of("findAllViewsInRange", args -> views));
+        RecurringAvailabilityService recurringAvailability = new RecurringAvailabilityService(
+            Stubs.of(AvailabilityRuleRepository.class, Map.of("findByTherapistId", args -> rules)),
+            Stubs.of(AvailabilityExceptionRepository.class, Map.of("findByTherapistIdInRange", args -> List.of())),
+            therapistRepository,
+            slotRepository,
+            new AvailabilityRuleExpander(),
+            new TimezoneHelper());
+
+        useCase = new GetWeekScheduleSettingsUseCase(
+            therapistRepository, slotRepository, recurringAvailability, new TimezoneProjectionService());
+        query = new GetWeekScheduleSettingsUseCase.Query(1L, monday);
+    }
+
+    @Benchmark
+    public WeekGridDto grid() {
+        return useCase.execute(query);
+    }
+
+    @Benchmark
+    public CompactWeekGridDto compactGrid() {
+        return useCase.executeCompact(query);
+    }
+}
@@ -6,11 +6,13 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
  * Checkout session created after booking form submission.
  * Stores user contact info, selected slot and price, and applied promocode.
+ * While the checkout is open the selected slot is held for it until {@code slotHeldUntil}.
  */
 @Entity
 @Table(name = "billing_checkout", indexes = {
@@ -57,6 +59,9 @@ public class Checkout extends BaseEntity {
     @Column(name = "ga_client_id_original", length = 100)
     private String gaClientIdOriginal;
 
+    @Column(name = "slot_held_until")
+    private LocalDateTime slotHeldUntil;
+
     private Checkout(String slug,
                      Long therapistPriceId,
                      Long scheduleSlotId,
@@ -107,8 +112,44 @@ public class Checkout extends BaseEntity {
         );
     }
 
+    /**
+     * Replace the form details when the booking form is submitted again for the slot
+     * this checkout already holds.
+     */
+    public void resubmit(Long therapistPriceId,
+                         Long userPromocodeId,
+                         String authType,
+                         String phone,
+                         String email,
+                         String name,
+                         String gaClientId,
+                         String gaClientIdOriginal) {
+        this.therapistPriceId = Objects.requireNonNull(therapistPriceId, "Therapist price id is required");
+        this.userPromocodeId = userPromocodeId;
+        this.authType = authType;
+        this.phone = phone;
+        this.email = Objects.requireNonNull(email, "Email is required");
+        this.name = name;
+        this.gaClientId = gaClientId;
+        this.gaClientIdOriginal = gaClientIdOriginal;
+    }
+
     public boolean hasPromocode() {
         return userPromocodeId != null;
     }
+
+    /**
+     * Record the hold placed on the selected slot for this checkout.
+     */
+    public void attachSlotHold(LocalDateTime heldUntil) {
+        this.slotHeldUntil = Objects.requireNonNull(heldUntil, "Hold expiry is required");
+    }
+
+    /**
+     * Check if the slot is still reserved for this checkout.
+     */
+    public boolean isSlotHoldActive(LocalDateTime now) {
+        return slotHeldUntil != null && slotHeldUntil.isAfter(now);
+    }
 }
 
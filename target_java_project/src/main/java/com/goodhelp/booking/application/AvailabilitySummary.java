@@ -0,0 +1,35 @@
+package com.goodhelp.booking.application;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Availability overview of one therapist, as shown on catalog cards.
+ *
+ * @param nextAvailableAt earliest bookable slot start, or null if there is none in the index horizon
+ * @param firstDay the first day of {@code slotsPerDay} (today in the requested timezone)
+ * @param slotsPerDay bookable slot counts for {@code firstDay} and the following days
+ */
+public record AvailabilitySummary(
+    Instant nextAvailableAt,
+    LocalDate firstDay,
+    int[] slotsPerDay
+) {
+    /**
+     * Check if the therapist has any bookable slot.
+     */
+    public boolean hasAvailability() {
+        return nextAvailableAt != null;
+    }
+
+    /**
+     * Total bookable slots over all summarized days.
+     */
+    public int totalSlots() {
+        int total = 0;
+        for (int count : slotsPerDay) {
+            total += count;
+        }
+        return total;
+    }
+}
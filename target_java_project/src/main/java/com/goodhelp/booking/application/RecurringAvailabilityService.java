@@ -0,0 +1,211 @@
+package com.goodhelp.booking.application;
+
+import com.goodhelp.booking.domain.model.AvailabilityException;
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.booking.domain.repository.AvailabilityExceptionRepository;
+import com.goodhelp.booking.domain.repository.AvailabilityRuleRepository;
+import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import com.goodhelp.booking.domain.service.AvailabilityRuleExpander;
+import com.goodhelp.common.exception.ResourceNotFoundException;
+import com.goodhelp.common.service.TimezoneHelper;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Virtual availability computed from weekly {@link AvailabilityRule}s and dated
+ * {@link AvailabilityException}s.
+ *
+ * <p>Slots opened by rules exist only in memory. They are identified by a negative
+ * slot ID derived from their start ({@link #virtualSlotId}), so they travel through
+ * the booking page like real slots. A {@link ScheduleSlot} row is created only when
+ * such a slot is booked ({@link #materializeForBooking}) or blocked by the therapist;
+ * any row at a time overrides the rules for that time.</p>
+ */
+@Service
+@Transactional(readOnly = true)
+public class RecurringAvailabilityService {
+
+    private final AvailabilityRuleRepository ruleRepository;
+    private final AvailabilityExceptionRepository exceptionRepository;
+    private final TherapistRepository therapistRepository;
+    private final ScheduleSlotRepository slotRepository;
+    private final AvailabilityRuleExpander expander;
+    private final TimezoneHelper timezoneHelper;
+
+    public RecurringAvailabilityService(AvailabilityRuleRepository ruleRepository,
+                                        AvailabilityExceptionRepository exceptionRepository,
+                                        TherapistRepository therapistRepository,
+                                        ScheduleSlotRepository slotRepository,
+                                        AvailabilityRuleExpander expander,
+                                        TimezoneHelper timezoneHelper) {
+        this.ruleRepository = ruleRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.therapistRepository = therapistRepository;
+        this.slotRepository = slotRepository;
+        this.expander = expander;
+        this.timezoneHelper = timezoneHelper;
+    }
+
+    // ==================== Virtual Slot IDs ====================
+
+    /**
+     * ID of the virtual slot starting at the given UTC epoch-minute.
+     */
+    public static long virtualSlotId(int epochMinute) {
+        return -(long) epochMinute;
+    }
+
+    public static boolean isVirtualSlotId(long slotId) {
+        return slotId < 0;
+    }
+
+    /**
+     * Start (UTC epoch-minute) of a virtual slot.
+     */
+    public static int epochMinuteOf(long virtualSlotId) {
+        return (int) -virtualSlotId;
+    }
+
+    // ==================== Expansion ====================
+
+    /**
+     * Slot starts opened by a therapist's rules within [from, to), as UTC epoch-minutes.
+     * Existing slot rows are not taken into account.
+     */
+    public int[] expand(Long therapistId, Instant from, Instant to) {
+        List<AvailabilityRule> rules = ruleRepository.findByTherapistId(therapistId);
+        List<AvailabilityException> exceptions = exceptionRepository.findByTherapistIdInRange(
+            therapistId, dateBefore(from), dateAfter(to));
+        if (rules.isEmpty() && exceptions.isEmpty()) {
+            return new int[0];
+        }
+        ZoneId zone = therapistRepository.findById(therapistId)
+            .map(this::zoneOf)
+            .orElse(ZoneId.of(TimezoneHelper.DEFAULT_TIMEZONE));
+        return expander.expand(rules, exceptions, zone, from, to);
+    }
+
+    /**
+     * Same as {@link #expand(Long, Instant, Instant)} for a loaded therapist.
+     */
+    public int[] expand(Therapist therapist, Instant from, Instant to) {
+        List<AvailabilityRule> rules = ruleRepository.findByTherapistId(therapist.getId());
+        List<AvailabilityException> exceptions = exceptionRepository.findByTherapistIdInRange(
+            therapist.getId(), dateBefore(from), dateAfter(to));
+        return expander.expand(rules, exceptions, zoneOf(therapist), from, to);
+    }
+
+    /**
+     * Expand several therapists at once; rules, exceptions and timezones are read with
+     * one query each. Therapists without rules map to an empty array.
+     */
+    public Map<Long, int[]> expandAll(Collection<Long> therapistIds, Instant from, Instant to) {
+        Map<Long, List<AvailabilityRule>> rulesByTherapist = new HashMap<>();
+        for (AvailabilityRule rule : ruleRepository.findByTherapistIds(therapistIds)) {
+            rulesByTherapist.computeIfAbsent(rule.getTherapistId(), id -> new ArrayList<>()).add(rule);
+        }
+        Map<Long, List<AvailabilityException>> exceptionsByTherapist = new HashMap<>();
+        for (AvailabilityException exception : exceptionRepository.findByTherapistIdsInRange(
+                therapistIds, dateBefore(from), dateAfter(to))) {
+            exceptionsByTherapist.computeIfAbsent(exception.getTherapistId(), id -> new ArrayList<>()).add(exception);
+        }
+
+        Set<Long> withRules = new HashSet<>(rulesByTherapist.keySet());
+        withRules.addAll(exceptionsByTherapist.keySet());
+        Map<Long, ZoneId> zones = new HashMap<>();
+        for (Therapist therapist : therapistRepository.findAllByIds(withRules)) {
+            zones.put(therapist.getId(), zoneOf(therapist));
+        }
+
+        Map<Long, int[]> result = new HashMap<>();
+        for (Long therapistId : therapistIds) {
+            if (!withRules.contains(therapistId)) {
+                result.put(therapistId, new int[0]);
+                continue;
+            }
+            result.put(therapistId, expander.expand(
+                rulesByTherapist.getOrDefault(therapistId, List.of()),
+                exceptionsByTherapist.getOrDefault(therapistId, List.of()),
+                zones.getOrDefault(therapistId, ZoneId.of(TimezoneHelper.DEFAULT_TIMEZONE)),
+                from, to));
+        }
+        return result;
+    }
+
+    /**
+     * Check if the therapist's rules open a slot starting exactly at {@code startsAt}.
+     */
+    public boolean opensAt(Therapist therapist, Instant startsAt) {
+        return expand(therapist, startsAt, startsAt.plusSeconds(60)).length > 0;
+    }
+
+    // ==================== Materialization ====================
+
+    /**
+     * Resolve a virtual slot to a real {@link ScheduleSlot} row so it can be held and booked.
+     *
+     * <p>Returns the existing row if the time was already materialized (its status is
+     * validated by the caller as for any slot). Otherwise creates an AVAILABLE row,
+     * provided the rules still open that time.</p>
+     *
+     * @throws ResourceNotFoundException if the therapist's rules do not open this slot
+     * @throws IllegalStateException if a concurrent request materialized the same slot first
+     */
+    @Transactional
+    public ScheduleSlot materializeForBooking(Long therapistId, long virtualSlotId) {
+        Therapist therapist = therapistRepository.findById(therapistId)
+            .orElseThrow(() -> new ResourceNotFoundException("Therapist", therapistId));
+        Instant startsAt = Instant.ofEpochSecond(epochMinuteOf(virtualSlotId) * 60L);
+        LocalDateTime utcTime = LocalDateTime.ofInstant(startsAt, ZoneOffset.UTC);
+
+        Optional<ScheduleSlot> existing = slotRepository.findByTherapistIdAndAvailableAt(therapistId, utcTime);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        if (!opensAt(therapist, startsAt)) {
+            throw new ResourceNotFoundException("Slot not found");
+        }
+        try {
+            return slotRepository.save(ScheduleSlot.createAvailable(therapist, utcTime));
+        } catch (DataIntegrityViolationException e) {
+            // Unique (therapist_id, available_at): someone else materialized it a moment ago
+            throw new IllegalStateException("Selected slot is no longer bookable");
+        }
+    }
+
+    private ZoneId zoneOf(Therapist therapist) {
+        String timezone = therapist.getTimezone();
+        return timezoneHelper.isValidTimezone(timezone)
+            ? ZoneId.of(timezone)
+            : ZoneId.of(TimezoneHelper.DEFAULT_TIMEZONE);
+    }
+
+    /**
+     * Exceptions are dated in the therapist's zone; a day of margin covers any UTC offset.
+     */
+    private static LocalDate dateBefore(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC).minusDays(1);
+    }
+
+    private static LocalDate dateAfter(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC).plusDays(1);
+    }
+}
@@ -0,0 +1,424 @@
+package com.goodhelp.booking.application;
+
+import com.goodhelp.booking.domain.event.AvailabilityRulesChangedEvent;
+import com.goodhelp.booking.domain.event.ScheduleSlotChangedEvent;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
+import com.goodhelp.booking.domain.model.SlotStatus;
+import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.common.service.TimezoneProjectionService.LocalProjection;
+import com.goodhelp.config.GoodHelpProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of bookable schedule slots per therapist.
+ *
+ * <p>Each therapist's future availability is held as two parallel primitive arrays
+ * (slot IDs and UTC epoch-minutes) sorted by time, so answering a window is two
+ * binary searches and an array copy. The arrays are immutable and swapped atomically;
+ * readers never lock.</p>
+ *
+ * <p>Availability is the union of AVAILABLE slot rows and the virtual slots opened by
+ * the therapist's weekly rules ({@link RecurringAvailabilityService}) at times that
+ * have no row. Virtual slots carry negative IDs.</p>
+ *
+ * <p>Lifecycle:</p>
+ * <ul>
+ *   <li>A therapist is loaded from the database on first access (next
+ *       {@value #HORIZON_DAYS} days, read as projections)</li>
+ *   <li>Committed slot changes ({@link ScheduleSlotChangedEvent}) are applied incrementally</li>
+ *   <li>Entries older than {@code goodhelp.availability.index-max-age} are reloaded,
+ *       which picks up changes committed by other application nodes</li>
+ * </ul>
+ */
+@Service
+public class SlotAvailabilityIndex {
+
+    /**
+     * How far ahead availability is indexed; windows beyond it are clipped.
+     */
+    public static final int HORIZON_DAYS = 92;
+
+    private final ScheduleSlotRepository slotRepository;
+    private final RecurringAvailabilityService recurringAvailability;
+    private final long maxAgeMillis;
+
+    private final ConcurrentHashMap<Long, TherapistSlots> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every change per therapist; lets a concurrent load detect that it
+     * may have read a stale snapshot and must not be cached.
+     */
+    private final ConcurrentHashMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Source of entry versions. Seeded with the boot time so versions are not reused
+     * across restarts of this node.
+     */
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    public SlotAvailabilityIndex(ScheduleSlotRepository slotRepository,
+                                 RecurringAvailabilityService recurringAvailability,
+                                 GoodHelpProperties properties) {
+        this.slotRepository = slotRepository;
+        this.recurringAvailability = recurringAvailability;
+        this.maxAgeMillis = properties.getAvailability().getIndexMaxAge().toMillis();
+    }
+
+    /**
+     * Find available slots starting strictly after {@code after} and strictly before {@code before}.
+     *
+     * @param therapistId therapist identifier
+     * @param after exclusive lower bound (usually now + schedule time cap)
+     * @param before exclusive upper bound (end of the lookahead window)
+     * @return slots in ascending time order
+     */
+    public Window findAvailable(Long therapistId, Instant after, Instant before) {
+        TherapistSlots slots = getOrLoad(therapistId);
+        // m * 60 > afterSeconds  <=>  m > floor(afterSeconds / 60)
+        int fromMinuteExclusive = (int) Math.floorDiv(after.getEpochSecond(), 60);
+        // m * 60 < beforeSeconds  <=>  m < ceil(beforeSeconds / 60)
+        int toMinuteExclusive = (int) -Math.floorDiv(-before.getEpochSecond(), 60);
+        return slots.window(fromMinuteExclusive, toMinuteExclusive);
+    }
+
+    /**
+     * Current availability version of a therapist (loading it if needed). It changes
+     * whenever the indexed availability changes: slot state changes, rule changes and
+     * reloads. Equal versions mean equal availability, so derived responses can be
+     * cached under it.
+     */
+    public long version(Long therapistId) {
+        return getOrLoad(therapistId).version();
+    }
+
+    /**
+     * Make sure the given therapists are loaded, fetching all missing or stale ones
+     * with one query for slot rows (plus one per rule table). Use before reading many therapists in a row
+     * (catalog, comparisons) to avoid one query per therapist.
+     */
+    public void preload(Collection<Long> therapistIds) {
+        long now = System.currentTimeMillis();
+        List<Long> missing = new ArrayList<>();
+        for (Long therapistId : therapistIds) {
+            TherapistSlots current = entries.get(therapistId);
+            if (current == null || now - current.loadedAtMillis() >= maxAgeMillis) {
+                missing.add(therapistId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> generationsBefore = new HashMap<>();
+        for (Long therapistId : missing) {
+            generationsBefore.put(therapistId, generation(therapistId).get());
+        }
+
+        LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime horizonUtc = nowUtc.plusDays(HORIZON_DAYS);
+        Map<Long, List<ScheduleSlotView>> byTherapist = new HashMap<>();
+        for (ScheduleSlotView view : slotRepository.findViewsForTherapistsInRange(missing, nowUtc, horizonUtc)) {
+            byTherapist.computeIfAbsent(view.therapistId(), id -> new ArrayList<>()).add(view);
+        }
+        Map<Long, int[]> virtualByTherapist = recurringAvailability.expandAll(
+            missing, nowUtc.toInstant(ZoneOffset.UTC), horizonUtc.toInstant(ZoneOffset.UTC));
+
+        for (Long therapistId : missing) {
+            TherapistSlots loaded = TherapistSlots.fromViews(
+                byTherapist.getOrDefault(therapistId, List.of()),
+                virtualByTherapist.getOrDefault(therapistId, new int[0]),
+                now,
+                versionSequence.incrementAndGet()
+            );
+            long generationBefore = generationsBefore.get(therapistId);
+            entries.compute(therapistId, (id, existing) ->
+                generation(therapistId).get() == generationBefore ? loaded : existing);
+        }
+    }
+
+    /**
+     * Drop a therapist from the index; the next read reloads from the database.
+     */
+    public void invalidate(Long therapistId) {
+        generation(therapistId).incrementAndGet();
+        entries.remove(therapistId);
+    }
+
+    /**
+     * Apply a committed slot change to the loaded therapist entry (if any).
+     * A row at some time replaces the virtual slot at that time.
+     */
+    @EventListener
+    public void onSlotChanged(ScheduleSlotChangedEvent event) {
+        if (event.deleted()) {
+            // A rule may open the time again; recompute instead of guessing
+            invalidate(event.therapistId());
+            return;
+        }
+        generation(event.therapistId()).incrementAndGet();
+        int epochMinute = toEpochMinute(event.availableAt());
+        entries.computeIfPresent(event.therapistId(), (id, current) -> event.isAvailable()
+            ? current.with(event.slotId(), epochMinute, versionSequence.incrementAndGet())
+            : current.without(event.slotId(), epochMinute, versionSequence.incrementAndGet()));
+    }
+
+    /**
+     * Recompute a therapist once changed rules or exceptions are committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRulesChanged(AvailabilityRulesChangedEvent event) {
+        invalidate(event.therapistId());
+    }
+
+    private TherapistSlots getOrLoad(Long therapistId) {
+        TherapistSlots current = entries.get(therapistId);
+        long now = System.currentTimeMillis();
+        if (current != null && now - current.loadedAtMillis() < maxAgeMillis) {
+            return current;
+        }
+
+        long generationBefore = generation(therapistId).get();
+        TherapistSlots loaded = load(therapistId, now);
+        // Only cache if no change was applied while we were reading the database
+        entries.compute(therapistId, (id, existing) ->
+            generation(therapistId).get() == generationBefore ? loaded : existing);
+        return loaded;
+    }
+
+    private TherapistSlots load(Long therapistId, long loadedAtMillis) {
+        LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime horizonUtc = nowUtc.plusDays(HORIZON_DAYS);
+        List<ScheduleSlotView> slots = slotRepository.findAllViewsInRange(therapistId, nowUtc, horizonUtc);
+        int[] virtual = recurringAvailability.expand(
+            therapistId, nowUtc.toInstant(ZoneOffset.UTC), horizonUtc.toInstant(ZoneOffset.UTC));
+        return TherapistSlots.fromViews(slots, virtual, loadedAtMillis, versionSequence.incrementAndGet());
+    }
+
+    private AtomicLong generation(Long therapistId) {
+        return generations.computeIfAbsent(therapistId, id -> new AtomicLong());
+    }
+
+    private static int toEpochMinute(LocalDateTime utc) {
+        return (int) Math.floorDiv(utc.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    // ==================== Data Structures ====================
+
+    /**
+     * Immutable, time-sorted slot arrays of a single therapist.
+     */
+    private record TherapistSlots(long[] slotIds, int[] epochMinutes, long loadedAtMillis, long version) {
+
+        /**
+         * @param views slot rows of any status
+         * @param virtualMinutes sorted slot starts opened by rules
+         */
+        static TherapistSlots fromViews(List<ScheduleSlotView> views, int[] virtualMinutes,
+                                        long loadedAtMillis, long version) {
+            int[] occupied = new int[views.size()];
+            long[] ids = new long[views.size() + virtualMinutes.length];
+            int[] minutes = new int[views.size() + virtualMinutes.length];
+            int size = 0;
+            for (int i = 0; i < occupied.length; i++) {
+                ScheduleSlotView view = views.get(i);
+                occupied[i] = (int) Math.floorDiv(view.availableAtEpochSecond(), 60);
+                if (view.status() == SlotStatus.AVAILABLE) {
+                    ids[size] = view.id();
+                    minutes[size] = occupied[i];
+                    size++;
+                }
+            }
+            Arrays.sort(occupied);
+            for (int minute : virtualMinutes) {
+                if (Arrays.binarySearch(occupied, minute) < 0) {
+                    ids[size] = RecurringAvailabilityService.virtualSlotId(minute);
+                    minutes[size] = minute;
+                    size++;
+                }
+            }
+            return sorted(Arrays.copyOf(ids, size), Arrays.copyOf(minutes, size), loadedAtMillis, version);
+        }
+
+        static TherapistSlots sorted(long[] ids, int[] minutes, long loadedAtMillis, long version) {
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> minutes[a] != minutes[b]
+                ? Integer.compare(minutes[a], minutes[b])
+                : Long.compare(ids[a], ids[b]));
+
+            long[] sortedIds = new long[ids.length];
+            int[] sortedMinutes = new int[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedMinutes[i] = minutes[order[i]];
+            }
+            return new TherapistSlots(sortedIds, sortedMinutes, loadedAtMillis, version);
+        }
+
+        Window window(int fromMinuteExclusive, int toMinuteExclusive) {
+            int start = upperBound(fromMinuteExclusive);
+            int end = lowerBound(toMinuteExclusive);
+            if (start >= end) {
+                return Window.EMPTY;
+            }
+            return new Window(
+                Arrays.copyOfRange(slotIds, start, end),
+                Arrays.copyOfRange(epochMinutes, start, end),
+                version
+            );
+        }
+
+        TherapistSlots with(long slotId, int epochMinute, long newVersion) {
+            TherapistSlots base = without(slotId, epochMinute, newVersion);
+            int position = base.upperBound(epochMinute);
+            int size = base.slotIds.length;
+
+            long[] ids = new long[size + 1];
+            int[] minutes = new int[size + 1];
+            System.arraycopy(base.slotIds, 0, ids, 0, position);
+            System.arraycopy(base.epochMinutes, 0, minutes, 0, position);
+            ids[position] = slotId;
+            minutes[position] = epochMinute;
+            System.arraycopy(base.slotIds, position, ids, position + 1, size - position);
+            System.arraycopy(base.epochMinutes, position, minutes, position + 1, size - position);
+            return new TherapistSlots(ids, minutes, loadedAtMillis, newVersion);
+        }
+
+        /**
+         * Remove the slot and the virtual slot at the same time, which the row now overrides.
+         * The version only changes if something was actually removed.
+         */
+        TherapistSlots without(long slotId, int epochMinute, long newVersion) {
+            return removeId(slotId, newVersion)
+                .removeId(RecurringAvailabilityService.virtualSlotId(epochMinute), newVersion);
+        }
+
+        private TherapistSlots removeId(long slotId, long newVersion) {
+            int index = -1;
+            for (int i = 0; i < slotIds.length; i++) {
+                if (slotIds[i] == slotId) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return this;
+            }
+            int size = slotIds.length;
+            long[] ids = new long[size - 1];
+            int[] minutes = new int[size - 1];
+            System.arraycopy(slotIds, 0, ids, 0, index);
+            System.arraycopy(epochMinutes, 0, minutes, 0, index);
+            System.arraycopy(slotIds, index + 1, ids, index, size - index - 1);
+            System.arraycopy(epochMinutes, index + 1, minutes, index, size - index - 1);
+            return new TherapistSlots(ids, minutes, loadedAtMillis, newVersion);
+        }
+
+        /** First index whose minute is >= the given minute. */
+        private int lowerBound(int minute) {
+            int low = 0;
+            int high = epochMinutes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochMinutes[mid] < minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /** First index whose minute is > the given minute. */
+        private int upperBound(int minute) {
+            int low = 0;
+            int high = epochMinutes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochMinutes[mid] <= minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * A time-ordered range of available slots, returned by {@link #findAvailable}.
+     */
+    public static final class Window {
+
+        static final Window EMPTY = new Window(new long[0], new int[0], 0);
+
+        private final long[] slotIds;
+        private final int[] epochMinutes;
+        private final long version;
+
+        Window(long[] slotIds, int[] epochMinutes, long version) {
+            this.slotIds = slotIds;
+            this.epochMinutes = epochMinutes;
+            this.version = version;
+        }
+
+        public int size() {
+            return slotIds.length;
+        }
+
+        /**
+         * Availability version the window was cut from (see {@link SlotAvailabilityIndex#version}).
+         * Two windows with the same version, first start and size hold the same slots.
+         */
+        public long version() {
+            return version;
+        }
+
+        public boolean isEmpty() {
+            return slotIds.length == 0;
+        }
+
+        /**
+         * Slot ID; negative for virtual slots (see {@link RecurringAvailabilityService#virtualSlotId}).
+         */
+        public long slotId(int index) {
+            return slotIds[index];
+        }
+
+        /**
+         * Slot start as minutes since the epoch (UTC).
+         */
+        public int epochMinute(int index) {
+            return epochMinutes[index];
+        }
+
+        public Instant startsAt(int index) {
+            return Instant.ofEpochSecond(epochMinutes[index] * 60L);
+        }
+
+        /**
+         * Local dates and times of all slot starts in the given zone, index-aligned with this window.
+         */
+        public LocalProjection projectTo(ZoneId zone, TimezoneProjectionService projection) {
+            return projection.projectEpochMinutes(zone, epochMinutes, epochMinutes.length);
+        }
+    }
+}
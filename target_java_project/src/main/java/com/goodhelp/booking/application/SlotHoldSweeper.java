@@ -0,0 +1,61 @@
+package com.goodhelp.booking.application;
+
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
+import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import com.goodhelp.config.GoodHelpProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Releases checkout holds that expired without the checkout being completed.
+ *
+ * <p>Each batch is released with one conditional update that skips slots no longer held
+ * with an expired hold, so running the sweeper on several application nodes at once is
+ * harmless: a slot is released exactly once, and slots booked in the meantime are left
+ * alone.</p>
+ */
+@Component
+public class SlotHoldSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotHoldSweeper.class);
+
+    /**
+     * Upper bound on batches per run, so a backlog cannot keep one run going forever.
+     */
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final ScheduleSlotRepository slotRepository;
+    private final int batchSize;
+
+    public SlotHoldSweeper(ScheduleSlotRepository slotRepository, GoodHelpProperties properties) {
+        this.slotRepository = slotRepository;
+        this.batchSize = properties.getAvailability().getHoldSweepBatchSize();
+    }
+
+    @Scheduled(fixedDelayString = "${goodhelp.availability.hold-sweep-delay-ms:60000}")
+    public void releaseExpiredHolds() {
+        LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC);
+        int released = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<ScheduleSlotView> expired = slotRepository.findExpiredHolds(nowUtc, batchSize);
+            if (expired.isEmpty()) {
+                break;
+            }
+            int releasedInBatch = slotRepository.releaseExpiredHolds(expired, nowUtc);
+            released += releasedInBatch;
+            if (releasedInBatch == 0 || expired.size() < batchSize) {
+                // Everything left was taken by another node, or this was the last batch
+                break;
+            }
+        }
+        if (released > 0) {
+            log.info("Released {} expired checkout holds", released);
+        }
+    }
+}
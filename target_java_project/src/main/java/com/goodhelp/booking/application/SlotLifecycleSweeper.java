@@ -0,0 +1,176 @@
+package com.goodhelp.booking.application;
+
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
+import com.goodhelp.booking.domain.model.ScheduleSweepState;
+import com.goodhelp.booking.domain.model.SlotStatus;
+import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import com.goodhelp.booking.domain.repository.ScheduleSweepStateRepository;
+import com.goodhelp.config.GoodHelpProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves past slots to their terminal states in bulk.
+ *
+ * <ul>
+ *   <li>AVAILABLE slots whose time has passed become EXPIRED</li>
+ *   <li>BOOKED slots whose consultation has ended become DONE</li>
+ * </ul>
+ *
+ * <p>Slots are selected in bounded batches and transitioned with one {@code UPDATE}
+ * per batch. Each transition keeps a high-water mark in {@link ScheduleSweepState},
+ * so a run only scans slots that became due since the previous one. A lease lock on
+ * the same row keeps the sweep on a single node.</p>
+ *
+ * <p>No slot change events are published: none of these transitions touch future
+ * availability, which is all {@link SlotAvailabilityIndex} serves.</p>
+ */
+@Component
+public class SlotLifecycleSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotLifecycleSweeper.class);
+
+    static final String SWEEP_NAME = "slot-lifecycle";
+
+    /**
+     * Upper bound on batches per transition and run; the rest is picked up next run.
+     */
+    private static final int MAX_BATCHES_PER_RUN = 100;
+
+    /**
+     * Scan start on the very first run.
+     */
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ScheduleSlotRepository slotRepository;
+    private final ScheduleSweepStateRepository sweepStateRepository;
+    private final int batchSize;
+    private final Duration consultationLength;
+    private final Duration lockLease;
+    /**
+     * Slots can return to AVAILABLE after their start passed (an expired checkout hold),
+     * so each run re-reads this much before the high-water mark.
+     */
+    private final Duration lookback;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final AtomicLong totalExpired = new AtomicLong();
+    private final AtomicLong totalDone = new AtomicLong();
+    private volatile SweepReport lastReport;
+
+    public SlotLifecycleSweeper(ScheduleSlotRepository slotRepository,
+                                ScheduleSweepStateRepository sweepStateRepository,
+                                GoodHelpProperties properties) {
+        this.slotRepository = slotRepository;
+        this.sweepStateRepository = sweepStateRepository;
+        GoodHelpProperties.Availability availability = properties.getAvailability();
+        this.batchSize = availability.getLifecycleBatchSize();
+        this.consultationLength = availability.getConsultationLength();
+        this.lockLease = availability.getLifecycleLockLease();
+        this.lookback = availability.getCheckoutHold();
+    }
+
+    @Scheduled(fixedDelayString = "${goodhelp.availability.lifecycle-sweep-delay-ms:300000}")
+    public void sweep() {
+        LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC);
+        if (!sweepStateRepository.tryLock(SWEEP_NAME, nodeId, nowUtc, nowUtc.plus(lockLease))) {
+            log.debug("Slot lifecycle sweep is running on another node");
+            return;
+        }
+
+        long startedNanos = System.nanoTime();
+        try {
+            ScheduleSweepState state = sweepStateRepository.findByName(SWEEP_NAME)
+                .orElseThrow(() -> new IllegalStateException("Sweep state missing: " + SWEEP_NAME));
+
+            Pass expired = run(SlotStatus.AVAILABLE, SlotStatus.EXPIRED,
+                scanFrom(state.getExpiredThrough()), nowUtc);
+            Pass done = run(SlotStatus.BOOKED, SlotStatus.DONE,
+                scanFrom(state.getDoneThrough()), nowUtc.minus(consultationLength));
+
+            state.advanceExpiredThrough(expired.through());
+            state.advanceDoneThrough(done.through());
+            sweepStateRepository.save(state);
+
+            report(expired, done, startedNanos);
+        } finally {
+            sweepStateRepository.unlock(SWEEP_NAME, nodeId);
+        }
+    }
+
+    /**
+     * Outcome of the most recent run on this node, or null if it has not run here yet.
+     */
+    public SweepReport getLastReport() {
+        return lastReport;
+    }
+
+    public long getTotalExpired() {
+        return totalExpired.get();
+    }
+
+    public long getTotalDone() {
+        return totalDone.get();
+    }
+
+    private LocalDateTime scanFrom(LocalDateTime highWaterMark) {
+        return highWaterMark != null ? highWaterMark.minus(lookback) : BEGINNING;
+    }
+
+    /**
+     * Transition all slots in {@code from} starting within [scanFrom, cutoff).
+     *
+     * @return rows updated and the new high-water mark
+     */
+    private Pass run(SlotStatus from, SlotStatus to, LocalDateTime scanFrom, LocalDateTime cutoff) {
+        int updated = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<ScheduleSlotView> slots = slotRepository.findSweepBatch(from, scanFrom, cutoff, batchSize);
+            if (slots.isEmpty()) {
+                return new Pass(updated, batch, cutoff);
+            }
+            updated += slotRepository.transitionStatus(
+                slots.stream().map(ScheduleSlotView::id).toList(), from, to);
+            if (slots.size() < batchSize) {
+                return new Pass(updated, batch + 1, cutoff);
+            }
+        }
+        // Batch limit reached: only advance as far as the slots actually transitioned
+        List<ScheduleSlotView> remaining = slotRepository.findSweepBatch(from, scanFrom, cutoff, 1);
+        LocalDateTime through = remaining.isEmpty() ? cutoff : remaining.get(0).availableAt();
+        return new Pass(updated, MAX_BATCHES_PER_RUN, through);
+    }
+
+    private void report(Pass expired, Pass done, long startedNanos) {
+        long durationMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+        totalExpired.addAndGet(expired.updated());
+        totalDone.addAndGet(done.updated());
+        lastReport = new SweepReport(
+            Instant.now(), expired.updated(), done.updated(),
+            expired.batches() + done.batches(), durationMillis
+        );
+        if (expired.updated() > 0 || done.updated() > 0) {
+            log.info("Slot lifecycle sweep: {} expired, {} done in {} batches, {} ms",
+                expired.updated(), done.updated(), lastReport.batches(), durationMillis);
+        }
+    }
+
+    private record Pass(int updated, int batches, LocalDateTime through) {
+    }
+
+    /**
+     * Rows touched by one sweep run.
+     */
+    public record SweepReport(Instant finishedAt, int expired, int done, int batches, long durationMillis) {
+    }
+}
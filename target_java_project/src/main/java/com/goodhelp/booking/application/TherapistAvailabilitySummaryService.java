@@ -0,0 +1,84 @@
+package com.goodhelp.booking.application;
+
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Computes availability summaries (next bookable slot, slots per day) for many
+ * therapists at once.
+ *
+ * <p>All therapists are loaded into {@link SlotAvailabilityIndex} with a single
+ * grouped query; after that the summaries are pure in-memory work and follow every
+ * committed slot change, because the index is maintained incrementally.</p>
+ */
+@Service
+public class TherapistAvailabilitySummaryService {
+
+    public static final int DEFAULT_DAYS = 7;
+
+    private final SlotAvailabilityIndex availabilityIndex;
+
+    public TherapistAvailabilitySummaryService(SlotAvailabilityIndex availabilityIndex) {
+        this.availabilityIndex = availabilityIndex;
+    }
+
+    /**
+     * Summarize availability for the next {@value #DEFAULT_DAYS} days.
+     *
+     * @param timeCapHoursByTherapist therapist ID to its schedule time cap (minimum booking advance)
+     * @param zone timezone used to split slots into days
+     * @return summary per therapist ID
+     */
+    public Map<Long, AvailabilitySummary> summarize(Map<Long, Integer> timeCapHoursByTherapist, ZoneId zone) {
+        return summarize(timeCapHoursByTherapist, zone, DEFAULT_DAYS);
+    }
+
+    /**
+     * Summarize availability for the given number of days, starting today in {@code zone}.
+     */
+    public Map<Long, AvailabilitySummary> summarize(
+            Map<Long, Integer> timeCapHoursByTherapist,
+            ZoneId zone,
+            int days) {
+
+        availabilityIndex.preload(timeCapHoursByTherapist.keySet());
+
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.ofInstant(now, zone);
+        Instant periodEnd = today.plusDays(days).atStartOfDay(zone).toInstant();
+        Instant horizonEnd = now.plus(SlotAvailabilityIndex.HORIZON_DAYS, ChronoUnit.DAYS);
+
+        // Day boundaries as epoch-minutes, so bucketing is integer comparisons
+        int[] dayEndMinutes = new int[days];
+        for (int day = 0; day < days; day++) {
+            dayEndMinutes[day] = (int) (today.plusDays(day + 1L).atStartOfDay(zone).toEpochSecond() / 60);
+        }
+
+        Map<Long, AvailabilitySummary> result = new HashMap<>();
+        timeCapHoursByTherapist.forEach((therapistId, timeCapHours) -> {
+            Instant earliestBookable = now.plus(timeCapHours, ChronoUnit.HOURS);
+            SlotAvailabilityIndex.Window window = availabilityIndex.findAvailable(
+                therapistId, earliestBookable, horizonEnd);
+
+            int[] slotsPerDay = new int[days];
+            int day = 0;
+            for (int i = 0; i < window.size() && window.startsAt(i).isBefore(periodEnd); i++) {
+                int minute = window.epochMinute(i);
+                while (minute >= dayEndMinutes[day]) {
+                    day++;
+                }
+                slotsPerDay[day]++;
+            }
+
+            Instant next = window.isEmpty() ? null : window.startsAt(0);
+            result.put(therapistId, new AvailabilitySummary(next, today, slotsPerDay));
+        });
+        return result;
+    }
+}
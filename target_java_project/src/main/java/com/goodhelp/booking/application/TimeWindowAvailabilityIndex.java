@@ -0,0 +1,153 @@
+package com.goodhelp.booking.application;
+
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.common.service.TimezoneProjectionService.OffsetTable;
+import com.goodhelp.config.GoodHelpProperties;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "which therapists are free at this time of week" over the next weeks.
+ *
+ * <p>Each therapist's availability is kept as a bitmap of half-hour cells (one bit per
+ * cell that has a bookable slot start), covering whole UTC weeks from the current one.
+ * A query turns the user's local {@link WeeklyTimeWindow} into a cell mask of the same
+ * layout once - DST-correct for the user's zone - and ranks therapists by the number
+ * of set bits in {@code bitmap & mask}: a few hundred word ANDs and bit counts.</p>
+ *
+ * <p>Bitmaps are derived from {@link SlotAvailabilityIndex} and tagged with its
+ * availability version; a therapist whose slots changed since (or whose bitmap starts
+ * in a past week) is rebuilt on the next query.</p>
+ */
+@Service
+public class TimeWindowAvailabilityIndex {
+
+    static final int CELL_MINUTES = 30;
+    static final int CELLS_PER_WEEK = 7 * 24 * 60 / CELL_MINUTES;
+
+    private final SlotAvailabilityIndex availabilityIndex;
+    private final TimezoneProjectionService timezoneProjection;
+    private final int horizonWeeks;
+
+    private final ConcurrentHashMap<Long, CellBitmap> bitmaps = new ConcurrentHashMap<>();
+
+    public TimeWindowAvailabilityIndex(SlotAvailabilityIndex availabilityIndex,
+                                       TimezoneProjectionService timezoneProjection,
+                                       GoodHelpProperties properties) {
+        this.availabilityIndex = availabilityIndex;
+        this.timezoneProjection = timezoneProjection;
+        this.horizonWeeks = Math.min(
+            properties.getAvailability().getSearchHorizonWeeks(),
+            SlotAvailabilityIndex.HORIZON_DAYS / 7 - 1);
+    }
+
+    /**
+     * Find therapists with bookable slots inside the window.
+     *
+     * @param timeCapHoursByTherapist candidate therapist IDs to their schedule time cap
+     * @param window local time window to match
+     * @param zone zone the window is expressed in
+     * @param limit maximum number of matches
+     * @return matches, most matching slots first, then earliest first match
+     */
+    public List<TimeWindowMatch> search(Map<Long, Integer> timeCapHoursByTherapist,
+                                        WeeklyTimeWindow window,
+                                        ZoneId zone,
+                                        int limit) {
+        availabilityIndex.preload(timeCapHoursByTherapist.keySet());
+
+        long nowMinute = Math.floorDiv(Instant.now().getEpochSecond(), 60);
+        long baseCell = Math.floorDiv(Math.floorDiv(nowMinute, CELL_MINUTES), CELLS_PER_WEEK) * CELLS_PER_WEEK;
+        int cells = (horizonWeeks + 1) * CELLS_PER_WEEK;
+        long[] mask = queryMask(window, zone, baseCell, cells, nowMinute);
+
+        List<TimeWindowMatch> matches = new ArrayList<>();
+        timeCapHoursByTherapist.forEach((therapistId, timeCapHours) -> {
+            long[] bits = bitmapOf(therapistId, baseCell, cells).bits();
+            // Slots are bookable strictly after now + time cap; starts sit on cell boundaries
+            long earliestMinute = nowMinute + timeCapHours * 60L;
+            int fromCell = (int) Math.max(0, Math.floorDiv(earliestMinute, CELL_MINUTES) + 1 - baseCell);
+
+            int count = 0;
+            int firstCell = -1;
+            for (int word = fromCell >>> 6; word < mask.length; word++) {
+                long hits = bits[word] & mask[word];
+                if (word == fromCell >>> 6) {
+                    hits &= -1L << (fromCell & 63);
+                }
+                if (hits != 0) {
+                    if (firstCell < 0) {
+                        firstCell = (word << 6) + Long.numberOfTrailingZeros(hits);
+                    }
+                    count += Long.bitCount(hits);
+                }
+            }
+            if (count > 0) {
+                matches.add(new TimeWindowMatch(therapistId, count,
+                    Instant.ofEpochSecond((baseCell + firstCell) * CELL_MINUTES * 60)));
+            }
+        });
+
+        matches.sort(Comparator.comparingInt(TimeWindowMatch::matchingSlots).reversed()
+            .thenComparing(TimeWindowMatch::firstMatchAt)
+            .thenComparing(TimeWindowMatch::therapistId));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * Cells from now until the end of the horizon whose local start falls in the window.
+     */
+    private long[] queryMask(WeeklyTimeWindow window, ZoneId zone, long baseCell, int cells, long nowMinute) {
+        long[] mask = new long[(cells + 63) >>> 6];
+        int startIndex = (int) (Math.floorDiv(nowMinute, CELL_MINUTES) - baseCell);
+        int endIndex = Math.min(cells, startIndex + horizonWeeks * CELLS_PER_WEEK);
+        OffsetTable offsets = timezoneProjection.offsets(zone,
+            (baseCell + startIndex) * CELL_MINUTES * 60, (baseCell + endIndex) * CELL_MINUTES * 60);
+
+        for (int index = startIndex; index < endIndex; index++) {
+            long epochSecond = (baseCell + index) * CELL_MINUTES * 60;
+            long localMinute = Math.floorDiv(epochSecond + offsets.offsetAt(epochSecond), 60);
+            long epochDay = Math.floorDiv(localMinute, 24 * 60);
+            // 1970-01-01 was a Thursday (index 3, Monday = 0)
+            int dayIndex = Math.floorMod(epochDay + 3, 7);
+            int minuteOfDay = Math.floorMod(localMinute, 24 * 60);
+            if (window.contains(dayIndex, minuteOfDay)) {
+                mask[index >>> 6] |= 1L << (index & 63);
+            }
+        }
+        return mask;
+    }
+
+    private CellBitmap bitmapOf(Long therapistId, long baseCell, int cells) {
+        long version = availabilityIndex.version(therapistId);
+        CellBitmap current = bitmaps.get(therapistId);
+        if (current != null && current.version() == version && current.baseCell() == baseCell) {
+            return current;
+        }
+
+        long[] bits = new long[(cells + 63) >>> 6];
+        Instant from = Instant.ofEpochSecond(baseCell * CELL_MINUTES * 60 - 1);
+        Instant to = Instant.ofEpochSecond((baseCell + cells) * CELL_MINUTES * 60);
+        SlotAvailabilityIndex.Window window = availabilityIndex.findAvailable(therapistId, from, to);
+        for (int i = 0; i < window.size(); i++) {
+            int index = (int) (Math.floorDiv(window.epochMinute(i), CELL_MINUTES) - baseCell);
+            bits[index >>> 6] |= 1L << (index & 63);
+        }
+        CellBitmap rebuilt = new CellBitmap(version, baseCell, bits);
+        bitmaps.put(therapistId, rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * Bookable half-hour cells of one therapist; bit {@code i} is cell {@code baseCell + i}.
+     */
+    private record CellBitmap(long version, long baseCell, long[] bits) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.goodhelp.booking.application;
+
+import java.time.Instant;
+
+/**
+ * A therapist with bookable slots inside a searched {@link WeeklyTimeWindow}.
+ *
+ * @param therapistId therapist identifier
+ * @param matchingSlots bookable slot starts inside the window over the search horizon
+ * @param firstMatchAt earliest of those starts
+ */
+public record TimeWindowMatch(
+    Long therapistId,
+    int matchingSlots,
+    Instant firstMatchAt
+) { }
@@ -0,0 +1,57 @@
+package com.goodhelp.booking.application;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * A recurring local time window, e.g. "weekdays 18:00-22:00".
+ *
+ * <p>Matches slot starts on one of the days at or after {@code from} and before
+ * {@code to}. A window whose end is not after its start runs past midnight into the
+ * next day ("Friday 22:00-02:00" includes Saturday 01:00); an end of 00:00 means the
+ * end of the day.</p>
+ *
+ * @param dayMask bit {@code d} set for {@code DayOfWeek.of(d + 1)}
+ * @param fromMinute start, minute of the day (inclusive)
+ * @param toMinute end, minute of the day (exclusive)
+ */
+public record WeeklyTimeWindow(int dayMask, int fromMinute, int toMinute) {
+
+    private static final int ALL_DAYS = (1 << 7) - 1;
+
+    public WeeklyTimeWindow {
+        if ((dayMask & ~ALL_DAYS) != 0 || dayMask == 0) {
+            throw new IllegalArgumentException("At least one valid day is required");
+        }
+        if (fromMinute < 0 || fromMinute >= 24 * 60 || toMinute < 0 || toMinute >= 24 * 60) {
+            throw new IllegalArgumentException("Minutes must be within a day");
+        }
+    }
+
+    public static WeeklyTimeWindow of(Collection<DayOfWeek> days, LocalTime from, LocalTime to) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return new WeeklyTimeWindow(mask,
+            from.getHour() * 60 + from.getMinute(),
+            to.getHour() * 60 + to.getMinute());
+    }
+
+    /**
+     * Check if a slot starting on the given day (0 = Monday) and minute of the day matches.
+     */
+    public boolean contains(int dayIndex, int minuteOfDay) {
+        if (fromMinute < toMinute) {
+            return hasDay(dayIndex) && minuteOfDay >= fromMinute && minuteOfDay < toMinute;
+        }
+        // Runs past midnight: evening part on the day itself, early part on the day after
+        return (hasDay(dayIndex) && minuteOfDay >= fromMinute)
+            || (hasDay((dayIndex + 6) % 7) && minuteOfDay < toMinute);
+    }
+
+    private boolean hasDay(int dayIndex) {
+        return (dayMask & (1 << dayIndex)) != 0;
+    }
+}
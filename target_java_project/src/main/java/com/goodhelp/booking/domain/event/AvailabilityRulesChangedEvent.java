@@ -0,0 +1,9 @@
+package com.goodhelp.booking.domain.event;
+
+/**
+ * Published when a therapist's weekly availability rules or dated exceptions change.
+ *
+ * @param therapistId therapist whose virtual availability must be recomputed
+ */
+public record AvailabilityRulesChangedEvent(Long therapistId) {
+}
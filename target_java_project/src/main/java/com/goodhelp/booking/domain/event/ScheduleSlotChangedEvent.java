@@ -0,0 +1,32 @@
+package com.goodhelp.booking.domain.event;
+
+import com.goodhelp.booking.domain.model.SlotStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published after a transaction that created, changed or deleted a schedule slot has committed.
+ *
+ * <p>Carries only the identifying data needed by in-memory read models, so listeners never
+ * have to touch the (already detached) entity.</p>
+ *
+ * @param slotId the slot identifier
+ * @param therapistId owner of the slot
+ * @param availableAt slot start time in UTC
+ * @param status status after the change (last known status for deleted slots)
+ * @param deleted true if the slot row was removed
+ */
+public record ScheduleSlotChangedEvent(
+    Long slotId,
+    Long therapistId,
+    LocalDateTime availableAt,
+    SlotStatus status,
+    boolean deleted
+) {
+    /**
+     * Check if the slot is open for booking after this change.
+     */
+    public boolean isAvailable() {
+        return !deleted && status == SlotStatus.AVAILABLE;
+    }
+}
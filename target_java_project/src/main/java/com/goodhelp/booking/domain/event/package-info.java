@@ -0,0 +1,9 @@
+/**
+ * Domain events for the Booking bounded context.
+ * 
+ * <ul>
+ *   <li>{@link com.goodhelp.booking.domain.event.ScheduleSlotChangedEvent} - Slot created, changed or deleted (after commit)</li>
+ *   <li>{@link com.goodhelp.booking.domain.event.AvailabilityRulesChangedEvent} - Weekly rules or exceptions of a therapist changed</li>
+ * </ul>
+ */
+package com.goodhelp.booking.domain.event;
@@ -0,0 +1,90 @@
+package com.goodhelp.booking.domain.model;
+
+import com.goodhelp.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Dated deviation from a therapist's weekly {@link AvailabilityRule}s
+ * (vacation, a day off, an extra evening), in the therapist's timezone.
+ */
+@Entity
+@Table(name = "therapist_availability_exception", indexes = {
+    @Index(name = "idx_availability_exception_therapist_date", columnList = "therapist_id, exception_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AvailabilityException extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "therapist_id", nullable = false)
+    private Long therapistId;
+
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    /**
+     * Exclusive end; {@code 00:00} means end of day.
+     */
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "type", nullable = false)
+    private AvailabilityExceptionType type;
+
+    private AvailabilityException(Long therapistId,
+                                  LocalDate date,
+                                  LocalTime startTime,
+                                  LocalTime endTime,
+                                  AvailabilityExceptionType type) {
+        this.therapistId = Objects.requireNonNull(therapistId, "Therapist id is required");
+        this.date = Objects.requireNonNull(date, "Date is required");
+        this.startTime = Objects.requireNonNull(startTime, "Start time is required");
+        this.endTime = Objects.requireNonNull(endTime, "End time is required");
+        this.type = Objects.requireNonNull(type, "Exception type is required");
+        AvailabilityRule.validateRange(startTime, endTime);
+    }
+
+    /**
+     * Close the given range on a date.
+     */
+    public static AvailabilityException blocked(Long therapistId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return new AvailabilityException(therapistId, date, startTime, endTime, AvailabilityExceptionType.BLOCKED);
+    }
+
+    /**
+     * Close the whole day.
+     */
+    public static AvailabilityException dayOff(Long therapistId, LocalDate date) {
+        return blocked(therapistId, date, LocalTime.MIDNIGHT, LocalTime.MIDNIGHT);
+    }
+
+    /**
+     * Open extra hourly slots in the given range on a date.
+     */
+    public static AvailabilityException open(Long therapistId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return new AvailabilityException(therapistId, date, startTime, endTime, AvailabilityExceptionType.OPEN);
+    }
+
+    /**
+     * Apply this exception to a day's slot mask (see {@link AvailabilityRule#slotMask()}).
+     */
+    public long applyTo(long slotMask) {
+        if (type == AvailabilityExceptionType.BLOCKED) {
+            return slotMask & ~AvailabilityRule.rangeMask(startTime, endTime);
+        }
+        return slotMask | AvailabilityRule.slotMask(startTime, endTime);
+    }
+}
@@ -0,0 +1,40 @@
+package com.goodhelp.booking.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Kind of a dated deviation from a therapist's weekly availability rules.
+ */
+public enum AvailabilityExceptionType {
+    /**
+     * Time range is closed on that date even if a weekly rule opens it.
+     */
+    BLOCKED(1),
+
+    /**
+     * Time range is open on that date in addition to the weekly rules.
+     */
+    OPEN(2);
+
+    private final int value;
+
+    AvailabilityExceptionType(int value) {
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Convert from database integer value.
+     */
+    public static AvailabilityExceptionType fromValue(int value) {
+        return Arrays.stream(values())
+            .filter(type -> type.value == value)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Unknown AvailabilityExceptionType value: " + value
+            ));
+    }
+}
@@ -0,0 +1,21 @@
+package com.goodhelp.booking.domain.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * JPA converter for AvailabilityExceptionType enum.
+ */
+@Converter(autoApply = true)
+public class AvailabilityExceptionTypeConverter implements AttributeConverter<AvailabilityExceptionType, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(AvailabilityExceptionType type) {
+        return type == null ? null : type.getValue();
+    }
+
+    @Override
+    public AvailabilityExceptionType convertToEntityAttribute(Integer value) {
+        return value == null ? null : AvailabilityExceptionType.fromValue(value);
+    }
+}
@@ -0,0 +1,154 @@
+package com.goodhelp.booking.domain.model;
+
+import com.goodhelp.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Weekly recurring availability of a therapist.
+ *
+ * <p>A rule opens one slot per hour from {@code startTime} up to (excluding)
+ * {@code endTime} on the given weekday, in the therapist's own timezone. E.g.
+ * Monday 09:00-13:00 opens 09:00, 10:00, 11:00 and 12:00.</p>
+ *
+ * <p>Slots opened by rules are virtual: they have no {@link ScheduleSlot} row until
+ * they are booked or blocked. Times are kept on the half-hour grid used by the
+ * schedule settings page.</p>
+ */
+@Entity
+@Table(name = "therapist_availability_rule", indexes = {
+    @Index(name = "idx_availability_rule_therapist", columnList = "therapist_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AvailabilityRule extends BaseEntity {
+
+    /**
+     * Distance between consecutive slot starts opened by a rule.
+     */
+    public static final int SLOT_STEP_MINUTES = 60;
+
+    /**
+     * Granularity of rule and exception boundaries (half-hour grid).
+     */
+    public static final int GRID_MINUTES = 30;
+
+    /**
+     * Number of grid cells in a day.
+     */
+    public static final int CELLS_PER_DAY = 24 * 60 / GRID_MINUTES;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "therapist_id", nullable = false)
+    private Long therapistId;
+
+    @Convert(converter = DayOfWeekConverter.class)
+    @Column(name = "day_of_week", nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    /**
+     * Exclusive end; {@code 00:00} means end of day.
+     */
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "valid_from")
+    private LocalDate validFrom;
+
+    @Column(name = "valid_until")
+    private LocalDate validUntil;
+
+    private AvailabilityRule(Long therapistId,
+                             DayOfWeek dayOfWeek,
+                             LocalTime startTime,
+                             LocalTime endTime,
+                             LocalDate validFrom,
+                             LocalDate validUntil) {
+        this.therapistId = Objects.requireNonNull(therapistId, "Therapist id is required");
+        this.dayOfWeek = Objects.requireNonNull(dayOfWeek, "Day of week is required");
+        this.startTime = Objects.requireNonNull(startTime, "Start time is required");
+        this.endTime = Objects.requireNonNull(endTime, "End time is required");
+        this.validFrom = validFrom;
+        this.validUntil = validUntil;
+        validateRange(startTime, endTime);
+        if (validFrom != null && validUntil != null && validUntil.isBefore(validFrom)) {
+            throw new IllegalArgumentException("Rule validity ends before it starts");
+        }
+    }
+
+    public static AvailabilityRule create(Long therapistId,
+                                          DayOfWeek dayOfWeek,
+                                          LocalTime startTime,
+                                          LocalTime endTime,
+                                          LocalDate validFrom,
+                                          LocalDate validUntil) {
+        return new AvailabilityRule(therapistId, dayOfWeek, startTime, endTime, validFrom, validUntil);
+    }
+
+    /**
+     * Check if the rule applies on the given local date.
+     */
+    public boolean appliesOn(LocalDate date) {
+        return date.getDayOfWeek() == dayOfWeek
+            && (validFrom == null || !date.isBefore(validFrom))
+            && (validUntil == null || !date.isAfter(validUntil));
+    }
+
+    /**
+     * Slot starts opened by this rule as a bit mask over the day's grid cells.
+     */
+    public long slotMask() {
+        return slotMask(startTime, endTime);
+    }
+
+    /**
+     * Bit mask of slot starts from {@code start}, one per {@link #SLOT_STEP_MINUTES},
+     * before {@code end}. Bit {@code i} stands for {@code i * GRID_MINUTES} minutes past midnight.
+     */
+    static long slotMask(LocalTime start, LocalTime end) {
+        int startCell = toCell(start);
+        int endCell = end.equals(LocalTime.MIDNIGHT) ? CELLS_PER_DAY : toCell(end);
+        int step = SLOT_STEP_MINUTES / GRID_MINUTES;
+        long mask = 0L;
+        for (int cell = startCell; cell < endCell; cell += step) {
+            mask |= 1L << cell;
+        }
+        return mask;
+    }
+
+    /**
+     * Bit mask of all grid cells in [{@code start}, {@code end}).
+     */
+    static long rangeMask(LocalTime start, LocalTime end) {
+        int startCell = toCell(start);
+        int endCell = end.equals(LocalTime.MIDNIGHT) ? CELLS_PER_DAY : toCell(end);
+        return ((1L << endCell) - 1) & ~((1L << startCell) - 1);
+    }
+
+    static void validateRange(LocalTime start, LocalTime end) {
+        if (start.getSecond() != 0 || start.getNano() != 0 || start.getMinute() % GRID_MINUTES != 0
+                || end.getSecond() != 0 || end.getNano() != 0 || end.getMinute() % GRID_MINUTES != 0) {
+            throw new IllegalArgumentException("Times must be on the " + GRID_MINUTES + "-minute grid");
+        }
+        if (!end.equals(LocalTime.MIDNIGHT) && !end.isAfter(start)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+    }
+
+    private static int toCell(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / GRID_MINUTES;
+    }
+}
@@ -0,0 +1,23 @@
+package com.goodhelp.booking.domain.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.DayOfWeek;
+
+/**
+ * Stores {@link DayOfWeek} as its ISO number (1 = Monday ... 7 = Sunday).
+ */
+@Converter
+public class DayOfWeekConverter implements AttributeConverter<DayOfWeek, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(DayOfWeek day) {
+        return day == null ? null : day.getValue();
+    }
+
+    @Override
+    public DayOfWeek convertToEntityAttribute(Integer value) {
+        return value == null ? null : DayOfWeek.of(value);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.AccessLevel;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Objects;
 
@@ -20,13 +21,16 @@ import java.util.Objects;
  *   <li>Available - open for booking</li>
  *   <li>Booked - reserved for a consultation</li>
  *   <li>Unavailable - blocked by therapist</li>
+ *   <li>Held - reserved by a checkout until {@code heldUntil}</li>
  *   <li>Done/Failed/Expired - terminal states</li>
  * </ul>
  * 
  * <p>Business rules:</p>
  * <ul>
  *   <li>Times are stored in UTC</li>
- *   <li>Only available slots can be booked</li>
+ *   <li>Only a slot held by a checkout can be booked, and only by that checkout</li>
+ *   <li>Holds are claimed with a conditional update, see
+ *       {@link com.goodhelp.booking.domain.repository.ScheduleSlotRepository#tryHold}</li>
  *   <li>Booked slots can be cancelled (released)</li>
  *   <li>Past slots cannot be modified</li>
  * </ul>
@@ -35,6 +39,8 @@ import java.util.Objects;
 @Table(name = "therapist_schedule", indexes = {
     @Index(name = "idx_schedule_therapist_time", columnList = "therapist_id, available_at"),
     @Index(name = "idx_schedule_state", columnList = "state")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uq_therapist_schedule_therapist_time", columnNames = {"therapist_id", "available_at"})
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -55,6 +61,15 @@ public class ScheduleSlot extends BaseEntity {
     @Convert(converter = SlotStatusConverter.class)
     private SlotStatus status;
 
+    @Column(name = "held_until")
+    private LocalDateTime heldUntil;
+
+    /**
+     * Slug of the checkout holding this slot, set while the slot is HELD.
+     */
+    @Column(name = "held_by", length = 32)
+    private String heldBy;
+
     /**
      * Private constructor - use factory methods.
      */
@@ -101,6 +116,20 @@ public class ScheduleSlot extends BaseEntity {
         return status == SlotStatus.BOOKED;
     }
 
+    /**
+     * Check if this slot is held by a checkout awaiting payment.
+     */
+    public boolean isHeld() {
+        return status == SlotStatus.HELD;
+    }
+
+    /**
+     * Check if this slot is held by the given checkout.
+     */
+    public boolean isHeldBy(String checkoutSlug) {
+        return isHeld() && heldBy != null && heldBy.equals(checkoutSlug);
+    }
+
     /**
      * Check if this slot is unavailable (blocked).
      */
@@ -134,8 +163,14 @@ public class ScheduleSlot extends BaseEntity {
      * Get the available time in a specific timezone.
      */
     public ZonedDateTime getAvailableAtInZone(String timezone) {
-        return availableAt.atZone(ZoneId.of("UTC"))
-            .withZoneSameInstant(ZoneId.of(timezone));
+        return getAvailableAtInZone(ZoneId.of(timezone));
+    }
+
+    /**
+     * Get the available time in an already resolved zone.
+     */
+    public ZonedDateTime getAvailableAtInZone(ZoneId zone) {
+        return ZonedDateTime.ofInstant(availableAt, ZoneOffset.UTC, zone);
     }
 
     /**
@@ -147,18 +182,42 @@ public class ScheduleSlot extends BaseEntity {
 
     // ==================== State Transition Methods ====================
 
+    /**
+     * Hold this slot for a checkout, or renew the checkout's own hold.
+     * In-memory counterpart of
+     * {@link com.goodhelp.booking.domain.repository.ScheduleSlotRepository#tryHold}, which
+     * checkouts must use so that concurrent claims are decided by the database.
+     *
+     * @throws IllegalStateException if the slot is neither available nor held by the checkout
+     */
+    public void hold(String checkoutSlug, LocalDateTime heldUntil) {
+        if (!(status == SlotStatus.AVAILABLE || isHeldBy(checkoutSlug)) || isPast()) {
+            throw new IllegalStateException(
+                "Cannot hold slot " + id + " for checkout " + checkoutSlug
+                    + ": status=" + status + ", heldBy=" + heldBy + ", isPast=" + isPast()
+            );
+        }
+        this.status = SlotStatus.HELD;
+        this.heldUntil = Objects.requireNonNull(heldUntil, "Hold expiry is required");
+        this.heldBy = Objects.requireNonNull(checkoutSlug, "Checkout slug is required");
+    }
+
     /**
      * Book this slot for a consultation.
+     * Converts the hold of the paid checkout, so the slot must be held by that checkout.
      * 
-     * @throws IllegalStateException if slot cannot be booked
+     * @param checkoutSlug slug of the checkout booking the slot
+     * @throws IllegalStateException if slot is not held by the checkout or has passed
      */
-    public void book() {
-        if (!isBookable()) {
+    public void book(String checkoutSlug) {
+        if (!isHeldBy(checkoutSlug) || isPast()) {
             throw new IllegalStateException(
-                "Cannot book slot " + id + ": status=" + status + ", isPast=" + isPast()
+                "Cannot book slot " + id + " for checkout " + checkoutSlug
+                    + ": status=" + status + ", heldBy=" + heldBy + ", isPast=" + isPast()
             );
         }
         this.status = SlotStatus.BOOKED;
+        clearHold();
     }
 
     /**
@@ -174,17 +233,18 @@ public class ScheduleSlot extends BaseEntity {
             );
         }
         this.status = SlotStatus.AVAILABLE;
+        clearHold();
     }
 
     /**
      * Mark slot as unavailable (blocked by therapist).
      * 
-     * @throws IllegalStateException if slot is already booked
+     * @throws IllegalStateException if slot is booked or held
      */
     public void markUnavailable() {
-        if (status == SlotStatus.BOOKED) {
+        if (status.isReserved()) {
             throw new IllegalStateException(
-                "Cannot mark booked slot as unavailable: " + id
+                "Cannot mark reserved slot as unavailable: " + id + ", status=" + status
             );
         }
         this.status = SlotStatus.UNAVAILABLE;
@@ -200,6 +260,7 @@ public class ScheduleSlot extends BaseEntity {
             );
         }
         this.status = SlotStatus.AVAILABLE;
+        clearHold();
     }
 
     /**
@@ -239,6 +300,11 @@ public class ScheduleSlot extends BaseEntity {
         }
     }
 
+    private void clearHold() {
+        this.heldUntil = null;
+        this.heldBy = null;
+    }
+
     // ==================== Toggle Method (for UI) ====================
 
     /**
@@ -0,0 +1,57 @@
+package com.goodhelp.booking.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Read-only projection of a schedule slot.
+ *
+ * <p>Holds only what read paths need (id, start time, status) as primitives, so loading
+ * months of slots doesn't create managed entities, lazy Therapist proxies or
+ * dirty-checking snapshots.</p>
+ *
+ * @param id slot identifier
+ * @param therapistId owner of the slot
+ * @param availableAtEpochSecond slot start in UTC epoch seconds
+ * @param statusCode {@link SlotStatus} database value
+ */
+public record ScheduleSlotView(long id, long therapistId, long availableAtEpochSecond, int statusCode) {
+
+    /**
+     * Constructor used by JPQL constructor expressions.
+     */
+    public ScheduleSlotView(Long id, Long therapistId, LocalDateTime availableAt, SlotStatus status) {
+        this(id, therapistId, availableAt.toEpochSecond(ZoneOffset.UTC), status.getValue());
+    }
+
+    public SlotStatus status() {
+        return SlotStatus.fromValue(statusCode);
+    }
+
+    /**
+     * Slot start time in UTC (same representation as {@link ScheduleSlot#getAvailableAt()}).
+     */
+    public LocalDateTime availableAt() {
+        return LocalDateTime.ofEpochSecond(availableAtEpochSecond, 0, ZoneOffset.UTC);
+    }
+
+    public Instant startsAt() {
+        return Instant.ofEpochSecond(availableAtEpochSecond);
+    }
+
+    public boolean isAvailable() {
+        return statusCode == SlotStatus.AVAILABLE.getValue();
+    }
+
+    public boolean isBooked() {
+        return statusCode == SlotStatus.BOOKED.getValue();
+    }
+
+    /**
+     * Check if this slot's time has passed.
+     */
+    public boolean isPast(Instant now) {
+        return availableAtEpochSecond < now.getEpochSecond();
+    }
+}
@@ -0,0 +1,73 @@
+package com.goodhelp.booking.domain.model;
+
+import com.goodhelp.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Progress and ownership of a background schedule sweep.
+ *
+ * <p>One row per sweep. The lock columns make sure only one application node runs
+ * the sweep at a time; the high-water marks record up to which slot time each
+ * transition has been fully applied, so the next run starts there instead of
+ * rescanning the whole table.</p>
+ */
+@Entity
+@Table(name = "therapist_schedule_sweep")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleSweepState extends BaseEntity {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    /**
+     * All AVAILABLE slots starting before this time (UTC) have been expired.
+     */
+    @Column(name = "expired_through")
+    private LocalDateTime expiredThrough;
+
+    /**
+     * All BOOKED slots starting before this time (UTC) have been marked done.
+     */
+    @Column(name = "done_through")
+    private LocalDateTime doneThrough;
+
+    private ScheduleSweepState(String name) {
+        this.name = Objects.requireNonNull(name, "Sweep name is required");
+    }
+
+    public static ScheduleSweepState create(String name) {
+        return new ScheduleSweepState(name);
+    }
+
+    /**
+     * Move the expiry high-water mark forward. Never moves it back.
+     */
+    public void advanceExpiredThrough(LocalDateTime through) {
+        if (through != null && (expiredThrough == null || through.isAfter(expiredThrough))) {
+            this.expiredThrough = through;
+        }
+    }
+
+    /**
+     * Move the completion high-water mark forward. Never moves it back.
+     */
+    public void advanceDoneThrough(LocalDateTime through) {
+        if (through != null && (doneThrough == null || through.isAfter(doneThrough))) {
+            this.doneThrough = through;
+        }
+    }
+}
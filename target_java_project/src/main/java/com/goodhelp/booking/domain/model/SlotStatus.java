@@ -35,7 +35,13 @@ public enum SlotStatus {
     /**
      * Slot time has passed without being booked.
      */
-    EXPIRED(6);
+    EXPIRED(6),
+    
+    /**
+     * Slot is temporarily reserved by a checkout awaiting payment.
+     * Released back to AVAILABLE when the hold expires.
+     */
+    HELD(7);
 
     private final int value;
 
@@ -72,7 +78,14 @@ public enum SlotStatus {
      * Check if slot can be released (made available again).
      */
     public boolean canBeReleased() {
-        return this == BOOKED || this == UNAVAILABLE;
+        return this == BOOKED || this == UNAVAILABLE || this == HELD;
+    }
+
+    /**
+     * Check if slot is reserved for a client (booked or held by a checkout).
+     */
+    public boolean isReserved() {
+        return this == BOOKED || this == HELD;
     }
 
     /**
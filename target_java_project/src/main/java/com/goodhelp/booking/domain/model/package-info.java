@@ -5,6 +5,8 @@
  * <ul>
  *   <li>{@link com.goodhelp.booking.domain.model.ScheduleSlot} - Time slot entity</li>
  *   <li>{@link com.goodhelp.booking.domain.model.TherapistPrice} - Pricing entity</li>
+ *   <li>{@link com.goodhelp.booking.domain.model.AvailabilityRule} - Weekly recurring availability</li>
+ *   <li>{@link com.goodhelp.booking.domain.model.AvailabilityException} - Dated deviation from the weekly rules</li>
  * </ul>
  * 
  * <p>Enums:</p>
@@ -12,6 +14,7 @@
  *   <li>{@link com.goodhelp.booking.domain.model.SlotStatus} - Slot states (AVAILABLE, BOOKED, etc.)</li>
  *   <li>{@link com.goodhelp.booking.domain.model.PriceType} - Consultation types (INDIVIDUAL, COUPLE)</li>
  *   <li>{@link com.goodhelp.booking.domain.model.PriceState} - Price visibility (CURRENT, PAST, UNLISTED)</li>
+ *   <li>{@link com.goodhelp.booking.domain.model.AvailabilityExceptionType} - Exception kind (BLOCKED, OPEN)</li>
  * </ul>
  * 
  * <p>This context handles:</p>
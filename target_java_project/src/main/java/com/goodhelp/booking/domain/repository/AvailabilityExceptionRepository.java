@@ -0,0 +1,30 @@
+package com.goodhelp.booking.domain.repository;
+
+import com.goodhelp.booking.domain.model.AvailabilityException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for dated availability exceptions.
+ */
+public interface AvailabilityExceptionRepository {
+
+    Optional<AvailabilityException> findById(Long id);
+
+    /**
+     * Exceptions of a therapist with dates in [from, to] (inclusive).
+     */
+    List<AvailabilityException> findByTherapistIdInRange(Long therapistId, LocalDate from, LocalDate to);
+
+    /**
+     * Exceptions of several therapists with dates in [from, to] (inclusive), single query.
+     */
+    List<AvailabilityException> findByTherapistIdsInRange(Collection<Long> therapistIds, LocalDate from, LocalDate to);
+
+    AvailabilityException save(AvailabilityException exception);
+
+    void delete(AvailabilityException exception);
+}
@@ -0,0 +1,24 @@
+package com.goodhelp.booking.domain.repository;
+
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for weekly availability rules.
+ */
+public interface AvailabilityRuleRepository {
+
+    List<AvailabilityRule> findByTherapistId(Long therapistId);
+
+    /**
+     * Rules of several therapists with a single query.
+     */
+    List<AvailabilityRule> findByTherapistIds(Collection<Long> therapistIds);
+
+    /**
+     * Replace all rules of a therapist.
+     */
+    List<AvailabilityRule> replaceForTherapist(Long therapistId, List<AvailabilityRule> rules);
+}
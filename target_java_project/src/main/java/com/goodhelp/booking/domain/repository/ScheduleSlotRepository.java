@@ -1,11 +1,15 @@
 package com.goodhelp.booking.domain.repository;
 
 import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
 import com.goodhelp.booking.domain.model.SlotStatus;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for ScheduleSlot.
@@ -13,6 +17,11 @@ import java.util.Optional;
  */
 public interface ScheduleSlotRepository {
 
+    /**
+     * Page size used by the {@code findAllViews...} helpers.
+     */
+    int VIEW_PAGE_SIZE = 500;
+
     /**
      * Find slot by ID.
      */
@@ -83,4 +92,174 @@ public interface ScheduleSlotRepository {
         LocalDateTime after, 
         SlotStatus status
     );
+
+    // ==================== Checkout Holds ====================
+
+    /**
+     * Atomically claim an AVAILABLE slot for a checkout, or renew the hold the same
+     * checkout already has on it.
+     *
+     * <p>Implemented as a single conditional {@code UPDATE ... WHERE state = AVAILABLE
+     * OR (state = HELD AND held_by = checkout)}, so of two concurrent checkouts for the
+     * same slot exactly one wins - without locking rows up front. The in-memory slot is
+     * refreshed on success.</p>
+     *
+     * @param slot the slot to hold
+     * @param checkoutSlug slug of the checkout taking the hold
+     * @param now current UTC time, same clock the hold sweeper compares {@code heldUntil} against
+     * @param bookableAfter the slot must start after this time (now + schedule time cap)
+     * @param heldUntil when the hold expires
+     * @return true if this call claimed the slot
+     */
+    boolean tryHold(
+        ScheduleSlot slot,
+        String checkoutSlug,
+        LocalDateTime now,
+        LocalDateTime bookableAfter,
+        LocalDateTime heldUntil
+    );
+
+    /**
+     * Find held slots whose hold has expired, oldest first.
+     */
+    List<ScheduleSlotView> findExpiredHolds(LocalDateTime now, int limit);
+
+    /**
+     * Release expired holds back to AVAILABLE with a single set-based update.
+     * Slots that were booked or re-held in the meantime are left untouched.
+     *
+     * @return number of released slots
+     */
+    int releaseExpiredHolds(List<ScheduleSlotView> expired, LocalDateTime now);
+
+    // ==================== Lifecycle Sweeps ====================
+
+    /**
+     * Next batch of slots in the given status starting within [from, to), oldest first.
+     * Used by background sweeps; transitioned slots drop out of the next batch by themselves.
+     */
+    List<ScheduleSlotView> findSweepBatch(SlotStatus status, LocalDateTime from, LocalDateTime to, int limit);
+
+    /**
+     * Move the given slots from one status to another with a single set-based update.
+     * Slots no longer in {@code from} (changed concurrently) are left untouched.
+     *
+     * @return number of updated slots
+     */
+    int transitionStatus(Collection<Long> slotIds, SlotStatus from, SlotStatus to);
+
+    // ==================== Bulk Schedule Edits ====================
+
+    /**
+     * Set the status of many slot times of one therapist in batched
+     * {@code INSERT ... ON CONFLICT DO UPDATE} statements.
+     *
+     * <p>Times without a row get a new row; existing rows are updated only while their
+     * status is one of {@code replaceable}, so rows booked or held concurrently are left
+     * untouched. Relies on the unique index on (therapist_id, available_at).</p>
+     *
+     * @param availableAt slot starts in UTC
+     * @return projections of the rows that were inserted or updated
+     */
+    List<ScheduleSlotView> upsertStatus(
+        Long therapistId,
+        Collection<LocalDateTime> availableAt,
+        SlotStatus status,
+        Collection<SlotStatus> replaceable
+    );
+
+    // ==================== Read-only Projections ====================
+
+    /**
+     * Find one page of slot projections in {@code [from, to)}, ordered by time then id.
+     *
+     * @param after last view of the previous page, or null for the first page (keyset continuation)
+     * @param limit maximum number of rows to return
+     */
+    List<ScheduleSlotView> findViewsInRange(
+        Long therapistId,
+        LocalDateTime from,
+        LocalDateTime to,
+        ScheduleSlotView after,
+        int limit
+    );
+
+    /**
+     * Same as {@link #findViewsInRange} but only slots with the given status.
+     */
+    List<ScheduleSlotView> findViewsInRangeWithStatus(
+        Long therapistId,
+        SlotStatus status,
+        LocalDateTime from,
+        LocalDateTime to,
+        ScheduleSlotView after,
+        int limit
+    );
+
+    /**
+     * Find slot projections with the given status in {@code [from, to)} for several
+     * therapists in a single query, ordered by therapist, time and id.
+     */
+    List<ScheduleSlotView> findViewsForTherapistsInRangeWithStatus(
+        Collection<Long> therapistIds,
+        SlotStatus status,
+        LocalDateTime from,
+        LocalDateTime to
+    );
+
+    /**
+     * Find slot projections of any status in {@code [from, to)} for several
+     * therapists in a single query, ordered by therapist, time and id.
+     */
+    List<ScheduleSlotView> findViewsForTherapistsInRange(
+        Collection<Long> therapistIds,
+        LocalDateTime from,
+        LocalDateTime to
+    );
+
+    /**
+     * Pass every slot projection in {@code [from, to)} to {@code consumer}, ordered by
+     * time then id, from a single streamed query. Nothing is collected in memory, so
+     * this suits long ranges that are only aggregated.
+     */
+    void forEachViewInRange(
+        Long therapistId,
+        LocalDateTime from,
+        LocalDateTime to,
+        Consumer<ScheduleSlotView> consumer
+    );
+
+    /**
+     * Read all slot projections in {@code [from, to)}, page by page.
+     */
+    default List<ScheduleSlotView> findAllViewsInRange(Long therapistId, LocalDateTime from, LocalDateTime to) {
+        List<ScheduleSlotView> result = new ArrayList<>();
+        List<ScheduleSlotView> page;
+        ScheduleSlotView after = null;
+        do {
+            page = findViewsInRange(therapistId, from, to, after, VIEW_PAGE_SIZE);
+            result.addAll(page);
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == VIEW_PAGE_SIZE);
+        return result;
+    }
+
+    /**
+     * Read all slot projections with the given status in {@code [from, to)}, page by page.
+     */
+    default List<ScheduleSlotView> findAllViewsInRangeWithStatus(
+            Long therapistId,
+            SlotStatus status,
+            LocalDateTime from,
+            LocalDateTime to) {
+        List<ScheduleSlotView> result = new ArrayList<>();
+        List<ScheduleSlotView> page;
+        ScheduleSlotView after = null;
+        do {
+            page = findViewsInRangeWithStatus(therapistId, status, from, to, after, VIEW_PAGE_SIZE);
+            result.addAll(page);
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == VIEW_PAGE_SIZE);
+        return result;
+    }
 }
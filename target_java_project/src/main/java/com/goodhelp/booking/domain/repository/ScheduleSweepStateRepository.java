@@ -0,0 +1,33 @@
+package com.goodhelp.booking.domain.repository;
+
+import com.goodhelp.booking.domain.model.ScheduleSweepState;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for background sweep progress and locks.
+ */
+public interface ScheduleSweepStateRepository {
+
+    Optional<ScheduleSweepState> findByName(String name);
+
+    ScheduleSweepState save(ScheduleSweepState state);
+
+    /**
+     * Take the sweep lock if it is free or its lease has run out.
+     * Implemented as a conditional update, so exactly one node wins.
+     *
+     * @param name sweep name
+     * @param owner identifier of the calling node
+     * @param now current time (UTC)
+     * @param lockedUntil lease end; a crashed owner loses the lock at this time
+     * @return true if the caller now holds the lock
+     */
+    boolean tryLock(String name, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+
+    /**
+     * Release the sweep lock if it is still held by the given owner.
+     */
+    void unlock(String name, String owner);
+}
@@ -0,0 +1,106 @@
+package com.goodhelp.booking.domain.service;
+
+import com.goodhelp.booking.domain.model.AvailabilityException;
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expands weekly {@link AvailabilityRule}s and dated {@link AvailabilityException}s
+ * into concrete slot start times.
+ *
+ * <p>Rules are wall-clock times in the therapist's timezone, so they are resolved
+ * per local date against the zone's rules:</p>
+ * <ul>
+ *   <li>A start that falls into a DST gap (clocks jump forward) does not exist and is skipped</li>
+ *   <li>A start that occurs twice (clocks fall back) opens one slot, at the earlier instant</li>
+ * </ul>
+ *
+ * <p>Pure computation: one bit mask per day, no database access.</p>
+ */
+@Service
+public class AvailabilityRuleExpander {
+
+    /**
+     * Slot starts within [{@code from}, {@code to}) as UTC epoch-minutes, ascending.
+     */
+    public int[] expand(Collection<AvailabilityRule> rules,
+                        Collection<AvailabilityException> exceptions,
+                        ZoneId zone,
+                        Instant from,
+                        Instant to) {
+        if ((rules.isEmpty() && exceptions.isEmpty()) || !from.isBefore(to)) {
+            return new int[0];
+        }
+
+        Map<LocalDate, List<AvailabilityException>> exceptionsByDate = new HashMap<>();
+        for (AvailabilityException exception : exceptions) {
+            exceptionsByDate.computeIfAbsent(exception.getDate(), date -> new ArrayList<>()).add(exception);
+        }
+
+        ZoneRules zoneRules = zone.getRules();
+        long fromSecond = from.getEpochSecond();
+        long toSecond = to.getEpochSecond();
+        LocalDate lastDate = LocalDate.ofInstant(to, zone);
+
+        int[] minutes = new int[32];
+        int size = 0;
+        for (LocalDate date = LocalDate.ofInstant(from, zone); !date.isAfter(lastDate); date = date.plusDays(1)) {
+            long mask = 0L;
+            for (AvailabilityRule rule : rules) {
+                if (rule.appliesOn(date)) {
+                    mask |= rule.slotMask();
+                }
+            }
+            for (AvailabilityException exception : exceptionsByDate.getOrDefault(date, List.of())) {
+                mask = exception.applyTo(mask);
+            }
+
+            while (mask != 0L) {
+                int cell = Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+
+                LocalDateTime local = date.atStartOfDay().plusMinutes((long) cell * AvailabilityRule.GRID_MINUTES);
+                List<ZoneOffset> offsets = zoneRules.getValidOffsets(local);
+                if (offsets.isEmpty()) {
+                    continue;
+                }
+                long epochSecond = local.toEpochSecond(offsets.get(0));
+                if (epochSecond < fromSecond || epochSecond >= toSecond) {
+                    continue;
+                }
+                if (size == minutes.length) {
+                    minutes = Arrays.copyOf(minutes, size * 2);
+                }
+                minutes[size++] = (int) Math.floorDiv(epochSecond, 60);
+            }
+        }
+
+        int[] result = Arrays.copyOf(minutes, size);
+        // Already ascending for regular zones; cheap guard against unusual transitions
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Check if the rules open a slot starting exactly at {@code startsAt}.
+     */
+    public boolean opensAt(Collection<AvailabilityRule> rules,
+                           Collection<AvailabilityException> exceptions,
+                           ZoneId zone,
+                           Instant startsAt) {
+        return expand(rules, exceptions, zone, startsAt, startsAt.plusSeconds(60)).length > 0;
+    }
+}
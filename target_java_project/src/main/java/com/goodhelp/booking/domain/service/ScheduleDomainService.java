@@ -110,9 +110,10 @@ public class ScheduleDomainService {
             List<ScheduleSlot> slots,
             String timezone) {
         
+        ZoneId zone = ZoneId.of(timezone);
         return slots.stream()
             .collect(java.util.stream.Collectors.groupingBy(
-                slot -> slot.getAvailableAtInZone(timezone).toLocalDate()
+                slot -> slot.getAvailableAtInZone(zone).toLocalDate()
             ));
     }
 
@@ -0,0 +1,52 @@
+package com.goodhelp.booking.infrastructure.persistence;
+
+import com.goodhelp.booking.domain.model.AvailabilityException;
+import com.goodhelp.booking.domain.repository.AvailabilityExceptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AvailabilityExceptionRepositoryAdapter implements AvailabilityExceptionRepository {
+
+    private final JpaAvailabilityExceptionRepository jpaRepository;
+
+    @Override
+    public Optional<AvailabilityException> findById(Long id) {
+        return jpaRepository.findById(id);
+    }
+
+    @Override
+    public List<AvailabilityException> findByTherapistIdInRange(Long therapistId, LocalDate from, LocalDate to) {
+        return jpaRepository.findByTherapistIdAndDateBetweenOrderByDateAscStartTimeAsc(therapistId, from, to);
+    }
+
+    @Override
+    public List<AvailabilityException> findByTherapistIdsInRange(Collection<Long> therapistIds,
+                                                                 LocalDate from,
+                                                                 LocalDate to) {
+        if (therapistIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByTherapistIdInAndDateBetween(therapistIds, from, to);
+    }
+
+    @Override
+    @Transactional
+    public AvailabilityException save(AvailabilityException exception) {
+        return jpaRepository.save(exception);
+    }
+
+    @Override
+    @Transactional
+    public void delete(AvailabilityException exception) {
+        jpaRepository.delete(exception);
+    }
+}
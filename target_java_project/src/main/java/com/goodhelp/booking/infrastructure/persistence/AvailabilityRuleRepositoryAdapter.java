@@ -0,0 +1,38 @@
+package com.goodhelp.booking.infrastructure.persistence;
+
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+import com.goodhelp.booking.domain.repository.AvailabilityRuleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AvailabilityRuleRepositoryAdapter implements AvailabilityRuleRepository {
+
+    private final JpaAvailabilityRuleRepository jpaRepository;
+
+    @Override
+    public List<AvailabilityRule> findByTherapistId(Long therapistId) {
+        return jpaRepository.findByTherapistIdOrderByDayOfWeekAscStartTimeAsc(therapistId);
+    }
+
+    @Override
+    public List<AvailabilityRule> findByTherapistIds(Collection<Long> therapistIds) {
+        if (therapistIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByTherapistIdIn(therapistIds);
+    }
+
+    @Override
+    @Transactional
+    public List<AvailabilityRule> replaceForTherapist(Long therapistId, List<AvailabilityRule> rules) {
+        jpaRepository.deleteByTherapistId(therapistId);
+        return jpaRepository.saveAll(rules);
+    }
+}
@@ -0,0 +1,19 @@
+package com.goodhelp.booking.infrastructure.persistence;
+
+import com.goodhelp.booking.domain.model.AvailabilityException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaAvailabilityExceptionRepository extends JpaRepository<AvailabilityException, Long> {
+
+    List<AvailabilityException> findByTherapistIdAndDateBetweenOrderByDateAscStartTimeAsc(
+        Long therapistId, LocalDate from, LocalDate to);
+
+    List<AvailabilityException> findByTherapistIdInAndDateBetween(
+        Collection<Long> therapistIds, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,23 @@
+package com.goodhelp.booking.infrastructure.persistence;
+
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaAvailabilityRuleRepository extends JpaRepository<AvailabilityRule, Long> {
+
+    List<AvailabilityRule> findByTherapistIdOrderByDayOfWeekAscStartTimeAsc(Long therapistId);
+
+    List<AvailabilityRule> findByTherapistIdIn(Collection<Long> therapistIds);
+
+    @Modifying
+    @Query("DELETE FROM AvailabilityRule r WHERE r.therapistId = :therapistId")
+    int deleteByTherapistId(@Param("therapistId") Long therapistId);
+}
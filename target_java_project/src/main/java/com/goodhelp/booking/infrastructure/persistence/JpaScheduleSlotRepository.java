@@ -1,15 +1,23 @@
 package com.goodhelp.booking.infrastructure.persistence;
 
 import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
 import com.goodhelp.booking.domain.model.SlotStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for ScheduleSlot entity.
@@ -93,5 +101,156 @@ public interface JpaScheduleSlotRepository extends JpaRepository<ScheduleSlot, L
         @Param("from") LocalDateTime from,
         @Param("to") LocalDateTime to
     );
-}
 
+    /**
+     * Keyset page of slot projections in [from, to), ordered by time then id.
+     * The first page passes afterAt = from and afterId = 0.
+     */
+    @Query("SELECT new com.goodhelp.booking.domain.model.ScheduleSlotView(s.id, s.therapist.id, s.availableAt, s.status) " +
+           "FROM ScheduleSlot s WHERE s.therapist.id = :therapistId " +
+           "AND s.availableAt >= :from AND s.availableAt < :to " +
+           "AND (s.availableAt > :afterAt OR (s.availableAt = :afterAt AND s.id > :afterId)) " +
+           "ORDER BY s.availableAt, s.id")
+    List<ScheduleSlotView> findViewsInRange(
+        @Param("therapistId") Long therapistId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("afterAt") LocalDateTime afterAt,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * Slot projections in [from, to), ordered by time then id, streamed from an open
+     * cursor. Must be consumed (and closed) inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.goodhelp.booking.domain.model.ScheduleSlotView(s.id, s.therapist.id, s.availableAt, s.status) " +
+           "FROM ScheduleSlot s WHERE s.therapist.id = :therapistId " +
+           "AND s.availableAt >= :from AND s.availableAt < :to " +
+           "ORDER BY s.availableAt, s.id")
+    Stream<ScheduleSlotView> streamViewsInRange(
+        @Param("therapistId") Long therapistId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Keyset page of slot projections with a given status in [from, to).
+     */
+    @Query("SELECT new com.goodhelp.booking.domain.model.ScheduleSlotView(s.id, s.therapist.id, s.availableAt, s.status) " +
+           "FROM ScheduleSlot s WHERE s.therapist.id = :therapistId AND s.status = :status " +
+           "AND s.availableAt >= :from AND s.availableAt < :to " +
+           "AND (s.availableAt > :afterAt OR (s.availableAt = :afterAt AND s.id > :afterId)) " +
+           "ORDER BY s.availableAt, s.id")
+    List<ScheduleSlotView> findViewsInRangeWithStatus(
+        @Param("therapistId") Long therapistId,
+        @Param("status") SlotStatus status,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("afterAt") LocalDateTime afterAt,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * Slot projections with a given status in [from, to) for several therapists at once.
+     */
+    @Query("SELECT new com.goodhelp.booking.domain.model.ScheduleSlotView(s.id, s.therapist.id, s.availableAt, s.status) " +
+           "FROM ScheduleSlot s WHERE s.therapist.id IN :therapistIds AND s.status = :status " +
+           "AND s.availableAt >= :from AND s.availableAt < :to " +
+           "ORDER BY s.therapist.id, s.availableAt, s.id")
+    List<ScheduleSlotView> findViewsForTherapistsInRangeWithStatus(
+        @Param("therapistIds") Collection<Long> therapistIds,
+        @Param("status") SlotStatus status,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    @Query("SELECT new com.goodhelp.booking.domain.model.ScheduleSlotView(s.id, s.therapist.id, s.availableAt, s.status) " +
+           "FROM ScheduleSlot s WHERE s.therapist.id IN :therapistIds " +
+           "AND s.availableAt >= :from AND s.availableAt < :to " +
+           "ORDER BY s.therapist.id, s.availableAt, s.id")
+    List<ScheduleSlotView> findViewsForTherapistsInRange(
+        @Param("therapistIds") Collection<Long> therapistIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Claim an available slot for a checkout, or renew that checkout's own hold.
+     * Returns 1 if claimed, 0 if someone else was faster.
+     */
+    @Modifying
+    @Query("UPDATE ScheduleSlot s SET s.status = :held, s.heldUntil = :heldUntil, s.heldBy = :checkoutSlug, " +
+           "s.updatedAt = :now " +
+           "WHERE s.id = :slotId AND s.availableAt > :bookableAfter " +
+           "AND (s.status = :available OR (s.status = :held AND s.heldBy = :checkoutSlug))")
+    int claimHold(
+        @Param("slotId") Long slotId,
+        @Param("checkoutSlug") String checkoutSlug,
+        @Param("bookableAfter") LocalDateTime bookableAfter,
+        @Param("heldUntil") LocalDateTime heldUntil,
+        @Param("now") LocalDateTime now,
+        @Param("available") SlotStatus available,
+        @Param("held") SlotStatus held
+    );
+
+    /**
+     * Held slots whose hold expired before the given time.
+     */
+    @Query("SELECT new com.goodhelp.booking.domain.model.ScheduleSlotView(s.id, s.therapist.id, s.availableAt, s.status) " +
+           "FROM ScheduleSlot s WHERE s.status = :held AND s.heldUntil <= :now ORDER BY s.heldUntil")
+    List<ScheduleSlotView> findExpiredHolds(
+        @Param("held") SlotStatus held,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    /**
+     * Release the given slots if they are still held with an expired hold.
+     */
+    @Modifying
+    @Query("UPDATE ScheduleSlot s SET s.status = :available, s.heldUntil = NULL, s.heldBy = NULL, " +
+           "s.updatedAt = :now " +
+           "WHERE s.id IN :slotIds AND s.status = :held AND s.heldUntil <= :now")
+    int releaseExpiredHolds(
+        @Param("slotIds") Collection<Long> slotIds,
+        @Param("now") LocalDateTime now,
+        @Param("available") SlotStatus available,
+        @Param("held") SlotStatus held
+    );
+
+    /**
+     * Projections of the given slots that are in the given status.
+     */
+    @Query("SELECT new com.goodhelp.booking.domain.model.ScheduleSlotView(s.id, s.therapist.id, s.availableAt, s.status) " +
+           "FROM ScheduleSlot s WHERE s.id IN :slotIds AND s.status = :status")
+    List<ScheduleSlotView> findViewsByIdsWithStatus(
+        @Param("slotIds") Collection<Long> slotIds,
+        @Param("status") SlotStatus status
+    );
+
+    /**
+     * Oldest slots in a status within a time range, for lifecycle sweeps.
+     */
+    @Query("SELECT new com.goodhelp.booking.domain.model.ScheduleSlotView(s.id, s.therapist.id, s.availableAt, s.status) " +
+           "FROM ScheduleSlot s WHERE s.status = :status AND s.availableAt >= :from AND s.availableAt < :to " +
+           "ORDER BY s.availableAt, s.id")
+    List<ScheduleSlotView> findSweepBatch(
+        @Param("status") SlotStatus status,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        Pageable pageable
+    );
+
+    @Modifying
+    @Query("UPDATE ScheduleSlot s SET s.status = :to, s.updatedAt = :now " +
+           "WHERE s.id IN :slotIds AND s.status = :from")
+    int transitionStatus(
+        @Param("slotIds") Collection<Long> slotIds,
+        @Param("from") SlotStatus from,
+        @Param("to") SlotStatus to,
+        @Param("now") LocalDateTime now
+    );
+}
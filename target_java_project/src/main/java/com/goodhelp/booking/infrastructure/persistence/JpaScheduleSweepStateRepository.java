@@ -0,0 +1,29 @@
+package com.goodhelp.booking.infrastructure.persistence;
+
+import com.goodhelp.booking.domain.model.ScheduleSweepState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JpaScheduleSweepStateRepository extends JpaRepository<ScheduleSweepState, String> {
+
+    @Modifying
+    @Query("UPDATE ScheduleSweepState s SET s.lockedBy = :owner, s.lockedUntil = :lockedUntil " +
+           "WHERE s.name = :name AND (s.lockedUntil IS NULL OR s.lockedUntil < :now)")
+    int claimLock(
+        @Param("name") String name,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now,
+        @Param("lockedUntil") LocalDateTime lockedUntil
+    );
+
+    @Modifying
+    @Query("UPDATE ScheduleSweepState s SET s.lockedBy = NULL, s.lockedUntil = NULL " +
+           "WHERE s.name = :name AND s.lockedBy = :owner")
+    int releaseLock(@Param("name") String name, @Param("owner") String owner);
+}
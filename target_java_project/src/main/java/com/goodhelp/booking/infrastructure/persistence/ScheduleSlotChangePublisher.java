@@ -0,0 +1,123 @@
+package com.goodhelp.booking.infrastructure.persistence;
+
+import com.goodhelp.booking.domain.event.ScheduleSlotChangedEvent;
+import com.goodhelp.booking.domain.model.ScheduleSlot;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate post-commit listener that turns ScheduleSlot writes into
+ * {@link ScheduleSlotChangedEvent}s.
+ *
+ * <p>Hooking into Hibernate (instead of the entity) catches every state change -
+ * {@code book()}, {@code release()}, toggles via dirty checking, cascades from
+ * UserConsultation - and only fires once the transaction has actually committed.</p>
+ *
+ * <p>Bulk JPQL updates bypass Hibernate events; repositories report those via
+ * {@link #publishAfterCommit}.</p>
+ */
+@Component
+public class ScheduleSlotChangePublisher implements
+        PostCommitInsertEventListener,
+        PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ScheduleSlotChangePublisher(
+            EntityManagerFactory entityManagerFactory,
+            ApplicationEventPublisher eventPublisher) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    /**
+     * Publish a change made outside the entity lifecycle (bulk/conditional update),
+     * deferred until the surrounding transaction commits.
+     */
+    public void publishAfterCommit(ScheduleSlotChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(event);
+            }
+        });
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity(), true);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed - read models stay as they are
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was committed - read models stay as they are
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was committed - read models stay as they are
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return ScheduleSlot.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    private void publish(Object entity, boolean deleted) {
+        if (!(entity instanceof ScheduleSlot slot)) {
+            return;
+        }
+        eventPublisher.publishEvent(new ScheduleSlotChangedEvent(
+            slot.getId(),
+            slot.getTherapist().getId(),
+            slot.getAvailableAt(),
+            slot.getStatus(),
+            deleted
+        ));
+    }
+}
@@ -1,15 +1,25 @@
 package com.goodhelp.booking.infrastructure.persistence;
 
+import com.goodhelp.booking.domain.event.ScheduleSlotChangedEvent;
 import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
 import com.goodhelp.booking.domain.model.SlotStatus;
 import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter implementing the domain ScheduleSlotRepository interface
@@ -20,7 +30,14 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class ScheduleSlotRepositoryAdapter implements ScheduleSlotRepository {
 
+    /**
+     * Rows per upsert statement; keeps the bind parameter count well below driver limits.
+     */
+    private static final int UPSERT_BATCH_SIZE = 200;
+
     private final JpaScheduleSlotRepository jpaRepository;
+    private final ScheduleSlotChangePublisher changePublisher;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<ScheduleSlot> findById(Long id) {
@@ -78,5 +95,196 @@ public class ScheduleSlotRepositoryAdapter implements ScheduleSlotRepository {
             SlotStatus status) {
         return jpaRepository.countByTherapistIdAndAvailableAtAfterAndStatus(therapistId, after, status);
     }
-}
 
+    @Override
+    public List<ScheduleSlotView> findViewsInRange(
+            Long therapistId,
+            LocalDateTime from,
+            LocalDateTime to,
+            ScheduleSlotView after,
+            int limit) {
+        return jpaRepository.findViewsInRange(
+            therapistId, from, to,
+            after != null ? after.availableAt() : from,
+            after != null ? after.id() : 0L,
+            PageRequest.of(0, limit)
+        );
+    }
+
+    @Override
+    public List<ScheduleSlotView> findViewsInRangeWithStatus(
+            Long therapistId,
+            SlotStatus status,
+            LocalDateTime from,
+            LocalDateTime to,
+            ScheduleSlotView after,
+            int limit) {
+        return jpaRepository.findViewsInRangeWithStatus(
+            therapistId, status, from, to,
+            after != null ? after.availableAt() : from,
+            after != null ? after.id() : 0L,
+            PageRequest.of(0, limit)
+        );
+    }
+
+    @Override
+    public void forEachViewInRange(
+            Long therapistId,
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<ScheduleSlotView> consumer) {
+        try (Stream<ScheduleSlotView> views = jpaRepository.streamViewsInRange(therapistId, from, to)) {
+            views.forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<ScheduleSlotView> findViewsForTherapistsInRangeWithStatus(
+            Collection<Long> therapistIds,
+            SlotStatus status,
+            LocalDateTime from,
+            LocalDateTime to) {
+        if (therapistIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findViewsForTherapistsInRangeWithStatus(therapistIds, status, from, to);
+    }
+
+    @Override
+    public List<ScheduleSlotView> findViewsForTherapistsInRange(
+            Collection<Long> therapistIds,
+            LocalDateTime from,
+            LocalDateTime to) {
+        if (therapistIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findViewsForTherapistsInRange(therapistIds, from, to);
+    }
+
+    @Override
+    @Transactional
+    public boolean tryHold(
+            ScheduleSlot slot,
+            String checkoutSlug,
+            LocalDateTime now,
+            LocalDateTime bookableAfter,
+            LocalDateTime heldUntil) {
+        int claimed = jpaRepository.claimHold(
+            slot.getId(), checkoutSlug, bookableAfter, heldUntil, now,
+            SlotStatus.AVAILABLE, SlotStatus.HELD
+        );
+        if (claimed == 0) {
+            return false;
+        }
+        entityManager.refresh(slot);
+        changePublisher.publishAfterCommit(new ScheduleSlotChangedEvent(
+            slot.getId(), slot.getTherapist().getId(), slot.getAvailableAt(), SlotStatus.HELD, false
+        ));
+        return true;
+    }
+
+    @Override
+    public List<ScheduleSlotView> findExpiredHolds(LocalDateTime now, int limit) {
+        return jpaRepository.findExpiredHolds(SlotStatus.HELD, now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredHolds(List<ScheduleSlotView> expired, LocalDateTime now) {
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        List<Long> slotIds = expired.stream().map(ScheduleSlotView::id).toList();
+        int released = jpaRepository.releaseExpiredHolds(slotIds, now, SlotStatus.AVAILABLE, SlotStatus.HELD);
+        if (released == 0) {
+            return 0;
+        }
+        // Some slots were booked or renewed meanwhile: announce only those that are available now
+        List<ScheduleSlotView> available = released == slotIds.size()
+            ? expired
+            : jpaRepository.findViewsByIdsWithStatus(slotIds, SlotStatus.AVAILABLE);
+        for (ScheduleSlotView view : available) {
+            changePublisher.publishAfterCommit(new ScheduleSlotChangedEvent(
+                view.id(), view.therapistId(), view.availableAt(), SlotStatus.AVAILABLE, false
+            ));
+        }
+        return released;
+    }
+
+    @Override
+    public List<ScheduleSlotView> findSweepBatch(SlotStatus status, LocalDateTime from, LocalDateTime to, int limit) {
+        return jpaRepository.findSweepBatch(status, from, to, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public int transitionStatus(Collection<Long> slotIds, SlotStatus from, SlotStatus to) {
+        if (slotIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.transitionStatus(slotIds, from, to, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public List<ScheduleSlotView> upsertStatus(
+            Long therapistId,
+            Collection<LocalDateTime> availableAt,
+            SlotStatus status,
+            Collection<SlotStatus> replaceable) {
+        if (availableAt.isEmpty()) {
+            return List.of();
+        }
+        List<LocalDateTime> times = List.copyOf(availableAt);
+        List<Integer> replaceableCodes = replaceable.stream().map(SlotStatus::getValue).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ScheduleSlotView> written = new ArrayList<>();
+        for (int start = 0; start < times.size(); start += UPSERT_BATCH_SIZE) {
+            List<LocalDateTime> batch = times.subList(start, Math.min(times.size(), start + UPSERT_BATCH_SIZE));
+            Query query = entityManager.createNativeQuery(upsertSql(batch.size(), !replaceableCodes.isEmpty()))
+                .setParameter("therapistId", therapistId)
+                .setParameter("state", status.getValue())
+                .setParameter("now", now);
+            if (!replaceableCodes.isEmpty()) {
+                query.setParameter("replaceable", replaceableCodes);
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                query.setParameter("t" + i, batch.get(i));
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = query.getResultList();
+            for (Object[] row : rows) {
+                ScheduleSlotView view = new ScheduleSlotView(
+                    ((Number) row[0]).longValue(), therapistId, toLocalDateTime(row[1]), status);
+                written.add(view);
+                // Native statements bypass Hibernate events
+                changePublisher.publishAfterCommit(new ScheduleSlotChangedEvent(
+                    view.id(), therapistId, view.availableAt(), status, false
+                ));
+            }
+        }
+        return written;
+    }
+
+    private static String upsertSql(int rows, boolean updateExisting) {
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO therapist_schedule (therapist_id, available_at, state, created_at, updated_at) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:therapistId, :t").append(i).append(", :state, :now, :now)");
+        }
+        sql.append(" ON CONFLICT (therapist_id, available_at) ");
+        if (updateExisting) {
+            sql.append("DO UPDATE SET state = EXCLUDED.state, updated_at = EXCLUDED.updated_at ")
+               .append("WHERE therapist_schedule.state IN (:replaceable) ");
+        } else {
+            sql.append("DO NOTHING ");
+        }
+        return sql.append("RETURNING id, available_at").toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
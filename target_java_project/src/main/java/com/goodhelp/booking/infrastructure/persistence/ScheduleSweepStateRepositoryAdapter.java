@@ -0,0 +1,45 @@
+package com.goodhelp.booking.infrastructure.persistence;
+
+import com.goodhelp.booking.domain.model.ScheduleSweepState;
+import com.goodhelp.booking.domain.repository.ScheduleSweepStateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleSweepStateRepositoryAdapter implements ScheduleSweepStateRepository {
+
+    private final JpaScheduleSweepStateRepository jpaRepository;
+
+    @Override
+    public Optional<ScheduleSweepState> findByName(String name) {
+        return jpaRepository.findById(name);
+    }
+
+    @Override
+    @Transactional
+    public ScheduleSweepState save(ScheduleSweepState state) {
+        return jpaRepository.save(state);
+    }
+
+    @Override
+    @Transactional
+    public boolean tryLock(String name, String owner, LocalDateTime now, LocalDateTime lockedUntil) {
+        if (!jpaRepository.existsById(name)) {
+            // Normally seeded by migration; created lazily for schemas built by Hibernate
+            jpaRepository.saveAndFlush(ScheduleSweepState.create(name));
+        }
+        return jpaRepository.claimLock(name, owner, now, lockedUntil) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void unlock(String name, String owner) {
+        jpaRepository.releaseLock(name, owner);
+    }
+}
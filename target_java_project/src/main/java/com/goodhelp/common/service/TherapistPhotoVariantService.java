@@ -0,0 +1,323 @@
+package com.goodhelp.common.service;
+
+import com.goodhelp.common.util.TherapistPhotoUrls;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Resized therapist photo variants, generated from the originals in
+ * {@code static/img/select-psiholog/} and kept as files on local disk.
+ *
+ * <p>A variant is generated on first request (and for every photo after startup), written
+ * to a temporary file and moved into place, so concurrent requests never see a partial
+ * file. File names carry a checksum of the original, so a replaced photo gets new variants
+ * even when the directory outlives a deploy. Without {@code goodhelp.photos.variant-dir}
+ * the variants go to a temporary directory removed on shutdown.</p>
+ *
+ * <p>The JDK has no WebP encoder, so variants are JPEG unless an ImageIO WebP writer is on
+ * the classpath. Clients accepting WebP get the original {@code .webp} instead whenever it
+ * is smaller than the JPEG variant of the requested width.</p>
+ */
+@Service
+public class TherapistPhotoVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(TherapistPhotoVariantService.class);
+
+    private static final String SOURCE_ROOT = "classpath:/static/img/select-psiholog/";
+    private static final MediaType WEBP = MediaType.parseMediaType("image/webp");
+
+    private final ResourceLoader resourceLoader;
+    private final String configuredDirectory;
+    private final float jpegQuality;
+    private final boolean pregenerate;
+    private final boolean webpWriterAvailable = ImageIO.getImageWritersByMIMEType("image/webp").hasNext();
+    private final Map<String, Source> sources = new ConcurrentHashMap<>();
+    private volatile Path directory;
+    private volatile boolean temporaryDirectory;
+
+    /**
+     * A photo file ready to be sent.
+     *
+     * @param etag quoted entity tag, stable for the file's content
+     */
+    public record Variant(Path file, MediaType mediaType, String etag) {}
+
+    /**
+     * Original photo of a therapist. The photo itself stays in the resource and is read
+     * again only when a variant has to be generated.
+     *
+     * @param version checksum of the jpg original
+     * @param width pixel width of the jpg original
+     * @param webpSize size of the webp original, or -1 if there is none
+     */
+    private record Source(String template, String version, int width, long webpSize) {}
+
+    public TherapistPhotoVariantService(
+            ResourceLoader resourceLoader,
+            @Value("${goodhelp.photos.variant-dir:}") String configuredDirectory,
+            @Value("${goodhelp.photos.jpeg-quality:0.82}") float jpegQuality,
+            @Value("${goodhelp.photos.pregenerate:true}") boolean pregenerate) {
+        this.resourceLoader = resourceLoader;
+        this.configuredDirectory = configuredDirectory;
+        this.jpegQuality = jpegQuality;
+        this.pregenerate = pregenerate;
+    }
+
+    /**
+     * Variant of a photo for a width, in the best format the client accepts.
+     *
+     * @param width requested width; rounded up to a generated width
+     * @return the variant, or empty if the therapist has no photo
+     */
+    public Optional<Variant> find(String profileTemplate, int width, boolean acceptsWebp) {
+        if (!TherapistPhotoUrls.isValidTemplate(profileTemplate)) {
+            return Optional.empty();
+        }
+        Source source = source(profileTemplate);
+        if (source == null) {
+            return Optional.empty();
+        }
+        int variantWidth = TherapistPhotoUrls.variantWidth(width);
+        try {
+            if (acceptsWebp && webpWriterAvailable) {
+                return Optional.of(variant(source, variantWidth, "webp", WEBP));
+            }
+            Variant jpeg = variant(source, variantWidth, "jpg", MediaType.IMAGE_JPEG);
+            if (acceptsWebp && source.webpSize() >= 0 && source.webpSize() < Files.size(jpeg.file())) {
+                return Optional.of(originalWebp(source));
+            }
+            return Optional.of(jpeg);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare photo variant of " + profileTemplate, e);
+        }
+    }
+
+    /**
+     * Pixel width of a therapist's original photo, or 0 if the therapist has no photo.
+     */
+    public int sourceWidth(String profileTemplate) {
+        if (!TherapistPhotoUrls.isValidTemplate(profileTemplate)) {
+            return 0;
+        }
+        Source source = source(profileTemplate);
+        return source != null ? source.width() : 0;
+    }
+
+    /**
+     * Generate every variant of every photo in the background, so first visitors after a
+     * deploy do not wait for resizing.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!pregenerate) {
+            return;
+        }
+        Thread thread = new Thread(this::generateAll, "photo-variants");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void generateAll() {
+        try {
+            Resource[] originals = new PathMatchingResourcePatternResolver(resourceLoader)
+                .getResources(SOURCE_ROOT + "*.jpg");
+            for (Resource original : originals) {
+                String filename = original.getFilename();
+                String template = filename.substring(0, filename.length() - ".jpg".length());
+                for (int width : TherapistPhotoUrls.WIDTHS) {
+                    find(template, width, false);
+                    find(template, width, true);
+                }
+            }
+            log.info("Prepared photo variants of {} therapists in {}", originals.length, directory());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Photo variant generation failed, variants will be generated on request: {}", e.getMessage());
+        }
+    }
+
+    private Source source(String template) {
+        Source cached = sources.get(template);
+        if (cached != null) {
+            return cached;
+        }
+        Resource jpeg = resourceLoader.getResource(SOURCE_ROOT + template + ".jpg");
+        if (!jpeg.exists()) {
+            return null;
+        }
+        try {
+            byte[] bytes = readJpeg(template);
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (image == null) {
+                log.warn("Unreadable therapist photo {}", jpeg.getFilename());
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            Resource webp = resourceLoader.getResource(SOURCE_ROOT + template + ".webp");
+            Source source = new Source(template, Long.toHexString(crc.getValue()), image.getWidth(),
+                webp.exists() ? webp.contentLength() : -1);
+            sources.put(template, source);
+            return source;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read photo of " + template, e);
+        }
+    }
+
+    private Variant variant(Source source, int width, String extension, MediaType mediaType) throws IOException {
+        String name = source.template() + "-" + source.version() + "-" + width + "." + extension;
+        Path file = directory().resolve(name);
+        if (!Files.exists(file)) {
+            byte[] original = readJpeg(source.template());
+            if ("jpg".equals(extension) && source.width() <= width) {
+                // Never upscale; the original is the best variant
+                writeAtomically(file, out -> Files.write(out, original));
+            } else {
+                BufferedImage resized = resize(ImageIO.read(new ByteArrayInputStream(original)), width);
+                writeAtomically(file, out -> write(resized, extension, out));
+            }
+        }
+        return new Variant(file, mediaType, "\"" + name + "\"");
+    }
+
+    private byte[] readJpeg(String template) throws IOException {
+        try (InputStream in = resourceLoader.getResource(SOURCE_ROOT + template + ".jpg").getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private Variant originalWebp(Source source) throws IOException {
+        String name = source.template() + "-" + source.version() + "-original.webp";
+        Path file = directory().resolve(name);
+        if (!Files.exists(file)) {
+            Resource webp = resourceLoader.getResource(SOURCE_ROOT + source.template() + ".webp");
+            writeAtomically(file, out -> {
+                try (InputStream in = webp.getInputStream()) {
+                    Files.copy(in, out, StandardCopyOption.REPLACE_EXISTING);
+                }
+            });
+        }
+        return new Variant(file, WEBP, "\"" + name + "\"");
+    }
+
+    /**
+     * Downscale in halving steps, then to the exact width, which keeps bilinear
+     * interpolation from skipping pixels on large reductions.
+     */
+    private static BufferedImage resize(BufferedImage image, int width) {
+        if (image.getWidth() <= width) {
+            return scale(image, image.getWidth(), image.getHeight());
+        }
+        int height = Math.max(1, Math.round((float) image.getHeight() * width / image.getWidth()));
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width) {
+            current = scale(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        return scale(current, width, height);
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private void write(BufferedImage image, String extension, Path target) throws IOException {
+        Iterator<ImageWriter> writers = "webp".equals(extension)
+            ? ImageIO.getImageWritersByMIMEType("image/webp")
+            : ImageIO.getImageWritersByFormatName("jpeg");
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpg".equals(extension)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void writeAtomically(Path target, FileContent writer) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            writer.write(temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path directory() throws IOException {
+        Path current = directory;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (directory == null) {
+                temporaryDirectory = configuredDirectory.isBlank();
+                directory = temporaryDirectory
+                    ? Files.createTempDirectory("goodhelp-photos")
+                    : Files.createDirectories(Path.of(configuredDirectory));
+            }
+            return directory;
+        }
+    }
+
+    @PreDestroy
+    synchronized void deleteTemporaryDirectory() {
+        if (directory == null || !temporaryDirectory) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("Could not delete photo variants in {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileContent {
+        void write(Path target) throws IOException;
+    }
+}
@@ -0,0 +1,326 @@
+package com.goodhelp.common.service;
+
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bulk conversion of UTC times to local dates and times of a timezone.
+ *
+ * <p>Rendering a schedule converts hundreds of slots to the same zone. Instead of an
+ * {@code atZone().withZoneSameInstant()} chain per slot, this service:</p>
+ * <ul>
+ *   <li>caches {@link ZoneId}s and their {@link ZoneRules} by identifier</li>
+ *   <li>builds an {@link OffsetTable} with the offset transitions of the requested window once</li>
+ *   <li>projects whole arrays of epoch values to local epoch-day and minute-of-day in one
+ *       pass, allocating only the two result arrays</li>
+ * </ul>
+ *
+ * <p>{@link LocalTime}s and {@code HH:mm} labels for every minute of the day are
+ * precomputed, so rendering a slot label does not allocate either.</p>
+ */
+@Service
+public class TimezoneProjectionService {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private static final ConcurrentHashMap<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<ZoneId, ZoneRules> RULES = new ConcurrentHashMap<>();
+
+    private static final LocalTime[] TIMES = new LocalTime[MINUTES_PER_DAY];
+    private static final String[] LABELS = new String[MINUTES_PER_DAY];
+
+    static {
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            TIMES[minute] = LocalTime.of(minute / 60, minute % 60);
+            LABELS[minute] = String.format("%02d:%02d", minute / 60, minute % 60);
+        }
+    }
+
+    /**
+     * Cached zone for an identifier; invalid or empty identifiers fall back to
+     * {@link TimezoneHelper#DEFAULT_TIMEZONE}. Static so DTO factories can use it.
+     *
+     * <p>Identifiers come from requests, so only region zones of the time-zone database are
+     * cached: that keeps the cache bounded. Invalid identifiers and fixed offsets
+     * ({@code +02:00}, {@code UTC+2}) are parsed on every call.</p>
+     */
+    public static ZoneId zoneOf(String timezone) {
+        if (timezone == null || timezone.isEmpty()) {
+            return zoneOf(TimezoneHelper.DEFAULT_TIMEZONE);
+        }
+        ZoneId cached = ZONES.get(timezone);
+        if (cached != null) {
+            return cached;
+        }
+        ZoneId zone;
+        try {
+            zone = ZoneId.of(timezone);
+        } catch (Exception e) {
+            return zoneOf(TimezoneHelper.DEFAULT_TIMEZONE);
+        }
+        if (!(zone.normalized() instanceof ZoneOffset)) {
+            ZONES.putIfAbsent(timezone, zone);
+        }
+        return zone;
+    }
+
+    /**
+     * Cached rules of a zone.
+     */
+    public static ZoneRules rulesOf(ZoneId zone) {
+        return RULES.computeIfAbsent(zone, ZoneId::getRules);
+    }
+
+    /**
+     * Local wall-clock time of a UTC timestamp, without an intermediate {@code ZonedDateTime}.
+     */
+    public static LocalDateTime toLocal(LocalDateTime utc, ZoneId zone) {
+        if (zone instanceof ZoneOffset offset) {
+            return utc.plusSeconds(offset.getTotalSeconds());
+        }
+        ZoneOffset offset = rulesOf(zone).getOffset(utc.toInstant(ZoneOffset.UTC));
+        return utc.plusSeconds(offset.getTotalSeconds());
+    }
+
+    /**
+     * {@code LocalTime} for a minute of the day (0-1439); shared instance.
+     */
+    public static LocalTime localTime(int minuteOfDay) {
+        return TIMES[minuteOfDay];
+    }
+
+    /**
+     * {@code HH:mm} label for a minute of the day (0-1439); shared instance.
+     */
+    public static String label(int minuteOfDay) {
+        return LABELS[minuteOfDay];
+    }
+
+    /**
+     * Offset table of a zone for [{@code fromEpochSecond}, {@code toEpochSecond}].
+     * Lookups outside the window stay correct but fall back to the zone rules.
+     */
+    public OffsetTable offsets(ZoneId zone, long fromEpochSecond, long toEpochSecond) {
+        return OffsetTable.build(zone, fromEpochSecond, toEpochSecond);
+    }
+
+    /**
+     * Project sorted or unsorted UTC epoch-minutes to local days and minutes of day.
+     */
+    public LocalProjection projectEpochMinutes(ZoneId zone, int[] epochMinutes, int size) {
+        if (size == 0) {
+            return LocalProjection.EMPTY;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, epochMinutes[i]);
+            max = Math.max(max, epochMinutes[i]);
+        }
+        OffsetTable table = offsets(zone, min * 60, max * 60);
+
+        int[] epochDays = new int[size];
+        int[] minutesOfDay = new int[size];
+        for (int i = 0; i < size; i++) {
+            long epochSecond = epochMinutes[i] * 60L;
+            long localSecond = epochSecond + table.offsetAt(epochSecond);
+            epochDays[i] = (int) Math.floorDiv(localSecond, SECONDS_PER_DAY);
+            minutesOfDay[i] = Math.floorMod(localSecond, SECONDS_PER_DAY) / 60;
+        }
+        return new LocalProjection(epochDays, minutesOfDay);
+    }
+
+    /**
+     * Project UTC epoch-seconds to local days and minutes of day.
+     */
+    public LocalProjection projectEpochSeconds(ZoneId zone, long[] epochSeconds, int size) {
+        if (size == 0) {
+            return LocalProjection.EMPTY;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, epochSeconds[i]);
+            max = Math.max(max, epochSeconds[i]);
+        }
+        OffsetTable table = offsets(zone, min, max);
+
+        int[] epochDays = new int[size];
+        int[] minutesOfDay = new int[size];
+        for (int i = 0; i < size; i++) {
+            long localSecond = epochSeconds[i] + table.offsetAt(epochSeconds[i]);
+            epochDays[i] = (int) Math.floorDiv(localSecond, SECONDS_PER_DAY);
+            minutesOfDay[i] = Math.floorMod(localSecond, SECONDS_PER_DAY) / 60;
+        }
+        return new LocalProjection(epochDays, minutesOfDay);
+    }
+
+    // ==================== Data Structures ====================
+
+    /**
+     * Offsets of a zone over a time window, as flat arrays.
+     *
+     * <p>Converting a local time back to UTC follows {@code ZonedDateTime} semantics:
+     * a local time inside a gap or overlap uses the offset before the transition.</p>
+     */
+    public static final class OffsetTable {
+
+        private final ZoneRules rules;
+        private final long fromEpochSecond;
+        private final long toEpochSecond;
+        private final int initialOffset;
+        /** Instants of the transitions inside the window, ascending. */
+        private final long[] transitions;
+        /** Offset in effect from each transition on. */
+        private final int[] offsetsAfter;
+        /** First local second (as epoch value) that maps to {@code offsetsAfter[i]}. */
+        private final long[] localThresholds;
+
+        private OffsetTable(ZoneRules rules, long fromEpochSecond, long toEpochSecond, int initialOffset,
+                            long[] transitions, int[] offsetsAfter, long[] localThresholds) {
+            this.rules = rules;
+            this.fromEpochSecond = fromEpochSecond;
+            this.toEpochSecond = toEpochSecond;
+            this.initialOffset = initialOffset;
+            this.transitions = transitions;
+            this.offsetsAfter = offsetsAfter;
+            this.localThresholds = localThresholds;
+        }
+
+        static OffsetTable build(ZoneId zone, long fromEpochSecond, long toEpochSecond) {
+            ZoneRules rules = rulesOf(zone);
+            Instant from = Instant.ofEpochSecond(fromEpochSecond);
+            int initialOffset = rules.getOffset(from).getTotalSeconds();
+
+            long[] transitions = new long[4];
+            int[] offsetsAfter = new int[4];
+            long[] thresholds = new long[4];
+            int count = 0;
+            if (!rules.isFixedOffset()) {
+                ZoneOffsetTransition transition = rules.nextTransition(from);
+                while (transition != null && transition.toEpochSecond() <= toEpochSecond) {
+                    if (count == transitions.length) {
+                        transitions = Arrays.copyOf(transitions, count * 2);
+                        offsetsAfter = Arrays.copyOf(offsetsAfter, count * 2);
+                        thresholds = Arrays.copyOf(thresholds, count * 2);
+                    }
+                    int before = transition.getOffsetBefore().getTotalSeconds();
+                    int after = transition.getOffsetAfter().getTotalSeconds();
+                    transitions[count] = transition.toEpochSecond();
+                    offsetsAfter[count] = after;
+                    thresholds[count] = transition.toEpochSecond() + Math.max(before, after);
+                    count++;
+                    transition = rules.nextTransition(transition.getInstant());
+                }
+            }
+            return new OffsetTable(rules, fromEpochSecond, toEpochSecond, initialOffset,
+                Arrays.copyOf(transitions, count), Arrays.copyOf(offsetsAfter, count),
+                Arrays.copyOf(thresholds, count));
+        }
+
+        /**
+         * Offset in seconds at the given UTC instant.
+         */
+        public int offsetAt(long epochSecond) {
+            if (epochSecond < fromEpochSecond || epochSecond > toEpochSecond) {
+                return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+            }
+            int index = lastAtOrBefore(transitions, epochSecond);
+            return index < 0 ? initialOffset : offsetsAfter[index];
+        }
+
+        /**
+         * UTC epoch-second of a local wall-clock time given as local epoch-second.
+         */
+        public long toEpochSecond(long localEpochSecond) {
+            int index = lastAtOrBefore(localThresholds, localEpochSecond);
+            int offset = index < 0 ? initialOffset : offsetsAfter[index];
+            long epochSecond = localEpochSecond - offset;
+            if (epochSecond < fromEpochSecond || epochSecond > toEpochSecond) {
+                LocalDateTime local = LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC);
+                List<ZoneOffset> valid = rules.getValidOffsets(local);
+                ZoneOffset offsetBefore = valid.isEmpty()
+                    ? rules.getTransition(local).getOffsetBefore()
+                    : valid.get(0);
+                return local.toEpochSecond(offsetBefore);
+            }
+            return epochSecond;
+        }
+
+        private static int lastAtOrBefore(long[] sorted, long value) {
+            int low = 0;
+            int high = sorted.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+    }
+
+    /**
+     * Local days and minutes of day, index-aligned with the projected input.
+     */
+    public static final class LocalProjection {
+
+        static final LocalProjection EMPTY = new LocalProjection(new int[0], new int[0]);
+
+        private final int[] epochDays;
+        private final int[] minutesOfDay;
+
+        LocalProjection(int[] epochDays, int[] minutesOfDay) {
+            this.epochDays = epochDays;
+            this.minutesOfDay = minutesOfDay;
+        }
+
+        public int size() {
+            return epochDays.length;
+        }
+
+        /**
+         * Local date as days since 1970-01-01; compare these instead of {@link LocalDate}s.
+         */
+        public int epochDay(int index) {
+            return epochDays[index];
+        }
+
+        public int minuteOfDay(int index) {
+            return minutesOfDay[index];
+        }
+
+        public LocalDate localDate(int index) {
+            return LocalDate.ofEpochDay(epochDays[index]);
+        }
+
+        public LocalTime localTime(int index) {
+            return TIMES[minutesOfDay[index]];
+        }
+
+        public String label(int index) {
+            return LABELS[minutesOfDay[index]];
+        }
+
+        /**
+         * Local minutes since the epoch; a unique key for a local date and time.
+         */
+        public long localEpochMinute(int index) {
+            return (long) epochDays[index] * MINUTES_PER_DAY + minutesOfDay[index];
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.goodhelp.common.util;
+
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * URLs of therapist photo variants served by {@code TherapistPhotoController}.
+ *
+ * <p>A photo is addressed by the therapist's profile template (the file name in
+ * {@code static/img/select-psiholog/}) and a width from {@link #WIDTHS}; the format (webp
+ * or jpg) is negotiated from the {@code Accept} header, so one URL fits every browser.</p>
+ */
+public final class TherapistPhotoUrls {
+
+    /**
+     * Widths variants are generated in: dashboard avatars, catalog cards and profile
+     * avatars at 1x and 2x.
+     */
+    public static final int[] WIDTHS = {96, 160, 320, 560};
+
+    public static final int AVATAR = 96;
+    public static final int CARD = 320;
+    public static final int PROFILE = 560;
+
+    public static final String PLACEHOLDER = "/assets/landing/img/placeholder-therapist.jpg";
+
+    private static final Pattern TEMPLATE = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_-]{0,99}");
+
+    private TherapistPhotoUrls() {
+    }
+
+    /**
+     * URL of the variant of a photo of at least {@code width} pixels.
+     *
+     * @param profileTemplate profile template of the therapist (may be null)
+     */
+    public static String url(String profileTemplate, int width) {
+        if (!isValidTemplate(profileTemplate)) {
+            return PLACEHOLDER;
+        }
+        return "/photo/therapist/" + profileTemplate + "/" + variantWidth(width);
+    }
+
+    /**
+     * {@code srcset} attribute listing the variants of a photo, or null without a photo.
+     *
+     * <p>Variants are never upscaled, so widths from the original's up all serve the original;
+     * they are listed once, with the original's real width.</p>
+     *
+     * @param sourceWidth pixel width of the original photo, 0 if unknown
+     */
+    public static String srcset(String profileTemplate, int sourceWidth) {
+        if (!isValidTemplate(profileTemplate) || sourceWidth <= 0) {
+            return null;
+        }
+        StringJoiner srcset = new StringJoiner(", ");
+        for (int width : WIDTHS) {
+            if (width >= sourceWidth) {
+                srcset.add(url(profileTemplate, width) + " " + sourceWidth + "w");
+                break;
+            }
+            srcset.add(url(profileTemplate, width) + " " + width + "w");
+        }
+        return srcset.toString();
+    }
+
+    /**
+     * Smallest generated width of at least {@code width}, or the largest one.
+     */
+    public static int variantWidth(int width) {
+        for (int candidate : WIDTHS) {
+            if (candidate >= width) {
+                return candidate;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    public static boolean isValidTemplate(String profileTemplate) {
+        return profileTemplate != null && TEMPLATE.matcher(profileTemplate).matches();
+    }
+}
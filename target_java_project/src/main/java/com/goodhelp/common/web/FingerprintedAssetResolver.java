@@ -0,0 +1,145 @@
+package com.goodhelp.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.ResourceTransformer;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Version resolver that marks resources served from a content-hashed URL
+ * (e.g. {@code /css/landing/main-3f2a....css}) as cacheable for a year and immutable.
+ *
+ * <p>The handler's own Cache-Control applies to everything else, so a plain URL such as
+ * {@code /css/landing/main.css} is revalidated and picks up a new deploy. The header travels
+ * on the resource as an {@link HttpResource} response header, which the resource handler
+ * writes after its default Cache-Control; {@link KeepImmutable} restores it when a transformer
+ * (CSS link rewriting) replaces the resource.</p>
+ */
+public class FingerprintedAssetResolver extends VersionResourceResolver {
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+        .cachePublic().immutable().getHeaderValue();
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resolved = super.resolveResourceInternal(request, requestPath, locations, chain);
+        // The parent returns an HttpResource only when the path carried a matching version
+        if (resolved instanceof HttpResource) {
+            return new ImmutableResource(resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Register first among the transformers so it sees the result of the whole chain.
+     */
+    public static class KeepImmutable implements ResourceTransformer {
+
+        @Override
+        public Resource transform(HttpServletRequest request, Resource resource,
+                ResourceTransformerChain transformerChain) throws IOException {
+            Resource transformed = transformerChain.transform(request, resource);
+            if (resource instanceof ImmutableResource && !(transformed instanceof HttpResource)) {
+                return new ImmutableResource(transformed);
+            }
+            return transformed;
+        }
+    }
+
+    private static final class ImmutableResource extends AbstractResource implements HttpResource {
+
+        private final Resource original;
+
+        private ImmutableResource(Resource original) {
+            this.original = original;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (original instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            headers.setCacheControl(IMMUTABLE);
+            return headers;
+        }
+
+        @Override
+        public boolean exists() {
+            return original.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return original.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return original.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return original.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return original.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return original.getFile();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return original.getInputStream();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return original.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return original.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            // Encoded variants (.gz, .br) of a fingerprinted file are fingerprinted too
+            return new ImmutableResource(original.createRelative(relativePath));
+        }
+
+        @Override
+        public String getFilename() {
+            return original.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            // Resources are compared by description, e.g. as keys of the transformer cache,
+            // so this must not equal the description of the same file under its plain URL
+            return "fingerprinted " + original.getDescription();
+        }
+    }
+}
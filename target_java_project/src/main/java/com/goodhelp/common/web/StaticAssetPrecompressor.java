@@ -0,0 +1,143 @@
+package com.goodhelp.common.web;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes gzip variants of the text assets under {@code classpath:/static/} to a local
+ * directory at startup, next to copies of the originals, so the resource chain can serve
+ * {@code .gz} files without compressing on every request.
+ *
+ * <p>Brotli variants ({@code .br}) are not produced here, since the JDK has no Brotli
+ * encoder. The resource chain prefers a {@code .br} file found next to a copy in
+ * {@code goodhelp.assets.precompressed-dir}, so a deploy step can add them there.
+ * Without that setting the files go to a temporary directory removed on shutdown.</p>
+ */
+@Component
+public class StaticAssetPrecompressor {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticAssetPrecompressor.class);
+
+    private static final String STATIC_ROOT = "classpath:/static/";
+    private static final List<String> COMPRESSIBLE = List.of("css", "js", "svg");
+
+    // Compressing tiny files saves nothing after gzip's header and trailer
+    private static final int MIN_SIZE = 512;
+
+    private final boolean enabled;
+    private final String configuredDirectory;
+    private Path directory;
+    private Path temporaryDirectory;
+
+    public StaticAssetPrecompressor(
+            @Value("${goodhelp.assets.cache:true}") boolean enabled,
+            @Value("${goodhelp.assets.precompressed-dir:}") String configuredDirectory) {
+        this.enabled = enabled;
+        this.configuredDirectory = configuredDirectory;
+    }
+
+    @PostConstruct
+    void precompress() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (configuredDirectory.isBlank()) {
+                temporaryDirectory = Files.createTempDirectory("goodhelp-assets");
+                directory = temporaryDirectory;
+            } else {
+                directory = Files.createDirectories(Path.of(configuredDirectory));
+            }
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            String rootUrl = resolver.getResource(STATIC_ROOT).getURL().toExternalForm();
+            int count = 0;
+            for (String extension : COMPRESSIBLE) {
+                for (Resource resource : resolver.getResources(STATIC_ROOT + "**/*." + extension)) {
+                    String url = resource.getURL().toExternalForm();
+                    if (!url.startsWith(rootUrl)) {
+                        continue;
+                    }
+                    if (write(resource, directory.resolve(url.substring(rootUrl.length())).normalize())) {
+                        count++;
+                    }
+                }
+            }
+            log.info("Precompressed {} static assets into {}", count, directory);
+        } catch (IOException e) {
+            log.warn("Static asset precompression failed, serving uncompressed assets: {}", e.getMessage());
+            directory = null;
+        }
+    }
+
+    @PreDestroy
+    void deleteTemporaryDirectory() {
+        if (temporaryDirectory == null) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(temporaryDirectory);
+        } catch (IOException e) {
+            log.warn("Could not delete precompressed assets in {}: {}", temporaryDirectory, e.getMessage());
+        }
+    }
+
+    /**
+     * Resource location holding the copies and gzip variants for a path under
+     * {@code static/} (such as {@code "css/"}), or null if precompression is off or failed.
+     */
+    public String location(String staticPath) {
+        if (directory == null) {
+            return null;
+        }
+        String location = directory.resolve(staticPath).toUri().toString();
+        return location.endsWith("/") ? location : location + "/";
+    }
+
+    private boolean write(Resource resource, Path target) throws IOException {
+        if (!target.startsWith(directory)) {
+            return false;
+        }
+        byte[] content;
+        try (InputStream in = resource.getInputStream()) {
+            content = in.readAllBytes();
+        }
+        Files.createDirectories(target.getParent());
+        Files.write(target, content);
+        if (content.length < MIN_SIZE) {
+            return false;
+        }
+        Path gzipped = target.resolveSibling(target.getFileName() + ".gz");
+        try (OutputStream out = new BestCompressionGzipOutputStream(Files.newOutputStream(gzipped))) {
+            out.write(content);
+        }
+        return true;
+    }
+
+    /**
+     * Gzip stream at the highest compression level; assets are compressed once, so the
+     * extra time is paid only at startup.
+     */
+    private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+        BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
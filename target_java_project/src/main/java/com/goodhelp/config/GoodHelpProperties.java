@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -21,6 +22,7 @@ public class GoodHelpProperties {
     
     private WayForPay wayforpay = new WayForPay();
     private Telegram telegram = new Telegram();
+    private Availability availability = new Availability();
     
     @Data
     public static class WayForPay {
@@ -34,4 +36,50 @@ public class GoodHelpProperties {
         private String botToken;
         private boolean enabled = false;
     }
+    
+    @Data
+    public static class Availability {
+        /**
+         * How long a therapist's in-memory availability is trusted before it is
+         * reloaded (covers changes committed by other application nodes).
+         */
+        private Duration indexMaxAge = Duration.ofMinutes(5);
+
+        /**
+         * How long a slot stays held for an unfinished checkout before it is
+         * released back to AVAILABLE.
+         */
+        private Duration checkoutHold = Duration.ofMinutes(15);
+
+        /**
+         * Maximum number of expired holds released per sweep batch.
+         */
+        private int holdSweepBatchSize = 200;
+
+        /**
+         * Length of a consultation; a booked slot is marked done once it has passed.
+         */
+        private Duration consultationLength = Duration.ofHours(1);
+
+        /**
+         * Maximum number of slots transitioned per lifecycle sweep batch.
+         */
+        private int lifecycleBatchSize = 500;
+
+        /**
+         * Lease of the lifecycle sweep lock; a node that dies mid-sweep frees it after this.
+         */
+        private Duration lifecycleLockLease = Duration.ofMinutes(10);
+
+        /**
+         * Maximum number of rendered booking-page availability payloads kept in memory
+         * (one per therapist, timezone and locale).
+         */
+        private int slotsPayloadCacheSize = 5000;
+
+        /**
+         * How many weeks ahead "free at this time of week" searches look.
+         */
+        private int searchHorizonWeeks = 4;
+    }
 }
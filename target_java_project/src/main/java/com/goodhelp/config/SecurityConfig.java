@@ -219,9 +219,14 @@ public class SecurityConfig {
                                 "/uk/**",
                                 "/therapist-list",
                                 "/json/therapist-list",
+                                "/json/therapist-search",
+                                "/json/profile-search",
                                 "/psiholog/**",
+                                "/profile/**",
+                                "/photo/**",
                                 "/book-consultation/**",
                                 "/api/book-consultation/**",
+                                "/api/therapists/**",
                                 "/api/save-timezone",
                                 "/checkout/**",
                                 "/blog/**",
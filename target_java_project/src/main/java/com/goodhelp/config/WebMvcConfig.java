@@ -1,22 +1,51 @@
 package com.goodhelp.config;
 
+import com.goodhelp.common.web.FingerprintedAssetResolver;
+import com.goodhelp.common.web.StaticAssetPrecompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
+import org.springframework.web.servlet.resource.CssLinkResourceTransformer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 /**
  * Web MVC configuration.
  * Configures locale resolution, interceptors, and static resources.
+ *
+ * <p>Static resources go through a resource chain: URLs built with {@code @{...}} in
+ * templates (and {@code url(...)} in CSS) get a content hash, e.g.
+ * {@code /css/landing/main-3f2a....css}, so responses can be cached as immutable for a year
+ * (see {@link FingerprintedAssetResolver}); the same file requested without the hash is
+ * revalidated on every use. Gzip/brotli variants prepared by {@link StaticAssetPrecompressor} are served to clients
+ * that accept them.</p>
  */
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final StaticAssetPrecompressor precompressor;
+    private final boolean cacheAssets;
+
+    public WebMvcConfig(
+            StaticAssetPrecompressor precompressor,
+            @Value("${goodhelp.assets.cache:true}") boolean cacheAssets) {
+        this.precompressor = precompressor;
+        this.cacheAssets = cacheAssets;
+    }
     
     /**
      * Session-based locale resolver.
@@ -44,15 +73,42 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addInterceptor(localeChangeInterceptor());
     }
     
+    /**
+     * Rewrites resource URLs rendered by Thymeleaf to their content-hashed form.
+     */
+    @Bean
+    public FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+        return new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/static/**")
-                .addResourceLocations("classpath:/static/");
-        registry.addResourceHandler("/img/**")
-                .addResourceLocations("classpath:/static/img/");
-        registry.addResourceHandler("/css/**")
-                .addResourceLocations("classpath:/static/css/");
-        registry.addResourceHandler("/js/**")
-                .addResourceLocations("classpath:/static/js/");
+        addAssetHandler(registry, "/static/**", "");
+        addAssetHandler(registry, "/img/**", "img/");
+        addAssetHandler(registry, "/css/**", "css/");
+        addAssetHandler(registry, "/js/**", "js/");
+    }
+
+    private void addAssetHandler(ResourceHandlerRegistry registry, String pathPattern, String staticPath) {
+        List<String> locations = new ArrayList<>();
+        String precompressed = precompressor.location(staticPath);
+        if (precompressed != null) {
+            locations.add(precompressed);
+        }
+        locations.add("classpath:/static/" + staticPath);
+
+        ResourceChainRegistration chain = registry.addResourceHandler(pathPattern)
+                .addResourceLocations(locations.toArray(String[]::new))
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(cacheAssets);
+        VersionResourceResolver versionResolver = cacheAssets
+                ? new FingerprintedAssetResolver()
+                : new VersionResourceResolver();
+        chain.addResolver(new EncodedResourceResolver())
+                .addResolver(versionResolver.addContentVersionStrategy("/**"));
+        if (cacheAssets) {
+            chain.addTransformer(new FingerprintedAssetResolver.KeepImmutable());
+        }
+        chain.addTransformer(new CssLinkResourceTransformer());
     }
 }
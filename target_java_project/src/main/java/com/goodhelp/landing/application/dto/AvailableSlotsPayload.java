@@ -0,0 +1,14 @@
+package com.goodhelp.landing.application.dto;
+
+/**
+ * Available slots of a therapist together with their serialized JSON form.
+ *
+ * @param slots slots for server-side rendering
+ * @param json UTF-8 JSON of {@code slots}; shared, must not be modified
+ * @param etag strong entity tag derived from {@code json} (quoted)
+ */
+public record AvailableSlotsPayload(
+    AvailableSlotsDto slots,
+    byte[] json,
+    String etag
+) { }
@@ -0,0 +1,24 @@
+package com.goodhelp.landing.application.dto;
+
+import java.util.Map;
+
+/**
+ * Facet counts shown next to the therapist catalog filters.
+ *
+ * @param total number of therapists matching all filters
+ * @param sex therapists per {@code Sex} name
+ * @param types therapists per {@code PriceType} name with a price of that type in range
+ * @param languages therapists per profile language
+ * @param experienceAtLeast therapists with at least N years of experience, per N
+ * @param priceMin lowest price among the matches ignoring the price filter, or null
+ * @param priceMax highest price among the matches ignoring the price filter, or null
+ */
+public record CatalogFacetsDto(
+    int total,
+    Map<String, Integer> sex,
+    Map<String, Integer> types,
+    Map<String, Integer> languages,
+    Map<Integer, Integer> experienceAtLeast,
+    Integer priceMin,
+    Integer priceMax
+) { }
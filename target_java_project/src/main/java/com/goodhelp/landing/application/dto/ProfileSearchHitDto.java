@@ -0,0 +1,14 @@
+package com.goodhelp.landing.application.dto;
+
+/**
+ * One full-text search result.
+ *
+ * @param therapist catalog card of the therapist
+ * @param score relevance, higher is better; only comparable within one result list
+ * @param highlight HTML-escaped snippet with matches wrapped in {@code <mark>}, or null
+ */
+public record ProfileSearchHitDto(
+    TherapistListItemDto therapist,
+    double score,
+    String highlight
+) { }
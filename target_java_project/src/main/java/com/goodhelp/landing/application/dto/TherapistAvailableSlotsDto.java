@@ -0,0 +1,9 @@
+package com.goodhelp.landing.application.dto;
+
+/**
+ * Available slots of one therapist in a multi-therapist availability response.
+ */
+public record TherapistAvailableSlotsDto(
+    Long therapistId,
+    AvailableSlotsDto slots
+) { }
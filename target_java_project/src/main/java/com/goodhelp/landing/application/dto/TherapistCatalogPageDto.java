@@ -0,0 +1,11 @@
+package com.goodhelp.landing.application.dto;
+
+import java.util.List;
+
+/**
+ * Filtered therapist catalog together with the facet counts of the filter.
+ */
+public record TherapistCatalogPageDto(
+    List<TherapistListItemDto> therapists,
+    CatalogFacetsDto facets
+) { }
@@ -1,8 +1,12 @@
 package com.goodhelp.landing.application.dto;
 
+import com.goodhelp.booking.application.AvailabilitySummary;
+import com.goodhelp.common.util.TherapistPhotoUrls;
 import com.goodhelp.therapist.domain.model.Therapist;
 import com.goodhelp.therapist.domain.model.TherapistProfile;
 
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -13,37 +17,102 @@ public record TherapistListItemDto(
     Long id,
     String fullName,
     String photoUrl,
+    String photoSrcset,
     String singlePhrase,
     Integer experienceYears,
     Integer price,
     boolean priceFrom,
     String currency,
-    List<String> specialties
+    List<String> specialties,
+    Instant nextAvailableAt,
+    int freeSlotsThisWeek
 ) {
+    /**
+     * Orders therapists by their earliest bookable slot; therapists without slots go last.
+     */
+    public static final Comparator<TherapistListItemDto> BY_NEXT_AVAILABLE = Comparator.comparing(
+        TherapistListItemDto::nextAvailableAt,
+        Comparator.nullsLast(Comparator.naturalOrder())
+    );
+
+    /**
+     * Orders therapists by their lowest price; therapists without prices go last.
+     */
+    public static final Comparator<TherapistListItemDto> BY_PRICE = Comparator.comparing(
+        TherapistListItemDto::price,
+        Comparator.nullsLast(Comparator.naturalOrder())
+    );
+
     /**
      * Create DTO from domain entity with price information.
+     *
+     * @param photoWidth pixel width of the therapist's original photo, 0 without a photo
      */
-    public static TherapistListItemDto fromEntity(Therapist therapist, Integer minPrice, boolean hasMultiplePrices) {
+    public static TherapistListItemDto fromEntity(
+            Therapist therapist,
+            Integer minPrice,
+            boolean hasMultiplePrices,
+            int photoWidth) {
+        return fromEntity(therapist, minPrice, hasMultiplePrices, photoWidth, null);
+    }
+
+    /**
+     * Create DTO from domain entity with price and availability information.
+     */
+    public static TherapistListItemDto fromEntity(
+            Therapist therapist,
+            Integer minPrice,
+            boolean hasMultiplePrices,
+            int photoWidth,
+            AvailabilitySummary availability) {
         TherapistProfile profile = therapist.getProfile();
         
-        // Build photo URL from profile template
-        String photoUrl = profile != null && profile.getProfileTemplate() != null
-            ? "/assets/landing/img/select-psiholog/" + profile.getProfileTemplate() + ".jpg"
-            : "/assets/landing/img/placeholder-therapist.jpg";
+        // Build photo URLs from profile template
+        String profileTemplate = profile != null ? profile.getProfileTemplate() : null;
         
         return new TherapistListItemDto(
             therapist.getId(),
             therapist.getFullName(),
-            photoUrl,
+            TherapistPhotoUrls.url(profileTemplate, TherapistPhotoUrls.CARD),
+            TherapistPhotoUrls.srcset(profileTemplate, photoWidth),
             "gestalt_therapist_and_lgbt_friendly_psiholog", // Placeholder - would come from extended profile
             profile != null ? profile.getYearsOfExperience() : null,
             minPrice,
             hasMultiplePrices,
             "₴",
-            List.of("Crisis_and_trauma", "Interpersonal_relations", "Sexology") // Placeholder - would come from extended profile
+            List.of("Crisis_and_trauma", "Interpersonal_relations", "Sexology"), // Placeholder - would come from extended profile
+            availability != null ? availability.nextAvailableAt() : null,
+            availability != null ? availability.totalSlots() : 0
         );
     }
 
+    /**
+     * Copy of this card with the given availability (null clears it).
+     */
+    public TherapistListItemDto withAvailability(AvailabilitySummary availability) {
+        return new TherapistListItemDto(
+            id,
+            fullName,
+            photoUrl,
+            photoSrcset,
+            singlePhrase,
+            experienceYears,
+            price,
+            priceFrom,
+            currency,
+            specialties,
+            availability != null ? availability.nextAvailableAt() : null,
+            availability != null ? availability.totalSlots() : 0
+        );
+    }
+
+    /**
+     * Check if the therapist has bookable slots in the coming week.
+     */
+    public boolean hasAvailabilityThisWeek() {
+        return freeSlotsThisWeek > 0;
+    }
+
     /**
      * Get formatted price string.
      */
@@ -1,13 +1,16 @@
 package com.goodhelp.landing.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.*;
 
 /**
- * Static data provider for therapist profile information.
- * In a production system, this would come from a database or external service.
- * 
- * This class stores extended profile information that doesn't fit in the main 
- * database schema (multi-language content, detailed education, methods, etc.)
+ * Topic constants and types of the extended therapist profile information.
+ *
+ * The content itself (multi-language about text, detailed education, methods, etc.)
+ * is stored per therapist and locale in {@code therapist_profile_content} and read
+ * through {@code TherapistProfileContentStore}. Localized maps hold only the
+ * loaded locale, keyed "ua", "ru" or "en".
  */
 public final class TherapistProfileData {
 
@@ -100,8 +103,7 @@ public final class TherapistProfileData {
         result.put(GROUP_LIFE_EVENTS, new ArrayList<>());
         
         for (String topic : topics) {
-            String group = TOPIC_TO_GROUP.getOrDefault(topic, GROUP_MY_STATE);
-            result.get(group).add(topic);
+            result.get(groupOf(topic)).add(topic);
         }
         
         // Remove empty groups
@@ -111,23 +113,22 @@ public final class TherapistProfileData {
     }
 
     /**
-     * Get profile data for a therapist by ID.
-     * Returns null if not found.
+     * Group of a topic; unknown topics fall into {@link #GROUP_MY_STATE}, as in {@link #groupTopics}.
      */
-    public static ProfileInfo getProfileInfo(Long therapistId) {
-        return PROFILES.get(therapistId);
+    public static String groupOf(String topic) {
+        return TOPIC_TO_GROUP.getOrDefault(topic, GROUP_MY_STATE);
     }
 
     /**
-     * Profile information record.
+     * Profile information record, as stored in the content JSON.
      */
     public record ProfileInfo(
         String singlePhrase,
         List<String> specialties,
         int experienceYears,
         Integer profileCourses,
-        boolean hasPsychologistDiploma,
-        boolean isNotTherapist,
+        @JsonProperty("hasPsychologistDiploma") boolean hasPsychologistDiploma,
+        @JsonProperty("isNotTherapist") boolean isNotTherapist,
         List<String> therapyTypes,
         Map<String, String> about,
         List<String> worksWith,
@@ -153,130 +154,4 @@ public final class TherapistProfileData {
         String body,
         String created
     ) {}
-
-    // Static profile data (in production, this would come from database)
-    private static final Map<Long, ProfileInfo> PROFILES = new HashMap<>();
-
-    static {
-        // Example therapist profile - ID 8 (Mariya Koroyed from PHP)
-        PROFILES.put(8L, new ProfileInfo(
-            "gestalt_therapist_and_lgbt_friendly_psiholog",
-            List.of("Sexology", "Crisis_and_trauma", "Organizational_consulting", "Interpersonal_relations"),
-            5,
-            4,
-            true,
-            false,
-            List.of("Individual", "Couple", "Teenager"),
-            Map.of(
-                "ru", """
-                    <p>Я энергичная, внимательная, с уважением отношусь к инаковости другого. Я верю в уникальность каждого, и что эта уникальность имеет право проявляться во всех областях жизни. Готова быть рядом, когда трудно: слушать и слышать тебя, если надо выговориться; порадоваться вместе с тобой, твоим большим и маленьким успехам.</p>
-                    <p>Темы с которыми точно ко мне:<br>
-                    - Принятие себя.<br>
-                    - Кризисы в браке и вообще в отношениях.<br>
-                    - Сексуальность, женская идентичность.<br>
-                    - Как не потерять себя как женщину, как личность, в семье и с ребенком.</p>
-                    """,
-                "ua", """
-                    <p>Я енергійна, уважна, з повагою ставлюся до інаковості іншого. Я вірю в унікальність кожного, і що ця унікальність має право виявлятися у всіх сферах життя. Готова бути поряд, коли важко: слухати і чути тебе, якщо треба виговоритись; порадіти разом з тобою, твоїм великим та маленьким успіхам.</p>
-                    <p>Теми з якими точно до мене:<br>
-                    - Прийняття себе.<br>
-                    - Кризи у шлюбі та взагалі в відносинах.<br>
-                    - Сексуальність, жіноча ідентичність.<br>
-                    - Як не втратити себе як жінку, як особистість, у сім'ї та з дитиною.</p>
-                    """,
-                "en", """
-                    <p>I am energetic, attentive, and respectful of others' differences. I believe in the uniqueness of each person and that this uniqueness has the right to manifest in all areas of life. I am ready to be there when things are difficult: to listen and hear you if you need to talk; to rejoice with you in your big and small successes.</p>
-                    <p>Topics to definitely bring to me:<br>
-                    - Self-acceptance.<br>
-                    - Crises in marriage and relationships in general.<br>
-                    - Sexuality, female identity.<br>
-                    - How not to lose yourself as a woman, as a person, in family and with children.</p>
-                    """
-            ),
-            List.of(
-                STRESS, ANXIETY, DEPRESSION, PANIC_ATTACKS, DECLINE_OF_STRENGTH,
-                LOW_SELF_ESTEEM, MOOD_SWINGS, IRRITABILITY, AGGRESSION, SLEEP_PROBLEMS,
-                A_FEELING_OF_LONELINESS, EMOTIONAL_DEPENDENCE, RELATIONSHIP_WITH_A_PARTNER,
-                RELATIONS_WITH_PARENTS, RELATIONSHIP_WITH_CHILDREN, RELATIONSHIPS_IN_GENERAL,
-                SEXUAL_PROBLEMS, DIFFICULTIES_WITH_ORIENTATION, BURNOUT, LACK_OF_MOTIVATION,
-                PROCRASTINATION, I_DONT_KNOW_WHAT_I_WANT, CHANGE_JOB_LOSS, WAR,
-                MOVING_EMIGRATING, PREGNANCY, BIRTH_OF_A_CHILD, FINANCIAL_CHANGES,
-                BREAKUP_OF_RELATIONS, TREASON
-            ),
-            new Education(
-                2,
-                5,
-                List.of(
-                    new EducationItem("2020-2022", Map.of(
-                        "ru", "Магистр психологии, «Межрегиональная академия управления персоналом»",
-                        "ua", "Магістр психології, «Міжрегіональна академія управління персоналом»",
-                        "en", "Master of Psychology, Interregional Academy of Personnel Management"
-                    )),
-                    new EducationItem("2007-2011", Map.of(
-                        "ru", "Магистр социологии, «Академия труда и социальных отношений»",
-                        "ua", "Магістр соціології, «Академія праці та соціальних відносин»",
-                        "en", "Master of Sociology, Academy of Labor and Social Relations"
-                    )),
-                    new EducationItem("2018-2022", Map.of(
-                        "ru", "Гештальт-терапевт, сертифицированный Московским Гештальт Институтом",
-                        "ua", "Гештальт-терапевт, сертифікований Московським Гештальт Інститутом",
-                        "en", "Gestalt therapist, certified by the Moscow Gestalt Institute"
-                    ))
-                )
-            ),
-            List.of(
-                "Gestalt_therapy",
-                "Systemic_family_therapy",
-                "Art_therapy",
-                "Body_therapy"
-            ),
-            List.of(
-                Map.of(
-                    "ru", "Европейская Ассоциация Гештальт Терапии (EAGT)",
-                    "ua", "Європейська Асоціація Гештальт Терапії (EAGT)",
-                    "en", "European Association for Gestalt Therapy (EAGT)"
-                )
-            ),
-            List.of(
-                new Review(
-                    "Анна",
-                    "Очень внимательный и понимающий специалист. Помогла мне разобраться в сложной жизненной ситуации.",
-                    "2024-01-15"
-                ),
-                new Review(
-                    "Марія",
-                    "Рекомендую! Після декількох сесій почала краще розуміти себе та свої почуття.",
-                    "2024-02-20"
-                )
-            )
-        ));
-
-        // Add more sample profiles for testing
-        PROFILES.put(1L, new ProfileInfo(
-            "clinical_psiholog",
-            List.of("Crisis_and_trauma", "Psychosomatics", "Emotional_intelligence"),
-            8,
-            6,
-            true,
-            false,
-            List.of("Individual", "Couple"),
-            Map.of(
-                "en", "<p>Experienced clinical psychologist specializing in trauma and crisis intervention. I use evidence-based approaches to help clients overcome difficult life situations.</p>",
-                "ua", "<p>Досвідчений клінічний психолог, який спеціалізується на травмах та кризовій інтервенції. Використовую доказові підходи для допомоги клієнтам у подоланні складних життєвих ситуацій.</p>",
-                "ru", "<p>Опытный клинический психолог, специализирующийся на травмах и кризисной интервенции. Использую доказательные подходы для помощи клиентам в преодолении сложных жизненных ситуаций.</p>"
-            ),
-            List.of(STRESS, ANXIETY, DEPRESSION, PANIC_ATTACKS, WAR, LOSS_OF_LOVED_ONE, BURNOUT),
-            new Education(2, 3, List.of(
-                new EducationItem("2015-2020", Map.of(
-                    "en", "PhD in Clinical Psychology, National University",
-                    "ua", "Кандидат психологічних наук, Національний університет",
-                    "ru", "Кандидат психологических наук, Национальный университет"
-                ))
-            )),
-            List.of("Cognitive_behavioral_therapy_cbt", "Psychoanalysis", "Existential_therapy"),
-            List.of(),
-            List.of()
-        ));
-    }
 }
-
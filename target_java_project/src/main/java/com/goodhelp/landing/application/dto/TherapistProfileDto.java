@@ -11,6 +11,7 @@ public record TherapistProfileDto(
     Long id,
     String fullName,
     String photoUrl,
+    String photoSrcset,
     String singlePhrase,
     Integer experienceYears,
     Integer profileCourses,
@@ -0,0 +1,409 @@
+package com.goodhelp.landing.application.service;
+
+import com.goodhelp.landing.application.dto.ProfileSearchHitDto;
+import com.goodhelp.landing.application.dto.TherapistListItemDto;
+import com.goodhelp.landing.application.dto.TherapistProfileData;
+import com.goodhelp.landing.application.dto.TherapistProfileData.ProfileInfo;
+import com.goodhelp.landing.application.service.ProfileTextAnalyzer.Token;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-process full-text index over the public therapist profiles, one inverted index
+ * per site locale (uk, ru, en).
+ *
+ * <p>Indexed per therapist: name, topic, specialty, method and therapy type labels
+ * (translated through the message bundles), the profile text, education, associations
+ * and reviews. Fields are weighted and results ranked with BM25; the last query word
+ * also matches as a prefix, so search-as-you-type works.</p>
+ *
+ * <p>The index follows the {@link TherapistCatalogSnapshot}: on every
+ * {@link TherapistCatalogRebuiltEvent} a new, immutable generation of the index is built on
+ * the rebuilding thread and swapped in behind a volatile reference, so searches never wait
+ * and never touch the database. Only therapists whose card or profile content version changed
+ * are re-analyzed, with their content in every locale read in one query; the others carry
+ * over from the previous generation, and therapists no longer in the catalog are dropped.</p>
+ */
+@Service
+public class ProfileSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileSearchIndex.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_PREFIX_EXPANSIONS = 20;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int SNIPPET_LENGTH = 200;
+    private static final int SNIPPET_LEAD = 60;
+
+    private static final float WEIGHT_NAME = 4f;
+    private static final float WEIGHT_LABEL = 3f;
+    private static final float WEIGHT_TEXT = 1f;
+    private static final float WEIGHT_REVIEW = 0.5f;
+
+    private final MessageSource messageSource;
+    private final TherapistCatalogSnapshotHolder catalogSnapshot;
+    private final TherapistProfileContentStore contentStore;
+
+    private volatile Generation generation;
+
+    public ProfileSearchIndex(
+            MessageSource messageSource,
+            TherapistCatalogSnapshotHolder catalogSnapshot,
+            TherapistProfileContentStore contentStore) {
+        this.messageSource = messageSource;
+        this.catalogSnapshot = catalogSnapshot;
+        this.contentStore = contentStore;
+    }
+
+    /**
+     * Ranked profiles matching the query, with a highlighted snippet of the best matching field.
+     * Cards carry no availability.
+     *
+     * @param locale site locale (uk, ru, en); unknown locales search the uk index
+     * @param limit maximum number of hits
+     */
+    public List<ProfileSearchHitDto> search(String query, String locale, int limit) {
+        String indexLocale = ProfileTextAnalyzer.LOCALES.contains(locale) ? locale : ProfileTextAnalyzer.UK;
+        List<Token> tokens = ProfileTextAnalyzer.tokenize(query == null ? "" : query, indexLocale);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Generation current = current();
+        LocaleIndex index = current.indexes().get(indexLocale);
+
+        Set<String> terms = new HashSet<>();
+        for (Token token : tokens) {
+            if (token.term() != null) {
+                terms.add(token.term());
+            }
+        }
+        // The word being typed also matches longer terms
+        Token last = tokens.get(tokens.size() - 1);
+        String prefix = last.term() != null && last.term().length() >= MIN_PREFIX_LENGTH ? last.term() : null;
+        Set<String> expanded = new HashSet<>(terms);
+        if (prefix != null) {
+            expanded.addAll(index.termsStartingWith(prefix, MAX_PREFIX_EXPANSIONS));
+        }
+        if (expanded.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = index.score(expanded);
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        List<ProfileSearchHitDto> hits = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Map.Entry<Long, Double> entry : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            IndexedProfile profile = current.profiles().get(entry.getKey());
+            hits.add(new ProfileSearchHitDto(
+                profile.item(),
+                entry.getValue(),
+                highlight(profile.documents().get(indexLocale).fields(), indexLocale, expanded, prefix)
+            ));
+        }
+        return hits;
+    }
+
+    @EventListener
+    public void onCatalogRebuilt(TherapistCatalogRebuiltEvent event) {
+        try {
+            rebuild(event.snapshot());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild profile search index, keeping the previous one", e);
+        }
+    }
+
+    /**
+     * Current generation. Only a search before the first catalog build builds it on the calling thread.
+     */
+    private Generation current() {
+        Generation current = generation;
+        if (current != null) {
+            return current;
+        }
+        rebuild(catalogSnapshot.current());
+        return generation;
+    }
+
+    /**
+     * Build and swap in a generation for a catalog snapshot, re-analyzing changed profiles only.
+     */
+    private synchronized void rebuild(TherapistCatalogSnapshot snapshot) {
+        Generation previous = generation;
+        if (previous != null && previous.snapshot() == snapshot) {
+            return;
+        }
+        Map<Long, IndexedProfile> previousProfiles = previous != null ? previous.profiles() : Map.of();
+        Map<Long, IndexedProfile> profiles = new HashMap<>(snapshot.items().size() * 2);
+        List<TherapistListItemDto> changed = new ArrayList<>();
+        for (TherapistListItemDto item : snapshot.items()) {
+            IndexedProfile current = previousProfiles.get(item.id());
+            if (current != null && current.item().equals(item)
+                    && Objects.equals(current.contentVersion(), snapshot.contentVersions().get(item.id()))) {
+                profiles.put(item.id(), current);
+            } else {
+                changed.add(item);
+            }
+        }
+        int kept = profiles.size();
+
+        if (!changed.isEmpty()) {
+            Map<Long, Map<String, ProfileInfo>> content = contentStore.loadAllLocales(
+                changed.stream().map(TherapistListItemDto::id).toList());
+            for (TherapistListItemDto item : changed) {
+                profiles.put(item.id(), analyze(
+                    item, snapshot.contentVersions().get(item.id()), content.getOrDefault(item.id(), Map.of())));
+            }
+        }
+
+        Map<String, LocaleIndex> indexes = new HashMap<>();
+        for (String locale : ProfileTextAnalyzer.LOCALES) {
+            indexes.put(locale, new LocaleIndex(locale, profiles.values()));
+        }
+        generation = new Generation(snapshot, Map.copyOf(profiles), Map.copyOf(indexes));
+        if (!changed.isEmpty() || kept < previousProfiles.size()) {
+            log.debug("Profile search index: {} profiles re-indexed, {} removed",
+                changed.size(), previousProfiles.size() - kept);
+        }
+    }
+
+    private IndexedProfile analyze(TherapistListItemDto item, Integer contentVersion, Map<String, ProfileInfo> infoByLocale) {
+        Map<String, Document> documents = new HashMap<>();
+        for (String locale : ProfileTextAnalyzer.LOCALES) {
+            List<Field> fields = fields(item, infoByLocale.get(locale), locale);
+            Map<String, Float> frequencies = new HashMap<>();
+            float length = 0;
+            for (Field field : fields) {
+                for (String term : ProfileTextAnalyzer.terms(field.text(), locale)) {
+                    frequencies.merge(term, field.weight(), Float::sum);
+                    length += field.weight();
+                }
+            }
+            documents.put(locale, new Document(fields, frequencies, length));
+        }
+        return new IndexedProfile(item, contentVersion, documents);
+    }
+
+    private List<Field> fields(TherapistListItemDto item, ProfileInfo info, String locale) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field(item.fullName(), WEIGHT_NAME));
+        if (info == null) {
+            return fields;
+        }
+        Locale messageLocale = Locale.forLanguageTag(locale);
+        addLabel(fields, info.singlePhrase(), messageLocale);
+        // Any of the label lists may be missing from a document
+        for (List<String> keys : Arrays.asList(info.worksWith(), info.specialties(), info.methods(), info.therapyTypes())) {
+            if (keys != null) {
+                keys.forEach(key -> addLabel(fields, key, messageLocale));
+            }
+        }
+        if (info.about() != null) {
+            info.about().forEach((key, html) -> {
+                if (locale.equals(ProfileTextAnalyzer.locale(key))) {
+                    fields.add(new Field(ProfileTextAnalyzer.plainText(html), WEIGHT_TEXT));
+                }
+            });
+        }
+        if (info.education() != null && info.education().list() != null) {
+            for (TherapistProfileData.EducationItem education : info.education().list()) {
+                addLocalized(fields, education.name(), locale);
+            }
+        }
+        if (info.associationAndSupervision() != null) {
+            info.associationAndSupervision().forEach(association -> addLocalized(fields, association, locale));
+        }
+        if (info.reviews() != null) {
+            for (TherapistProfileData.Review review : info.reviews()) {
+                fields.add(new Field(ProfileTextAnalyzer.plainText(review.body()), WEIGHT_REVIEW));
+            }
+        }
+        return fields;
+    }
+
+    private void addLabel(List<Field> fields, String key, Locale locale) {
+        if (key == null) {
+            return;
+        }
+        String label = messageSource.getMessage(key, null, null, locale);
+        if (label != null) {
+            fields.add(new Field(label, WEIGHT_LABEL));
+        }
+    }
+
+    private static void addLocalized(List<Field> fields, Map<String, String> texts, String locale) {
+        if (texts == null) {
+            return;
+        }
+        texts.forEach((key, text) -> {
+            if (locale.equals(ProfileTextAnalyzer.locale(key))) {
+                fields.add(new Field(ProfileTextAnalyzer.plainText(text), WEIGHT_TEXT));
+            }
+        });
+    }
+
+    /**
+     * HTML-escaped snippet of the field with the most matching words, matches wrapped in {@code <mark>}.
+     */
+    private static String highlight(List<Field> fields, String locale, Set<String> terms, String prefix) {
+        Field best = null;
+        List<Token> bestTokens = null;
+        float bestScore = 0;
+        for (Field field : fields) {
+            List<Token> tokens = ProfileTextAnalyzer.tokenize(field.text(), locale);
+            float score = 0;
+            for (Token token : tokens) {
+                if (matches(token, terms, prefix)) {
+                    score += field.weight();
+                }
+            }
+            if (score > bestScore) {
+                best = field;
+                bestTokens = tokens;
+                bestScore = score;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+
+        String text = best.text();
+        int firstMatch = 0;
+        for (Token token : bestTokens) {
+            if (matches(token, terms, prefix)) {
+                firstMatch = token.start();
+                break;
+            }
+        }
+        int start = firstMatch <= SNIPPET_LEAD ? 0 : text.lastIndexOf(' ', firstMatch - SNIPPET_LEAD) + 1;
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        if (end < text.length()) {
+            int space = text.lastIndexOf(' ', end);
+            end = space > firstMatch ? space : end;
+        }
+
+        StringBuilder snippet = new StringBuilder(end - start + 32);
+        if (start > 0) {
+            snippet.append("… ");
+        }
+        int position = start;
+        for (Token token : bestTokens) {
+            if (token.start() < start || token.end() > end || !matches(token, terms, prefix)) {
+                continue;
+            }
+            appendEscaped(snippet, text, position, token.start());
+            snippet.append("<mark>");
+            appendEscaped(snippet, text, token.start(), token.end());
+            snippet.append("</mark>");
+            position = token.end();
+        }
+        appendEscaped(snippet, text, position, end);
+        if (end < text.length()) {
+            snippet.append(" …");
+        }
+        return snippet.toString();
+    }
+
+    private static boolean matches(Token token, Set<String> terms, String prefix) {
+        return token.term() != null && (terms.contains(token.term()) || prefix != null && token.term().startsWith(prefix));
+    }
+
+    private static void appendEscaped(StringBuilder target, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> target.append("&lt;");
+                case '>' -> target.append("&gt;");
+                case '&' -> target.append("&amp;");
+                case '"' -> target.append("&quot;");
+                default -> target.append(c);
+            }
+        }
+    }
+
+    private record Field(String text, float weight) {}
+
+    /**
+     * Analyzed profile of a therapist in one locale: its fields, and weighted term frequencies for BM25.
+     */
+    private record Document(List<Field> fields, Map<String, Float> frequencies, float length) {}
+
+    private record IndexedProfile(TherapistListItemDto item, Integer contentVersion, Map<String, Document> documents) {}
+
+    /**
+     * One immutable version of the whole index, for one catalog snapshot.
+     */
+    private record Generation(
+        TherapistCatalogSnapshot snapshot,
+        Map<Long, IndexedProfile> profiles,
+        Map<String, LocaleIndex> indexes
+    ) {}
+
+    /**
+     * Postings of one locale: term to weighted frequency per therapist, plus document lengths for BM25.
+     * Not modified after construction.
+     */
+    private static final class LocaleIndex {
+
+        private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+        private final Map<Long, Float> lengths = new HashMap<>();
+        private double totalLength;
+
+        LocaleIndex(String locale, Collection<IndexedProfile> profiles) {
+            for (IndexedProfile profile : profiles) {
+                Long id = profile.item().id();
+                Document document = profile.documents().get(locale);
+                lengths.put(id, document.length());
+                totalLength += document.length();
+                document.frequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, frequency));
+            }
+        }
+
+        List<String> termsStartingWith(String prefix, int limit) {
+            List<String> terms = new ArrayList<>();
+            for (String term : postings.tailMap(prefix, true).keySet()) {
+                if (!term.startsWith(prefix) || terms.size() == limit) {
+                    break;
+                }
+                terms.add(term);
+            }
+            return terms;
+        }
+
+        Map<Long, Double> score(Set<String> terms) {
+            int documentCount = lengths.size();
+            double averageLength = documentCount > 0 ? totalLength / documentCount : 1;
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((id, frequency) -> {
+                    double norm = K1 * (1 - B + B * lengths.get(id) / averageLength);
+                    scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.goodhelp.landing.application.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits profile text into search terms: lowercased words with HTML removed,
+ * stop words dropped and a light suffix-stripping stemmer for uk, ru and en.
+ *
+ * <p>The stemmers only strip one common inflection ending and keep at least three
+ * letters, which is enough to match "тривога" with "тривоги" or "relationships" with
+ * "relationship" without a dictionary. Derivational suffixes are left alone. The same analysis runs on documents and queries.</p>
+ */
+public final class ProfileTextAnalyzer {
+
+    public static final String UK = "uk";
+    public static final String RU = "ru";
+    public static final String EN = "en";
+    public static final List<String> LOCALES = List.of(UK, RU, EN);
+
+    private static final int MIN_STEM_LENGTH = 3;
+
+    /** Endings by locale, sorted longest first so the longest matching one is stripped. */
+    private static final Map<String, String[]> ENDINGS = Map.of(
+        UK, longestFirst(
+            "іями", "іях", "іям", "ією", "ями", "ами", "ого", "ому", "ими", "іми",
+            "ий", "ій", "ої", "ою", "ею", "ів", "ам", "ям", "ах", "ях", "ом", "ем", "ія", "ії", "ти", "ся",
+            "а", "я", "о", "е", "и", "і", "у", "ю", "ь"
+        ),
+        RU, longestFirst(
+            "иями", "иях", "иям", "ием", "ией", "ями", "ами", "ого", "его", "ому", "ему", "ыми", "ими",
+            "ый", "ий", "ой", "ая", "яя", "ое", "ее", "ые", "ие", "ов", "ев", "ей", "ам", "ям", "ах", "ях",
+            "ом", "ем", "ью", "ия", "ии", "ть", "ся",
+            "а", "я", "о", "е", "ы", "и", "у", "ю", "ь"
+        ),
+        EN, longestFirst(
+            "ations", "ation", "ingly", "ness", "ment", "ings", "ing", "ies", "ied", "ed", "es", "ly", "s"
+        )
+    );
+
+    private static final Map<String, Set<String>> STOP_WORDS = Map.of(
+        UK, Set.of("і", "й", "та", "в", "у", "на", "з", "із", "зі", "до", "що", "як", "не", "я", "ти", "це", "для", "по", "від", "або"),
+        RU, Set.of("и", "в", "во", "на", "с", "со", "к", "до", "что", "как", "не", "я", "ты", "это", "для", "по", "от", "или", "а"),
+        EN, Set.of("a", "an", "and", "the", "of", "to", "in", "on", "for", "with", "i", "you", "is", "are", "it", "or", "as", "at")
+    );
+
+    private ProfileTextAnalyzer() {
+    }
+
+    /**
+     * A word of the analyzed text.
+     *
+     * @param start offset of the first character in the text
+     * @param end offset after the last character
+     * @param term search term, or null for a stop word
+     */
+    public record Token(int start, int end, String term) {}
+
+    /**
+     * Normalize a profile locale key ({@code "ua"} is used for Ukrainian in profile data).
+     */
+    public static String locale(String key) {
+        return "ua".equals(key) ? UK : key;
+    }
+
+    /**
+     * Replace HTML tags and entities with spaces and collapse whitespace.
+     */
+    public static String plainText(String html) {
+        if (html == null) {
+            return "";
+        }
+        return html.replaceAll("<[^>]*>", " ")
+            .replaceAll("&[a-zA-Z#0-9]+;", " ")
+            .replaceAll("\\s+", " ")
+            .trim();
+    }
+
+    /**
+     * Words of a plain text with their offsets and terms.
+     */
+    public static List<Token> tokenize(String text, String locale) {
+        List<Token> tokens = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !isWordChar(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && (isWordChar(text.charAt(i)) || isApostrophe(text, i))) {
+                i++;
+            }
+            if (i > start) {
+                tokens.add(new Token(start, i, term(text.substring(start, i), locale)));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Terms of a text, stop words removed.
+     */
+    public static List<String> terms(String text, String locale) {
+        List<String> terms = new ArrayList<>();
+        for (Token token : tokenize(text, locale)) {
+            if (token.term() != null) {
+                terms.add(token.term());
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Search term of one word, or null for a stop word.
+     */
+    public static String term(String word, String locale) {
+        String normalized = word.toLowerCase(Locale.ROOT)
+            .replace('ё', 'е')
+            .replace("'", "")
+            .replace("’", "")
+            .replace("ʼ", "");
+        if (normalized.isEmpty() || STOP_WORDS.getOrDefault(locale, Set.of()).contains(normalized)) {
+            return null;
+        }
+        return stem(normalized, locale);
+    }
+
+    private static String stem(String word, String locale) {
+        String[] endings = ENDINGS.get(locale);
+        if (endings == null) {
+            return word;
+        }
+        for (String ending : endings) {
+            if (word.length() - ending.length() >= MIN_STEM_LENGTH && word.endsWith(ending)) {
+                if (EN.equals(locale) && "s".equals(ending) && word.endsWith("ss")) {
+                    return word;
+                }
+                return word.substring(0, word.length() - ending.length());
+            }
+        }
+        return word;
+    }
+
+    private static String[] longestFirst(String... endings) {
+        String[] sorted = endings.clone();
+        Arrays.sort(sorted, Comparator.comparingInt(String::length).reversed());
+        return sorted;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isApostrophe(String text, int i) {
+        char c = text.charAt(i);
+        return (c == '\'' || c == '’' || c == 'ʼ')
+            && i + 1 < text.length() && Character.isLetter(text.charAt(i + 1));
+    }
+}
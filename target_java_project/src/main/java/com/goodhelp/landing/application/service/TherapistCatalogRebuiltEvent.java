@@ -0,0 +1,11 @@
+package com.goodhelp.landing.application.service;
+
+/**
+ * Published by {@link TherapistCatalogSnapshotHolder} on the thread that built a new
+ * snapshot, right after it was swapped in. Listeners derive their own indexes from it
+ * off the request path.
+ *
+ * @param snapshot the snapshot now being served
+ */
+public record TherapistCatalogRebuiltEvent(TherapistCatalogSnapshot snapshot) {
+}
@@ -0,0 +1,119 @@
+package com.goodhelp.landing.application.service;
+
+import com.goodhelp.landing.application.dto.TherapistListItemDto;
+import com.goodhelp.landing.application.dto.TherapistProfileData.ProfileInfo;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistPrice;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.therapist.domain.model.TherapistProfileContentVersion;
+import com.goodhelp.therapist.domain.model.TherapistSettings;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Fully built, immutable view of the public therapist catalog.
+ *
+ * <p>Cards carry everything except availability, which changes with every booking
+ * and is added per request from the in-memory availability index.</p>
+ *
+ * @param items catalog cards in catalog order, without availability
+ * @param byId cards by therapist ID
+ * @param bySlug cards by profile template, the therapist's public key in asset and page URLs
+ * @param timeCapHours schedule time cap per therapist ID, in catalog order
+ * @param topics therapists by topic and topic group, over catalog positions
+ * @param facets filterable attributes (price, sex, experience, language), over catalog positions
+ * @param contentVersions per therapist ID, a number that changes whenever its profile content changes
+ * @param builtAt when the snapshot was read from the database
+ */
+public record TherapistCatalogSnapshot(
+    List<TherapistListItemDto> items,
+    Map<Long, TherapistListItemDto> byId,
+    Map<String, TherapistListItemDto> bySlug,
+    Map<Long, Integer> timeCapHours,
+    TherapistTopicIndex topics,
+    TherapistFacetIndex facets,
+    Map<Long, Integer> contentVersions,
+    Instant builtAt
+) {
+
+    /**
+     * Build a snapshot from active therapists, their active prices and profile content.
+     *
+     * @param profiles locale-neutral profile content by therapist ID
+     * @param contentVersions locales and versions of the therapists' profile content
+     * @param photoWidths pixel width of the original photo by profile template, 0 without a photo
+     */
+    public static TherapistCatalogSnapshot build(
+            List<Therapist> therapists,
+            List<TherapistPrice> prices,
+            Map<Long, ProfileInfo> profiles,
+            List<TherapistProfileContentVersion> contentVersions,
+            ToIntFunction<String> photoWidths,
+            Instant builtAt) {
+        Map<Long, int[]> priceStats = new HashMap<>();  // therapist ID -> {min price, count}
+        for (TherapistPrice price : prices) {
+            int[] stats = priceStats.computeIfAbsent(price.getTherapistId(), id -> new int[] {Integer.MAX_VALUE, 0});
+            stats[0] = Math.min(stats[0], price.getPrice());
+            stats[1]++;
+        }
+
+        List<TherapistListItemDto> items = new ArrayList<>(therapists.size());
+        Map<Long, TherapistListItemDto> byId = new HashMap<>(therapists.size() * 2);
+        Map<String, TherapistListItemDto> bySlug = new HashMap<>(therapists.size() * 2);
+        Map<Long, Integer> timeCapHours = new LinkedHashMap<>(therapists.size() * 2);
+        for (Therapist therapist : therapists) {
+            int[] stats = priceStats.get(therapist.getId());
+            TherapistProfile profile = therapist.getProfile();
+            TherapistListItemDto item = TherapistListItemDto.fromEntity(
+                therapist,
+                stats != null ? stats[0] : null,
+                stats != null && stats[1] > 1,
+                profile != null ? photoWidths.applyAsInt(profile.getProfileTemplate()) : 0
+            );
+            items.add(item);
+            byId.put(therapist.getId(), item);
+            if (profile != null && profile.getProfileTemplate() != null) {
+                bySlug.putIfAbsent(profile.getProfileTemplate(), item);
+            }
+            timeCapHours.put(therapist.getId(), therapist.getSettingsOptional()
+                .map(TherapistSettings::getScheduleTimeCapHours)
+                .orElse(3));
+        }
+
+        List<TherapistListItemDto> catalog = List.copyOf(items);
+        TherapistTopicIndex topics = TherapistTopicIndex.build(catalog, id -> {
+            ProfileInfo info = profiles.get(id);
+            return info != null ? info.worksWith() : null;
+        });
+
+        // A therapist's profile languages are the locales it has content in
+        Map<Long, Set<String>> languages = new HashMap<>();
+        Map<Long, Integer> versions = new HashMap<>();
+        for (TherapistProfileContentVersion version : contentVersions) {
+            languages.computeIfAbsent(version.therapistId(), id -> new HashSet<>()).add(version.locale());
+            // Sum of (version + 1): grows with every update and insert of the therapist's documents
+            versions.merge(version.therapistId(), version.version() + 1, Integer::sum);
+        }
+        TherapistFacetIndex facets = TherapistFacetIndex.build(therapists, prices, languages::get);
+
+        return new TherapistCatalogSnapshot(
+            catalog,
+            Map.copyOf(byId),
+            Map.copyOf(bySlug),
+            Collections.unmodifiableMap(timeCapHours),
+            topics,
+            facets,
+            Map.copyOf(versions),
+            builtAt
+        );
+    }
+}
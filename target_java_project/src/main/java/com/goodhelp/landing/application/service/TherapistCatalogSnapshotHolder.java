@@ -0,0 +1,150 @@
+package com.goodhelp.landing.application.service;
+
+import com.goodhelp.common.service.TherapistPhotoVariantService;
+import com.goodhelp.therapist.domain.event.TherapistCatalogChangedEvent;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.repository.TherapistPriceRepository;
+import com.goodhelp.therapist.domain.repository.TherapistProfileContentRepository;
+import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the current {@link TherapistCatalogSnapshot} behind a volatile reference.
+ *
+ * <p>Readers only dereference the pointer. A new snapshot is built on a background
+ * thread whenever catalog data is committed ({@link TherapistCatalogChangedEvent}),
+ * after startup and periodically as a safety net for changes made outside Hibernate,
+ * and then swapped in as a whole. Bursts of changes collapse into one rebuild.
+ * Each new snapshot is announced with a {@link TherapistCatalogRebuiltEvent}.</p>
+ */
+@Service
+public class TherapistCatalogSnapshotHolder {
+
+    private static final Logger log = LoggerFactory.getLogger(TherapistCatalogSnapshotHolder.class);
+
+    private final TherapistRepository therapistRepository;
+    private final TherapistPriceRepository priceRepository;
+    private final TherapistProfileContentRepository profileContentRepository;
+    private final TherapistProfileContentStore profileContentStore;
+    private final TherapistPhotoVariantService photoVariantService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+    private volatile TherapistCatalogSnapshot snapshot;
+
+    public TherapistCatalogSnapshotHolder(
+            TherapistRepository therapistRepository,
+            TherapistPriceRepository priceRepository,
+            TherapistProfileContentRepository profileContentRepository,
+            TherapistProfileContentStore profileContentStore,
+            TherapistPhotoVariantService photoVariantService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.therapistRepository = therapistRepository;
+        this.priceRepository = priceRepository;
+        this.profileContentRepository = profileContentRepository;
+        this.profileContentStore = profileContentStore;
+        this.photoVariantService = photoVariantService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Current snapshot. Only the very first call before the startup build finished
+     * reads the database on the calling thread.
+     */
+    public TherapistCatalogSnapshot current() {
+        TherapistCatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                rebuild();
+            }
+            return snapshot;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRefresh();
+    }
+
+    @EventListener
+    public void onCatalogChanged(TherapistCatalogChangedEvent event) {
+        requestRefresh();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${goodhelp.catalog.refresh-delay-ms:900000}",
+        initialDelayString = "${goodhelp.catalog.refresh-delay-ms:900000}")
+    public void scheduledRefresh() {
+        requestRefresh();
+    }
+
+    /**
+     * Rebuild the snapshot in the background unless a rebuild is already queued.
+     */
+    public void requestRefresh() {
+        if (!refreshQueued.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            // Changes committed from here on queue another rebuild
+            refreshQueued.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild therapist catalog, keeping the previous snapshot", e);
+            }
+        });
+    }
+
+    private synchronized void rebuild() {
+        TherapistCatalogSnapshot rebuilt = transactionTemplate.execute(status -> {
+            List<Therapist> therapists = therapistRepository.findAllActiveRealTherapists();
+            List<Long> therapistIds = therapists.stream().map(Therapist::getId).toList();
+            return TherapistCatalogSnapshot.build(
+                therapists,
+                therapistIds.isEmpty() ? List.of() : priceRepository.findActiveByTherapistIds(therapistIds),
+                therapistIds.isEmpty() ? Map.of() : profileContentStore.loadNeutral(therapistIds),
+                profileContentRepository.findVersionsByTherapistIds(therapistIds),
+                photoVariantService::sourceWidth,
+                Instant.now()
+            );
+        });
+        snapshot = rebuilt;
+        log.debug("Rebuilt therapist catalog: {} therapists", rebuilt.items().size());
+        eventPublisher.publishEvent(new TherapistCatalogRebuiltEvent(rebuilt));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,334 @@
+package com.goodhelp.landing.application.service;
+
+import com.goodhelp.landing.application.dto.CatalogFacetsDto;
+import com.goodhelp.therapist.domain.model.PriceType;
+import com.goodhelp.therapist.domain.model.Sex;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistPrice;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Columnar index of the catalog's filterable attributes: price per therapy type, sex,
+ * years of experience and profile language.
+ *
+ * <p>Attributes are held in primitive arrays and bitsets over catalog positions (the
+ * same positions as {@link TherapistTopicIndex}), so a filter is a few bitset
+ * operations plus at most two scans of an int array, and facet counts need no SQL.
+ * Built together with the {@link TherapistCatalogSnapshot} and immutable afterwards.</p>
+ */
+public final class TherapistFacetIndex {
+
+    /**
+     * Experience thresholds offered as "N+ years" facet values.
+     */
+    public static final int[] EXPERIENCE_STEPS = {1, 3, 5, 10};
+
+    private static final int NO_VALUE = -1;
+    private static final PriceType[] TYPES = PriceType.values();
+    private static final Sex[] SEXES = Sex.values();
+
+    /**
+     * Catalog filter. Values within one attribute are alternatives (OR),
+     * attributes are combined with AND; null or empty means no constraint.
+     *
+     * @param priceMin lowest acceptable session price
+     * @param priceMax highest acceptable session price
+     * @param types therapy types; prices are checked against the price of these types
+     * @param minExperienceYears minimum years of practice
+     * @param languages profile languages (uk, ru, en)
+     */
+    public record Filter(
+        Integer priceMin,
+        Integer priceMax,
+        Set<Sex> sexes,
+        Set<PriceType> types,
+        Integer minExperienceYears,
+        Set<String> languages
+    ) {
+        public static final Filter NONE = new Filter(null, null, null, null, null, null);
+
+        public Filter {
+            sexes = sexes != null ? Set.copyOf(sexes) : Set.of();
+            types = types != null ? Set.copyOf(types) : Set.of();
+            languages = languages != null ? Set.copyOf(languages) : Set.of();
+        }
+
+        public boolean isEmpty() {
+            return priceMin == null && priceMax == null && sexes.isEmpty() && types.isEmpty()
+                && minExperienceYears == null && languages.isEmpty();
+        }
+    }
+
+    private final int size;
+    private final int[] experienceYears;
+    private final int[][] minPriceByType;
+    private final BitSet[] bySex;
+    private final BitSet[] byType;
+    private final Map<String, BitSet> byLanguage;
+
+    private TherapistFacetIndex(int size, int[] experienceYears, int[][] minPriceByType,
+                                BitSet[] bySex, BitSet[] byType, Map<String, BitSet> byLanguage) {
+        this.size = size;
+        this.experienceYears = experienceYears;
+        this.minPriceByType = minPriceByType;
+        this.bySex = bySex;
+        this.byType = byType;
+        this.byLanguage = byLanguage;
+    }
+
+    /**
+     * Index the catalog.
+     *
+     * @param therapists therapists in catalog order; position {@code i} stands for {@code therapists.get(i)}
+     * @param prices active prices of these therapists
+     * @param languagesOf profile languages by therapist ID (may return null)
+     */
+    public static TherapistFacetIndex build(List<Therapist> therapists, List<TherapistPrice> prices,
+                                            Function<Long, Collection<String>> languagesOf) {
+        int size = therapists.size();
+        Map<Long, Integer> positions = new HashMap<>(size * 2);
+        int[] experienceYears = new int[size];
+        BitSet[] bySex = newBitSets(SEXES.length, size);
+        Map<String, BitSet> byLanguage = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Therapist therapist = therapists.get(i);
+            positions.put(therapist.getId(), i);
+            TherapistProfile profile = therapist.getProfile();
+            Integer years = profile != null ? profile.getYearsOfExperience() : null;
+            experienceYears[i] = years != null ? years : NO_VALUE;
+            if (profile != null && profile.getSex() != null) {
+                bySex[profile.getSex().ordinal()].set(i);
+            }
+            Collection<String> languages = languagesOf.apply(therapist.getId());
+            if (languages != null) {
+                for (String language : languages) {
+                    byLanguage.computeIfAbsent(language, l -> new BitSet(size)).set(i);
+                }
+            }
+        }
+
+        int[][] minPriceByType = new int[TYPES.length][size];
+        for (int[] column : minPriceByType) {
+            Arrays.fill(column, Integer.MAX_VALUE);
+        }
+        BitSet[] byType = newBitSets(TYPES.length, size);
+        for (TherapistPrice price : prices) {
+            Integer position = positions.get(price.getTherapistId());
+            if (position == null || price.getPrice() == null || price.getType() == null) {
+                continue;
+            }
+            int type = price.getType().ordinal();
+            minPriceByType[type][position] = Math.min(minPriceByType[type][position], price.getPrice());
+            byType[type].set(position);
+        }
+
+        return new TherapistFacetIndex(size, experienceYears, minPriceByType, bySex, byType, Map.copyOf(byLanguage));
+    }
+
+    /**
+     * Catalog positions matching the filter.
+     */
+    public BitSet match(Filter filter) {
+        BitSet result = all();
+        and(result, sexMask(filter));
+        and(result, typeMask(filter));
+        and(result, languageMask(filter));
+        and(result, experienceMask(filter));
+        and(result, priceMask(filter, filter.types()));
+        return result;
+    }
+
+    /**
+     * Facet counts within {@code scope} (e.g. the topic matches). Each attribute is
+     * counted under all other constraints of the filter but not its own, so every shown
+     * count is the number of results the user gets by switching to that value.
+     */
+    public CatalogFacetsDto facets(Filter filter, BitSet scope) {
+        BitSet sexMask = sexMask(filter);
+        BitSet typeMask = typeMask(filter);
+        BitSet languageMask = languageMask(filter);
+        BitSet experienceMask = experienceMask(filter);
+        BitSet priceMask = priceMask(filter, filter.types());
+
+        BitSet total = combine(scope, sexMask, typeMask, languageMask, experienceMask, priceMask);
+
+        Map<String, Integer> sexCounts = new LinkedHashMap<>();
+        BitSet sexBase = combine(scope, typeMask, languageMask, experienceMask, priceMask);
+        for (Sex sex : SEXES) {
+            sexCounts.put(sex.name(), intersectionSize(sexBase, bySex[sex.ordinal()]));
+        }
+
+        // A type counts only where that type's own price is in range
+        Map<String, Integer> typeCounts = new LinkedHashMap<>();
+        BitSet typeBase = combine(scope, sexMask, languageMask, experienceMask);
+        for (PriceType type : TYPES) {
+            BitSet bits = (BitSet) byType[type.ordinal()].clone();
+            and(bits, priceMask(filter, Set.of(type)));
+            typeCounts.put(type.name(), intersectionSize(typeBase, bits));
+        }
+
+        Map<String, Integer> languageCounts = new LinkedHashMap<>();
+        BitSet languageBase = combine(scope, sexMask, typeMask, experienceMask, priceMask);
+        byLanguage.keySet().stream().sorted().forEach(language ->
+            languageCounts.put(language, intersectionSize(languageBase, byLanguage.get(language))));
+
+        Map<Integer, Integer> experienceCounts = new LinkedHashMap<>();
+        BitSet experienceBase = combine(scope, sexMask, typeMask, languageMask, priceMask);
+        int[] atLeast = new int[EXPERIENCE_STEPS.length];
+        for (int i = experienceBase.nextSetBit(0); i >= 0; i = experienceBase.nextSetBit(i + 1)) {
+            for (int step = 0; step < EXPERIENCE_STEPS.length; step++) {
+                if (experienceYears[i] >= EXPERIENCE_STEPS[step]) {
+                    atLeast[step]++;
+                }
+            }
+        }
+        for (int step = 0; step < EXPERIENCE_STEPS.length; step++) {
+            experienceCounts.put(EXPERIENCE_STEPS[step], atLeast[step]);
+        }
+
+        // Price bounds of what the other constraints leave, for the range slider
+        BitSet priceBase = combine(scope, sexMask, typeMask, languageMask, experienceMask);
+        int lowest = Integer.MAX_VALUE;
+        int highest = Integer.MIN_VALUE;
+        for (int i = priceBase.nextSetBit(0); i >= 0; i = priceBase.nextSetBit(i + 1)) {
+            for (PriceType type : TYPES) {
+                if (!filter.types().isEmpty() && !filter.types().contains(type)) {
+                    continue;
+                }
+                int price = minPriceByType[type.ordinal()][i];
+                if (price != Integer.MAX_VALUE) {
+                    lowest = Math.min(lowest, price);
+                    highest = Math.max(highest, price);
+                }
+            }
+        }
+
+        return new CatalogFacetsDto(
+            total.cardinality(),
+            sexCounts,
+            typeCounts,
+            languageCounts,
+            experienceCounts,
+            lowest != Integer.MAX_VALUE ? lowest : null,
+            highest != Integer.MIN_VALUE ? highest : null
+        );
+    }
+
+    private BitSet sexMask(Filter filter) {
+        if (filter.sexes().isEmpty()) {
+            return null;
+        }
+        BitSet mask = new BitSet(size);
+        for (Sex sex : filter.sexes()) {
+            mask.or(bySex[sex.ordinal()]);
+        }
+        return mask;
+    }
+
+    private BitSet typeMask(Filter filter) {
+        if (filter.types().isEmpty()) {
+            return null;
+        }
+        BitSet mask = new BitSet(size);
+        for (PriceType type : filter.types()) {
+            mask.or(byType[type.ordinal()]);
+        }
+        return mask;
+    }
+
+    private BitSet languageMask(Filter filter) {
+        if (filter.languages().isEmpty()) {
+            return null;
+        }
+        BitSet mask = new BitSet(size);
+        for (String language : filter.languages()) {
+            BitSet bits = byLanguage.get(language);
+            if (bits != null) {
+                mask.or(bits);
+            }
+        }
+        return mask;
+    }
+
+    private BitSet experienceMask(Filter filter) {
+        if (filter.minExperienceYears() == null) {
+            return null;
+        }
+        int min = filter.minExperienceYears();
+        BitSet mask = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (experienceYears[i] != NO_VALUE && experienceYears[i] >= min) {
+                mask.set(i);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Therapists with a price of one of {@code types} (any type if empty) within the filter's range.
+     */
+    private BitSet priceMask(Filter filter, Set<PriceType> types) {
+        if (filter.priceMin() == null && filter.priceMax() == null) {
+            return null;
+        }
+        int min = filter.priceMin() != null ? filter.priceMin() : Integer.MIN_VALUE;
+        int max = filter.priceMax() != null ? filter.priceMax() : Integer.MAX_VALUE - 1;
+        BitSet mask = new BitSet(size);
+        for (PriceType type : TYPES) {
+            if (!types.isEmpty() && !types.contains(type)) {
+                continue;
+            }
+            int[] column = minPriceByType[type.ordinal()];
+            for (int i = 0; i < size; i++) {
+                if (column[i] >= min && column[i] <= max) {
+                    mask.set(i);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private BitSet all() {
+        BitSet all = new BitSet(size);
+        all.set(0, size);
+        return all;
+    }
+
+    private static BitSet combine(BitSet scope, BitSet... masks) {
+        BitSet result = (BitSet) scope.clone();
+        for (BitSet mask : masks) {
+            and(result, mask);
+        }
+        return result;
+    }
+
+    private static void and(BitSet target, BitSet mask) {
+        if (mask != null) {
+            target.and(mask);
+        }
+    }
+
+    private static int intersectionSize(BitSet a, BitSet b) {
+        BitSet bits = (BitSet) a.clone();
+        bits.and(b);
+        return bits.cardinality();
+    }
+
+    private static BitSet[] newBitSets(int count, int size) {
+        BitSet[] sets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            sets[i] = new BitSet(size);
+        }
+        return sets;
+    }
+}
@@ -0,0 +1,188 @@
+package com.goodhelp.landing.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goodhelp.landing.application.dto.TherapistProfileData.ProfileInfo;
+import com.goodhelp.therapist.domain.event.TherapistCatalogChangedEvent;
+import com.goodhelp.therapist.domain.model.TherapistProfileContent;
+import com.goodhelp.therapist.domain.repository.TherapistProfileContentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads extended profile content ({@link ProfileInfo}) from {@code therapist_profile_content},
+ * one locale at a time.
+ *
+ * <p>Single-locale reads go through a bounded LRU cache of parsed documents, so memory
+ * follows the pages actually being viewed rather than the whole roster times three
+ * locales. Entries of a therapist are evicted when its catalog data changes through the
+ * application ({@link TherapistCatalogChangedEvent}). Content is usually edited outside
+ * the application, so every entry also carries the therapist's content version from the
+ * last catalog snapshot, and each rebuilt snapshot ({@link TherapistCatalogRebuiltEvent})
+ * evicts the entries whose version has changed since.</p>
+ *
+ * <p>Locale-neutral fields (topics, specialties, methods, therapy types) are the same
+ * in every locale's document.</p>
+ */
+@Service
+public class TherapistProfileContentStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TherapistProfileContentStore.class);
+
+    public static final String DEFAULT_LOCALE = "uk";
+    public static final String FALLBACK_LOCALE = "en";
+    public static final List<String> LOCALES = List.of("uk", "ru", "en");
+
+    private final TherapistProfileContentRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Map<Key, CachedContent> cache;
+
+    // Content versions of the last catalog snapshot by therapist ID; cache entries are tagged with them
+    private volatile Map<Long, Integer> contentVersions = Map.of();
+
+    // Bumped on every eviction; a load started before it does not populate the cache
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TherapistProfileContentStore(
+            TherapistProfileContentRepository repository,
+            ObjectMapper objectMapper,
+            @Value("${goodhelp.profile-content.cache-size:512}") int cacheSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.cache = new LinkedHashMap<>(Math.min(cacheSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedContent> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Profile content of a therapist in a site locale, falling back to the English document.
+     *
+     * @param locale site locale (uk, ru, en; "ua" is accepted for uk)
+     * @return the content, or null if the therapist has none
+     */
+    public ProfileInfo find(Long therapistId, String locale) {
+        Key key = new Key(therapistId, siteLocale(locale));
+        CachedContent cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null) {
+            return cached.info();
+        }
+
+        long invalidationsBefore = invalidations.get();
+        Integer version = contentVersions.get(therapistId);
+        Optional<TherapistProfileContent> content = repository.findByTherapistIdAndLocale(therapistId, key.locale());
+        if (content.isEmpty() && !FALLBACK_LOCALE.equals(key.locale())) {
+            content = repository.findByTherapistIdAndLocale(therapistId, FALLBACK_LOCALE);
+        }
+        ProfileInfo info = content.map(this::parse).orElse(null);
+        synchronized (cache) {
+            if (invalidations.get() == invalidationsBefore) {
+                cache.put(key, new CachedContent(info, version));
+            }
+        }
+        return info;
+    }
+
+    /**
+     * Locale-neutral content of several therapists in one pass, for catalog builds.
+     * Reads the default locale's documents, then fills gaps from the other locales.
+     * Not cached.
+     */
+    public Map<Long, ProfileInfo> loadNeutral(Collection<Long> therapistIds) {
+        Map<Long, ProfileInfo> result = new HashMap<>(therapistIds.size() * 2);
+        List<Long> missing = List.copyOf(therapistIds);
+        for (String locale : List.of(DEFAULT_LOCALE, FALLBACK_LOCALE, "ru")) {
+            if (missing.isEmpty()) {
+                break;
+            }
+            for (TherapistProfileContent content : repository.findByTherapistIdInAndLocale(missing, locale)) {
+                ProfileInfo info = parse(content);
+                if (info != null) {
+                    result.put(content.getTherapistId(), info);
+                }
+            }
+            missing = missing.stream().filter(id -> !result.containsKey(id)).toList();
+        }
+        return result;
+    }
+
+    /**
+     * Content of several therapists in every locale, by therapist ID and site locale,
+     * in one query. Not cached.
+     */
+    public Map<Long, Map<String, ProfileInfo>> loadAllLocales(Collection<Long> therapistIds) {
+        Map<Long, Map<String, ProfileInfo>> result = new HashMap<>(therapistIds.size() * 2);
+        for (TherapistProfileContent content : repository.findByTherapistIdIn(therapistIds)) {
+            ProfileInfo info = parse(content);
+            if (info != null) {
+                result.computeIfAbsent(content.getTherapistId(), id -> new HashMap<>()).put(content.getLocale(), info);
+            }
+        }
+        return result;
+    }
+
+    @EventListener
+    public void onCatalogChanged(TherapistCatalogChangedEvent event) {
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.keySet().removeIf(key -> key.therapistId().equals(event.therapistId()));
+        }
+    }
+
+    @EventListener
+    public void onCatalogRebuilt(TherapistCatalogRebuiltEvent event) {
+        Map<Long, Integer> versions = event.snapshot().contentVersions();
+        synchronized (cache) {
+            contentVersions = versions;
+            invalidations.incrementAndGet();
+            cache.entrySet().removeIf(entry ->
+                !Objects.equals(entry.getValue().version(), versions.get(entry.getKey().therapistId())));
+        }
+    }
+
+    /**
+     * Key of a site locale in the localized maps of its document ("ua" for uk).
+     */
+    public static String contentKey(String locale) {
+        String siteLocale = siteLocale(locale);
+        return DEFAULT_LOCALE.equals(siteLocale) ? "ua" : siteLocale;
+    }
+
+    /**
+     * Site locale of a locale code: "ua" and unknown codes map to uk.
+     */
+    public static String siteLocale(String locale) {
+        return locale != null && LOCALES.contains(locale) ? locale : DEFAULT_LOCALE;
+    }
+
+    private ProfileInfo parse(TherapistProfileContent content) {
+        try {
+            return objectMapper.readValue(content.getContent(), ProfileInfo.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable profile content for therapist {} ({}): {}",
+                content.getTherapistId(), content.getLocale(), e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private record Key(Long therapistId, String locale) {}
+
+    private record CachedContent(ProfileInfo info, Integer version) {}
+}
@@ -0,0 +1,92 @@
+package com.goodhelp.landing.application.service;
+
+import com.goodhelp.landing.application.dto.TherapistListItemDto;
+import com.goodhelp.landing.application.dto.TherapistProfileData;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Inverted index from topic (and topic group) to the therapists who work with it.
+ *
+ * <p>Each term maps to a bitset over catalog positions, so a multi-topic query is a
+ * few word-wise {@code and}/{@code or} operations over bitsets about as long as the
+ * catalog. Built together with the {@link TherapistCatalogSnapshot} and immutable
+ * afterwards; query results are fresh copies.</p>
+ */
+public final class TherapistTopicIndex {
+
+    private final int size;
+    private final Map<String, BitSet> byTerm;
+
+    private TherapistTopicIndex(int size, Map<String, BitSet> byTerm) {
+        this.size = size;
+        this.byTerm = byTerm;
+    }
+
+    /**
+     * Index the topics of the given catalog cards.
+     *
+     * @param items catalog cards; bit {@code i} stands for {@code items.get(i)}
+     * @param topicsOf topics a therapist works with, by therapist ID (may return null)
+     */
+    public static TherapistTopicIndex build(List<TherapistListItemDto> items, Function<Long, List<String>> topicsOf) {
+        Map<String, BitSet> byTerm = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            List<String> topics = topicsOf.apply(items.get(i).id());
+            if (topics == null) {
+                continue;
+            }
+            for (String topic : topics) {
+                byTerm.computeIfAbsent(topic, t -> new BitSet(items.size())).set(i);
+                byTerm.computeIfAbsent(TherapistProfileData.groupOf(topic), g -> new BitSet(items.size())).set(i);
+            }
+        }
+        return new TherapistTopicIndex(items.size(), Map.copyOf(byTerm));
+    }
+
+    /**
+     * Catalog positions matching the terms. A term is a topic or a group name
+     * ({@link TherapistProfileData#GROUP_MY_STATE} and others); a group matches any of its topics.
+     *
+     * @param terms topics and/or groups; no terms matches the whole catalog
+     * @param matchAll true to require every term (AND), false for any term (OR)
+     */
+    public BitSet match(Collection<String> terms, boolean matchAll) {
+        if (terms.isEmpty()) {
+            BitSet all = new BitSet(size);
+            all.set(0, size);
+            return all;
+        }
+        BitSet result = null;
+        for (String term : terms) {
+            BitSet bits = byTerm.get(term);
+            if (bits == null) {
+                if (matchAll) {
+                    return new BitSet();
+                }
+                continue;
+            }
+            if (result == null) {
+                result = (BitSet) bits.clone();
+            } else if (matchAll) {
+                result.and(bits);
+            } else {
+                result.or(bits);
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    /**
+     * Number of therapists working with a topic or group.
+     */
+    public int count(String term) {
+        BitSet bits = byTerm.get(term);
+        return bits != null ? bits.cardinality() : 0;
+    }
+}
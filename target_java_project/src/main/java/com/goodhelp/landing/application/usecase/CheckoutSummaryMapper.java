@@ -4,6 +4,7 @@ import com.goodhelp.billing.domain.model.Checkout;
 import com.goodhelp.booking.domain.model.ScheduleSlot;
 import com.goodhelp.common.service.DateLocalizedHelper;
 import com.goodhelp.common.service.TimezoneHelper;
+import com.goodhelp.common.util.TherapistPhotoUrls;
 import com.goodhelp.landing.application.dto.CheckoutClientDto;
 import com.goodhelp.landing.application.dto.CheckoutPriceDto;
 import com.goodhelp.landing.application.dto.CheckoutSessionDto;
@@ -13,7 +14,7 @@ import com.goodhelp.therapist.domain.model.PriceType;
 import com.goodhelp.therapist.domain.model.Therapist;
 import com.goodhelp.therapist.domain.model.TherapistPrice;
 import com.goodhelp.therapist.domain.model.TherapistProfile;
-import com.goodhelp.landing.application.dto.TherapistProfileData;
+import com.goodhelp.landing.application.service.TherapistProfileContentStore;
 import org.springframework.stereotype.Component;
 
 import java.time.ZoneId;
@@ -31,10 +32,15 @@ public class CheckoutSummaryMapper {
 
     private final DateLocalizedHelper dateLocalizedHelper;
     private final TimezoneHelper timezoneHelper;
+    private final TherapistProfileContentStore profileContentStore;
 
-    public CheckoutSummaryMapper(DateLocalizedHelper dateLocalizedHelper, TimezoneHelper timezoneHelper) {
+    public CheckoutSummaryMapper(
+            DateLocalizedHelper dateLocalizedHelper,
+            TimezoneHelper timezoneHelper,
+            TherapistProfileContentStore profileContentStore) {
         this.dateLocalizedHelper = dateLocalizedHelper;
         this.timezoneHelper = timezoneHelper;
+        this.profileContentStore = profileContentStore;
     }
 
     public CheckoutSummaryDto toSummary(Checkout checkout,
@@ -55,9 +61,8 @@ public class CheckoutSummaryMapper {
 
         Therapist therapist = slot.getTherapist();
         TherapistProfile profile = therapist.getProfile();
-        String photoUrl = profile != null && profile.getProfileTemplate() != null
-            ? "/assets/landing/img/select-psiholog/" + profile.getProfileTemplate() + ".jpg"
-            : "/assets/landing/img/placeholder-therapist.jpg";
+        String photoUrl = TherapistPhotoUrls.url(
+            profile != null ? profile.getProfileTemplate() : null, TherapistPhotoUrls.CARD);
 
         String sessionTypeLabelKey = mapPriceType(price.getType());
         int durationMinutes = price.getType() == PriceType.COUPLE ? 80 : 50;
@@ -65,7 +70,7 @@ public class CheckoutSummaryMapper {
         var therapistInfo = new CheckoutTherapistDto(
             therapist.getId(),
             profile != null ? profile.getFullName() : "GoodHelp therapist",
-            resolveSinglePhrase(therapist.getId()),
+            resolveSinglePhrase(therapist.getId(), effectiveLocale),
             photoUrl,
             sessionTypeLabelKey,
             durationMinutes
@@ -118,8 +123,8 @@ public class CheckoutSummaryMapper {
         );
     }
 
-    private String resolveSinglePhrase(Long therapistId) {
-        var profileInfo = TherapistProfileData.getProfileInfo(therapistId);
+    private String resolveSinglePhrase(Long therapistId, Locale locale) {
+        var profileInfo = profileContentStore.find(therapistId, locale.getLanguage());
         return profileInfo != null ? profileInfo.singlePhrase() : "clinical_psiholog";
     }
 
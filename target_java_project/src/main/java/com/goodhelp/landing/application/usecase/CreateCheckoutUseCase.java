@@ -2,11 +2,13 @@ package com.goodhelp.landing.application.usecase;
 
 import com.goodhelp.billing.domain.model.Checkout;
 import com.goodhelp.billing.domain.repository.CheckoutRepository;
+import com.goodhelp.booking.application.RecurringAvailabilityService;
 import com.goodhelp.booking.domain.model.ScheduleSlot;
 import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
 import com.goodhelp.booking.domain.service.ScheduleDomainService;
 import com.goodhelp.common.exception.ResourceNotFoundException;
 import com.goodhelp.common.service.TimezoneHelper;
+import com.goodhelp.config.GoodHelpProperties;
 import com.goodhelp.landing.application.dto.CheckoutSummaryDto;
 import com.goodhelp.user.domain.model.UserPromocode;
 import com.goodhelp.user.domain.repository.UserPromocodeRepository;
@@ -18,9 +20,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -38,6 +42,8 @@ public class CreateCheckoutUseCase {
     private final ScheduleDomainService scheduleDomainService;
     private final CheckoutSummaryMapper checkoutSummaryMapper;
     private final TimezoneHelper timezoneHelper;
+    private final RecurringAvailabilityService recurringAvailability;
+    private final Duration checkoutHold;
 
     public CreateCheckoutUseCase(TherapistPriceRepository priceRepository,
                                  ScheduleSlotRepository slotRepository,
@@ -46,7 +52,9 @@ public class CreateCheckoutUseCase {
                                  ApplyPromocodeUseCase applyPromocodeUseCase,
                                  ScheduleDomainService scheduleDomainService,
                                  CheckoutSummaryMapper checkoutSummaryMapper,
-                                 TimezoneHelper timezoneHelper) {
+                                 TimezoneHelper timezoneHelper,
+                                 RecurringAvailabilityService recurringAvailability,
+                                 GoodHelpProperties properties) {
         this.priceRepository = priceRepository;
         this.slotRepository = slotRepository;
         this.checkoutRepository = checkoutRepository;
@@ -55,6 +63,8 @@ public class CreateCheckoutUseCase {
         this.scheduleDomainService = scheduleDomainService;
         this.checkoutSummaryMapper = checkoutSummaryMapper;
         this.timezoneHelper = timezoneHelper;
+        this.recurringAvailability = recurringAvailability;
+        this.checkoutHold = properties.getAvailability().getCheckoutHold();
     }
 
     public CheckoutSummaryDto execute(CreateCheckoutCommand command) {
@@ -66,26 +76,48 @@ public class CreateCheckoutUseCase {
             throw new ResourceNotFoundException("Price does not belong to therapist");
         }
 
-        ScheduleSlot slot = loadAndValidateSlot(command.slotId(), price.getTherapistId());
+        ScheduleSlot slot = loadSlot(command.slotId(), price.getTherapistId());
         Therapist therapist = slot.getTherapist();
+        Optional<Checkout> resubmitted = findHoldingCheckout(slot, normalizedEmail(command.email()));
+        if (resubmitted.isEmpty()) {
+            validateBookable(slot);
+        }
+
+        String slug = resubmitted.map(Checkout::getSlug)
+            .orElseGet(() -> UUID.randomUUID().toString().replace("-", ""));
+        LocalDateTime heldUntil = holdSlot(slot, slug);
 
         PromoContext promoContext = applyPromocodeIfNeeded(command, price);
 
-        String slug = UUID.randomUUID().toString().replace("-", "");
-
-        Checkout checkout = Checkout.create(
-            slug,
-            price.getId(),
-            slot.getId(),
-            promoContext.userPromocodeId(),
-            null,
-            command.authType(),
-            normalizedOrNull(command.phone()),
-            normalizedEmail(command.email()),
-            normalizedOrNull(command.name()),
-            command.gaClientId(),
-            command.gaClientIdOriginal()
-        );
+        Checkout checkout;
+        if (resubmitted.isPresent()) {
+            checkout = resubmitted.get();
+            checkout.resubmit(
+                price.getId(),
+                promoContext.userPromocodeId(),
+                command.authType(),
+                normalizedOrNull(command.phone()),
+                normalizedEmail(command.email()),
+                normalizedOrNull(command.name()),
+                command.gaClientId(),
+                command.gaClientIdOriginal()
+            );
+        } else {
+            checkout = Checkout.create(
+                slug,
+                price.getId(),
+                slot.getId(),
+                promoContext.userPromocodeId(),
+                null,
+                command.authType(),
+                normalizedOrNull(command.phone()),
+                normalizedEmail(command.email()),
+                normalizedOrNull(command.name()),
+                command.gaClientId(),
+                command.gaClientIdOriginal()
+            );
+        }
+        checkout.attachSlotHold(heldUntil);
 
         Checkout persisted = checkoutRepository.save(checkout);
 
@@ -120,9 +152,12 @@ public class CreateCheckoutUseCase {
         }
     }
 
-    private ScheduleSlot loadAndValidateSlot(Long slotId, Long therapistId) {
-        ScheduleSlot slot = slotRepository.findById(slotId)
-            .orElseThrow(() -> new ResourceNotFoundException("Slot not found"));
+    private ScheduleSlot loadSlot(Long slotId, Long therapistId) {
+        // Slots opened by weekly rules get their row only now, when someone books them
+        ScheduleSlot slot = RecurringAvailabilityService.isVirtualSlotId(slotId)
+            ? recurringAvailability.materializeForBooking(therapistId, slotId)
+            : slotRepository.findById(slotId)
+                .orElseThrow(() -> new ResourceNotFoundException("Slot not found"));
 
         Therapist therapist = slot.getTherapist();
         if (therapist == null || !therapistId.equals(therapist.getId())) {
@@ -131,17 +166,48 @@ public class CreateCheckoutUseCase {
         if (!therapist.isActive() || !therapist.canAcceptConsultations()) {
             throw new IllegalStateException("Therapist is not accepting consultations");
         }
+        return slot;
+    }
 
-        int timeCapHours = therapist.getSettingsOptional()
-            .map(TherapistSettings::getScheduleTimeCapHours)
-            .orElse(3);
+    private void validateBookable(ScheduleSlot slot) {
+        LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC);
+        if (!scheduleDomainService.isSlotBookable(slot, nowUtc, timeCapHours(slot.getTherapist()))) {
+            throw new IllegalStateException("Selected slot is no longer bookable");
+        }
+    }
+
+    /**
+     * The checkout that holds the slot, if it was opened by the same visitor - a booking
+     * form submitted again for a slot the visitor already holds continues that checkout.
+     */
+    private Optional<Checkout> findHoldingCheckout(ScheduleSlot slot, String email) {
+        if (!slot.isHeld() || slot.getHeldBy() == null) {
+            return Optional.empty();
+        }
+        return checkoutRepository.findBySlug(slot.getHeldBy())
+            .filter(checkout -> slot.getId().equals(checkout.getScheduleSlotId()))
+            .filter(checkout -> checkout.getEmail().equals(email));
+    }
 
+    /**
+     * Claim the slot for the checkout, or renew the checkout's own hold. The claim is a
+     * conditional update, so when two checkouts race for the same slot only one gets it
+     * and the other fails here.
+     */
+    private LocalDateTime holdSlot(ScheduleSlot slot, String checkoutSlug) {
         LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC);
-        if (!scheduleDomainService.isSlotBookable(slot, nowUtc, timeCapHours)) {
+        LocalDateTime heldUntil = nowUtc.plus(checkoutHold);
+        LocalDateTime bookableAfter = nowUtc.plusHours(timeCapHours(slot.getTherapist()));
+        if (!slotRepository.tryHold(slot, checkoutSlug, nowUtc, bookableAfter, heldUntil)) {
             throw new IllegalStateException("Selected slot is no longer bookable");
         }
+        return heldUntil;
+    }
 
-        return slot;
+    private int timeCapHours(Therapist therapist) {
+        return therapist.getSettingsOptional()
+            .map(TherapistSettings::getScheduleTimeCapHours)
+            .orElse(3);
     }
 
     private PromoContext applyPromocodeIfNeeded(CreateCheckoutCommand command, TherapistPrice price) {
@@ -0,0 +1,58 @@
+package com.goodhelp.landing.application.usecase;
+
+import com.goodhelp.booking.application.TimeWindowAvailabilityIndex;
+import com.goodhelp.booking.application.TimeWindowMatch;
+import com.goodhelp.booking.application.WeeklyTimeWindow;
+import com.goodhelp.common.service.TimezoneHelper;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.landing.application.service.TherapistCatalogSnapshotHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Use case for finding active therapists who are free at a given time of week
+ * ("weekday evenings after 18:00") in the user's timezone.
+ */
+@Service
+public class FindTherapistsByTimeWindowUseCase {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    private final TherapistCatalogSnapshotHolder catalogSnapshot;
+    private final TimeWindowAvailabilityIndex timeWindowIndex;
+    private final TimezoneHelper timezoneHelper;
+
+    public FindTherapistsByTimeWindowUseCase(
+            TherapistCatalogSnapshotHolder catalogSnapshot,
+            TimeWindowAvailabilityIndex timeWindowIndex,
+            TimezoneHelper timezoneHelper) {
+        this.catalogSnapshot = catalogSnapshot;
+        this.timeWindowIndex = timeWindowIndex;
+        this.timezoneHelper = timezoneHelper;
+    }
+
+    /**
+     * Find therapists with bookable slots starting inside the window.
+     *
+     * @param days days of week the window applies to
+     * @param from window start, user's local time
+     * @param to window end (exclusive); not after {@code from} means it runs past midnight
+     * @param userTimezone timezone identifier (IANA); invalid values fall back to the default
+     * @param limit maximum number of results
+     * @return matching therapists, best match first
+     */
+    public List<TimeWindowMatch> execute(Set<DayOfWeek> days, LocalTime from, LocalTime to,
+                                         String userTimezone, int limit) {
+        WeeklyTimeWindow window = WeeklyTimeWindow.of(days, from, to);
+        String timezone = userTimezone != null && timezoneHelper.isValidTimezone(userTimezone)
+            ? userTimezone
+            : TimezoneHelper.DEFAULT_TIMEZONE;
+
+        // Candidates are the catalog therapists
+        return timeWindowIndex.search(catalogSnapshot.current().timeCapHours(), window, TimezoneProjectionService.zoneOf(timezone), limit);
+    }
+}
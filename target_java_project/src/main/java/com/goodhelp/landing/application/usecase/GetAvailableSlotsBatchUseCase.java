@@ -0,0 +1,80 @@
+package com.goodhelp.landing.application.usecase;
+
+import com.goodhelp.booking.application.SlotAvailabilityIndex;
+import com.goodhelp.common.exception.BusinessException;
+import com.goodhelp.landing.application.dto.TherapistAvailableSlotsDto;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Use case for loading available slots of several therapists at once (comparison,
+ * matching results).
+ *
+ * <p>Therapists and their settings are read with one query, and all therapists missing
+ * from {@link SlotAvailabilityIndex} are loaded with one slot query. Each therapist's
+ * own time cap still applies, and results are shared with the single-therapist
+ * booking page via {@link GetAvailableSlotsUseCase}.</p>
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetAvailableSlotsBatchUseCase {
+
+    /**
+     * Upper bound on therapists per request.
+     */
+    public static final int MAX_THERAPISTS = 20;
+
+    private final TherapistRepository therapistRepository;
+    private final SlotAvailabilityIndex availabilityIndex;
+    private final GetAvailableSlotsUseCase availableSlotsUseCase;
+
+    public GetAvailableSlotsBatchUseCase(
+            TherapistRepository therapistRepository,
+            SlotAvailabilityIndex availabilityIndex,
+            GetAvailableSlotsUseCase availableSlotsUseCase) {
+        this.therapistRepository = therapistRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.availableSlotsUseCase = availableSlotsUseCase;
+    }
+
+    /**
+     * Get available slots for several therapists in the provided timezone.
+     *
+     * @param therapistIds therapist identifiers; duplicates are ignored, unknown IDs skipped
+     * @param userTimezone timezone identifier (IANA)
+     * @return one entry per found therapist, in request order
+     * @throws BusinessException if more than {@value #MAX_THERAPISTS} therapists are requested
+     */
+    public List<TherapistAvailableSlotsDto> execute(List<Long> therapistIds, String userTimezone) {
+        Set<Long> ids = new LinkedHashSet<>(therapistIds);
+        if (ids.size() > MAX_THERAPISTS) {
+            throw new BusinessException("TOO_MANY_THERAPISTS",
+                "At most " + MAX_THERAPISTS + " therapists can be requested at once");
+        }
+
+        Map<Long, Therapist> therapists = new HashMap<>();
+        for (Therapist therapist : therapistRepository.findAllWithSettingsByIds(ids)) {
+            therapists.put(therapist.getId(), therapist);
+        }
+        availabilityIndex.preload(therapists.keySet());
+
+        List<TherapistAvailableSlotsDto> result = new ArrayList<>(therapists.size());
+        for (Long id : ids) {
+            Therapist therapist = therapists.get(id);
+            if (therapist != null) {
+                result.add(new TherapistAvailableSlotsDto(
+                    id, availableSlotsUseCase.executePayload(therapist, userTimezone).slots()));
+            }
+        }
+        return result;
+    }
+}
@@ -1,29 +1,41 @@
 package com.goodhelp.landing.application.usecase;
 
-import com.goodhelp.booking.domain.model.ScheduleSlot;
-import com.goodhelp.booking.domain.model.SlotStatus;
-import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
-import com.goodhelp.booking.domain.service.ScheduleDomainService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goodhelp.booking.application.SlotAvailabilityIndex;
 import com.goodhelp.common.exception.ResourceNotFoundException;
 import com.goodhelp.common.service.TimezoneHelper;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.common.service.TimezoneProjectionService.LocalProjection;
+import com.goodhelp.config.GoodHelpProperties;
 import com.goodhelp.landing.application.dto.AvailableSlotsDto;
 import com.goodhelp.landing.application.dto.AvailableSlotsDto.SlotDayDto;
 import com.goodhelp.landing.application.dto.AvailableSlotsDto.SlotTimeDto;
+import com.goodhelp.landing.application.dto.AvailableSlotsPayload;
 import com.goodhelp.therapist.domain.model.Therapist;
 import com.goodhelp.therapist.domain.model.TherapistSettings;
 import com.goodhelp.therapist.domain.repository.TherapistRepository;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 import java.time.*;
-import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Use case for loading available schedule slots for a therapist in the user's timezone.
+ *
+ * <p>Slots are answered from {@link SlotAvailabilityIndex}, so a booking page load only
+ * touches the database for the therapist lookup.</p>
+ *
+ * <p>The rendered result (DTO, JSON and ETag) is cached per therapist, timezone and
+ * locale, and reused while the therapist's availability version and the bookable
+ * window are unchanged. Repeat page loads and conditional GETs then skip grouping,
+ * formatting and serialization entirely.</p>
  */
 @Service
 @Transactional(readOnly = true)
@@ -32,19 +44,27 @@ public class GetAvailableSlotsUseCase {
     private static final int DEFAULT_LOOKAHEAD_DAYS = 21;
 
     private final TherapistRepository therapistRepository;
-    private final ScheduleSlotRepository slotRepository;
-    private final ScheduleDomainService scheduleDomainService;
+    private final SlotAvailabilityIndex availabilityIndex;
     private final TimezoneHelper timezoneHelper;
+    private final TimezoneProjectionService timezoneProjection;
+    private final ObjectMapper objectMapper;
+    private final int payloadCacheSize;
+
+    private final ConcurrentHashMap<PayloadKey, CachedPayload> payloads = new ConcurrentHashMap<>();
 
     public GetAvailableSlotsUseCase(
             TherapistRepository therapistRepository,
-            ScheduleSlotRepository slotRepository,
-            ScheduleDomainService scheduleDomainService,
-            TimezoneHelper timezoneHelper) {
+            SlotAvailabilityIndex availabilityIndex,
+            TimezoneHelper timezoneHelper,
+            TimezoneProjectionService timezoneProjection,
+            ObjectMapper objectMapper,
+            GoodHelpProperties properties) {
         this.therapistRepository = therapistRepository;
-        this.slotRepository = slotRepository;
-        this.scheduleDomainService = scheduleDomainService;
+        this.availabilityIndex = availabilityIndex;
         this.timezoneHelper = timezoneHelper;
+        this.timezoneProjection = timezoneProjection;
+        this.objectMapper = objectMapper;
+        this.payloadCacheSize = properties.getAvailability().getSlotsPayloadCacheSize();
     }
 
     /**
@@ -54,37 +74,85 @@ public class GetAvailableSlotsUseCase {
      * @param userTimezone timezone identifier (IANA)
      */
     public AvailableSlotsDto execute(Long therapistId, String userTimezone) {
+        return executePayload(therapistId, userTimezone).slots();
+    }
+
+    /**
+     * Same as {@link #execute}, together with the serialized JSON and its strong ETag.
+     * Day names follow the current request locale.
+     */
+    public AvailableSlotsPayload executePayload(Long therapistId, String userTimezone) {
         Therapist therapist = therapistRepository.findById(therapistId)
             .orElseThrow(() -> new ResourceNotFoundException("Therapist not found"));
+        return executePayload(therapist, userTimezone);
+    }
 
+    /**
+     * Same as {@link #executePayload(Long, String)} for an already loaded therapist
+     * (its settings are read for the time cap).
+     */
+    public AvailableSlotsPayload executePayload(Therapist therapist, String userTimezone) {
+        Long therapistId = therapist.getId();
         String timezone = resolveTimezone(userTimezone, therapist.getTimezone());
         int timeCapHours = therapist.getSettingsOptional()
             .map(TherapistSettings::getScheduleTimeCapHours)
             .orElse(3);
 
-        LocalDateTime nowUtc = LocalDateTime.now(ZoneOffset.UTC);
-        LocalDateTime earliestBookable = nowUtc.plusHours(timeCapHours);
-        LocalDateTime latest = earliestBookable.plusDays(DEFAULT_LOOKAHEAD_DAYS);
+        // Bookable = AVAILABLE and strictly after now + time cap (see ScheduleDomainService.isSlotBookable)
+        Instant earliestBookable = Instant.now().plus(timeCapHours, ChronoUnit.HOURS);
+        Instant latest = earliestBookable.plus(DEFAULT_LOOKAHEAD_DAYS, ChronoUnit.DAYS);
 
-        List<ScheduleSlot> slots = slotRepository
-            .findByTherapistIdAndAvailableAtAfterAndStatus(therapistId, earliestBookable, SlotStatus.AVAILABLE)
-            .stream()
-            .filter(slot -> slot.getAvailableAt().isBefore(latest))
-            .toList();
+        SlotAvailabilityIndex.Window window = availabilityIndex.findAvailable(therapistId, earliestBookable, latest);
+        Locale locale = LocaleContextHolder.getLocale();
 
-        List<ScheduleSlot> bookable = scheduleDomainService.filterBookableSlots(slots, nowUtc, timeCapHours);
+        // Same version, first slot and size means the same slots: reuse the rendered payload
+        PayloadKey key = new PayloadKey(therapistId, timezone, locale);
+        CachedPayload cached = payloads.get(key);
+        if (cached != null && cached.matches(window)) {
+            return cached.payload();
+        }
 
-        Map<LocalDate, List<ScheduleSlot>> grouped = scheduleDomainService.groupSlotsByDate(bookable, timezone);
+        AvailableSlotsPayload payload = render(window, timezone, locale);
+        if (payloads.size() >= payloadCacheSize) {
+            // Entries are cheap to rebuild; start over rather than track recency
+            payloads.clear();
+        }
+        payloads.put(key, new CachedPayload(
+            window.version(),
+            window.isEmpty() ? 0 : window.epochMinute(0),
+            window.size(),
+            payload
+        ));
+        return payload;
+    }
 
-        Locale locale = LocaleContextHolder.getLocale();
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+    private AvailableSlotsPayload render(SlotAvailabilityIndex.Window window, String timezone, Locale locale) {
+        // Window is time-ordered, so days and times come out sorted; one projection pass
+        // converts all starts, and a new day group is opened only when the local day changes
+        LocalProjection local = window.projectTo(TimezoneProjectionService.zoneOf(timezone), timezoneProjection);
+        Map<LocalDate, List<SlotTimeDto>> grouped = new LinkedHashMap<>();
+        List<SlotTimeDto> dayTimes = null;
+        int currentDay = Integer.MIN_VALUE;
+        for (int i = 0; i < local.size(); i++) {
+            if (local.epochDay(i) != currentDay) {
+                currentDay = local.epochDay(i);
+                dayTimes = grouped.computeIfAbsent(local.localDate(i), date -> new ArrayList<>());
+            }
+            dayTimes.add(new SlotTimeDto(window.slotId(i), local.localTime(i), local.label(i)));
+        }
 
         List<SlotDayDto> days = grouped.entrySet().stream()
-            .sorted(Map.Entry.comparingByKey())
-            .map(entry -> toSlotDayDto(entry.getKey(), entry.getValue(), timezone, locale, timeFormatter))
+            .map(entry -> toSlotDayDto(entry.getKey(), entry.getValue(), locale))
             .toList();
+        AvailableSlotsDto slots = new AvailableSlotsDto(days);
 
-        return new AvailableSlotsDto(days);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(slots);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize available slots", e);
+        }
+        return new AvailableSlotsPayload(slots, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
     }
 
     private String resolveTimezone(String userTimezone, String therapistTimezone) {
@@ -97,29 +165,8 @@ public class GetAvailableSlotsUseCase {
         return TimezoneHelper.DEFAULT_TIMEZONE;
     }
 
-    private SlotDayDto toSlotDayDto(
-            LocalDate date,
-            List<ScheduleSlot> slots,
-            String timezone,
-            Locale locale,
-            DateTimeFormatter timeFormatter) {
-
+    private SlotDayDto toSlotDayDto(LocalDate date, List<SlotTimeDto> times, Locale locale) {
         String dayName = capitalize(date.getDayOfWeek().getDisplayName(TextStyle.FULL, locale));
-
-        List<SlotTimeDto> times = slots.stream()
-            .sorted(Comparator.comparing(ScheduleSlot::getAvailableAt))
-            .map(slot -> {
-                LocalTime localTime = slot.getAvailableAtInZone(timezone)
-                    .toLocalTime()
-                    .truncatedTo(ChronoUnit.MINUTES);
-                return new SlotTimeDto(
-                    slot.getId(),
-                    localTime,
-                    timeFormatter.format(localTime)
-                );
-            })
-            .toList();
-
         return new SlotDayDto(date, dayName, times);
     }
 
@@ -129,5 +176,16 @@ public class GetAvailableSlotsUseCase {
         }
         return value.substring(0, 1).toUpperCase(Locale.ROOT) + value.substring(1);
     }
+
+    private record PayloadKey(Long therapistId, String timezone, Locale locale) { }
+
+    private record CachedPayload(long version, int firstEpochMinute, int size, AvailableSlotsPayload payload) {
+
+        boolean matches(SlotAvailabilityIndex.Window window) {
+            return window.size() == size
+                && window.version() == version
+                && (size == 0 || window.epochMinute(0) == firstEpochMinute);
+        }
+    }
 }
 
@@ -1,83 +1,155 @@
 package com.goodhelp.landing.application.usecase;
 
+import com.goodhelp.booking.application.AvailabilitySummary;
+import com.goodhelp.booking.application.TherapistAvailabilitySummaryService;
+import com.goodhelp.common.service.TimezoneHelper;
+import com.goodhelp.landing.application.dto.CatalogFacetsDto;
+import com.goodhelp.landing.application.dto.TherapistCatalogPageDto;
 import com.goodhelp.landing.application.dto.TherapistListItemDto;
-import com.goodhelp.therapist.domain.model.Therapist;
-import com.goodhelp.therapist.domain.model.TherapistPrice;
-import com.goodhelp.therapist.domain.repository.TherapistPriceRepository;
-import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import com.goodhelp.landing.application.service.TherapistCatalogSnapshot;
+import com.goodhelp.landing.application.service.TherapistCatalogSnapshotHolder;
+import com.goodhelp.landing.application.service.TherapistFacetIndex;
+import com.goodhelp.landing.application.service.TherapistFacetIndex.Filter;
+import com.goodhelp.landing.application.service.TherapistTopicIndex;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Use case for fetching therapist catalog for landing page.
- * Returns a list of therapists with their minimum prices.
+ * Returns a list of therapists with their minimum prices and availability summary
+ * (next bookable slot, free slots in the coming week).
+ *
+ * <p>Therapist and price data come from the prebuilt {@link TherapistCatalogSnapshot}
+ * and availability from the in-memory slot index, so a catalog request does not
+ * open a transaction. Topic filters use the snapshot's {@link TherapistTopicIndex},
+ * attribute filters and facet counts its {@link TherapistFacetIndex}.</p>
  */
 @Service
-@Transactional(readOnly = true)
 public class GetTherapistCatalogUseCase {
 
-    private final TherapistRepository therapistRepository;
-    private final TherapistPriceRepository priceRepository;
+    private final TherapistCatalogSnapshotHolder catalogSnapshot;
+    private final TherapistAvailabilitySummaryService availabilitySummaryService;
 
     public GetTherapistCatalogUseCase(
-            TherapistRepository therapistRepository,
-            TherapistPriceRepository priceRepository) {
-        this.therapistRepository = therapistRepository;
-        this.priceRepository = priceRepository;
+            TherapistCatalogSnapshotHolder catalogSnapshot,
+            TherapistAvailabilitySummaryService availabilitySummaryService) {
+        this.catalogSnapshot = catalogSnapshot;
+        this.availabilitySummaryService = availabilitySummaryService;
     }
 
     /**
-     * Get all active therapists for the catalog.
+     * Catalog ordering.
      */
-    public List<TherapistListItemDto> execute() {
-        // Get all active real therapists
-        List<Therapist> therapists = therapistRepository.findAllActiveRealTherapists();
-        
-        if (therapists.isEmpty()) {
-            return List.of();
+    public enum Sort {
+        /** Catalog order */
+        DEFAULT,
+        /** Lowest price first, therapists without prices last */
+        PRICE,
+        /** Soonest bookable slot first, therapists without free slots last */
+        NEXT_AVAILABLE
+    }
+
+    /**
+     * Catalog filter.
+     *
+     * @param topics topics and/or topic groups; empty for the whole catalog
+     * @param matchAll true to require every topic, false for any of them
+     * @param filter price, sex, therapy type, experience and language constraints
+     */
+    public record Query(List<String> topics, boolean matchAll, Filter filter, Sort sort) {
+
+        public Query {
+            topics = topics != null ? List.copyOf(topics) : List.of();
+            filter = filter != null ? filter : Filter.NONE;
+            sort = sort != null ? sort : Sort.DEFAULT;
+        }
+
+        public Query(List<String> topics, boolean matchAll, Sort sort) {
+            this(topics, matchAll, Filter.NONE, sort);
         }
 
-        // Get therapist IDs
-        List<Long> therapistIds = therapists.stream()
-            .map(Therapist::getId)
-            .toList();
-
-        // Fetch all active prices for these therapists
-        List<TherapistPrice> allPrices = priceRepository.findActiveByTherapistIds(therapistIds);
-
-        // Group prices by therapist ID
-        Map<Long, List<TherapistPrice>> pricesByTherapist = allPrices.stream()
-            .collect(Collectors.groupingBy(TherapistPrice::getTherapistId));
-
-        // Build DTOs
-        return therapists.stream()
-            .map(therapist -> {
-                List<TherapistPrice> prices = pricesByTherapist.getOrDefault(therapist.getId(), List.of());
-                
-                // Find minimum price
-                Integer minPrice = prices.stream()
-                    .map(TherapistPrice::getPrice)
-                    .min(Integer::compareTo)
-                    .orElse(null);
-                
-                boolean hasMultiplePrices = prices.size() > 1;
-                
-                return TherapistListItemDto.fromEntity(therapist, minPrice, hasMultiplePrices);
-            })
-            .toList();
+        public static Query topic(String topic) {
+            return new Query(List.of(topic), false, Sort.DEFAULT);
+        }
     }
 
     /**
-     * Get therapists filtered by topic/specialty.
-     * TODO: Implement topic filtering when specialty data is added to the domain model.
+     * Get all active therapists for the catalog.
+     */
+    public List<TherapistListItemDto> execute() {
+        return execute(new Query(List.of(), false, Sort.DEFAULT));
+    }
+
+    /**
+     * Get therapists working with a topic, or with any topic of a group.
      */
     public List<TherapistListItemDto> execute(String topic) {
-        // For now, return all therapists - topic filtering to be implemented
-        // when specialty/topic data is properly modeled
-        return execute();
+        return execute(Query.topic(topic));
+    }
+
+    /**
+     * Get therapists matching the query, ordered as requested.
+     *
+     * <p>Matching is a few bitset operations on the snapshot's topic and facet indexes;
+     * availability is summarized only for the matched therapists.</p>
+     */
+    public List<TherapistListItemDto> execute(Query query) {
+        TherapistCatalogSnapshot snapshot = catalogSnapshot.current();
+        BitSet matches = snapshot.topics().match(query.topics(), query.matchAll());
+        if (!query.filter().isEmpty()) {
+            matches.and(snapshot.facets().match(query.filter()));
+        }
+        return cards(snapshot, matches, query.sort());
+    }
+
+    /**
+     * Same as {@link #execute(Query)}, together with the facet counts of the query.
+     * Facet counts are taken within the topic matches.
+     */
+    public TherapistCatalogPageDto search(Query query) {
+        TherapistCatalogSnapshot snapshot = catalogSnapshot.current();
+        BitSet topicMatches = snapshot.topics().match(query.topics(), query.matchAll());
+        BitSet matches = (BitSet) topicMatches.clone();
+        if (!query.filter().isEmpty()) {
+            matches.and(snapshot.facets().match(query.filter()));
+        }
+        CatalogFacetsDto facets = snapshot.facets().facets(query.filter(), topicMatches);
+        return new TherapistCatalogPageDto(cards(snapshot, matches, query.sort()), facets);
     }
-}
 
+    private List<TherapistListItemDto> cards(TherapistCatalogSnapshot snapshot, BitSet matches, Sort sort) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        List<TherapistListItemDto> items = snapshot.items();
+
+        Map<Long, Integer> timeCapHours;
+        if (matches.cardinality() == items.size()) {
+            timeCapHours = snapshot.timeCapHours();
+        } else {
+            timeCapHours = new LinkedHashMap<>(matches.cardinality() * 2);
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                Long id = items.get(i).id();
+                timeCapHours.put(id, snapshot.timeCapHours().get(id));
+            }
+        }
+
+        // Availability for all matched therapists in one pass
+        Map<Long, AvailabilitySummary> availability = availabilitySummaryService.summarize(
+            timeCapHours, ZoneId.of(TimezoneHelper.DEFAULT_TIMEZONE));
+
+        List<TherapistListItemDto> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            TherapistListItemDto item = items.get(i);
+            result.add(item.withAvailability(availability.get(item.id())));
+        }
+        if (sort == Sort.PRICE) {
+            result.sort(TherapistListItemDto.BY_PRICE);
+        } else if (sort == Sort.NEXT_AVAILABLE) {
+            result.sort(TherapistListItemDto.BY_NEXT_AVAILABLE);
+        }
+        return result;
+    }
+}
@@ -1,14 +1,17 @@
 package com.goodhelp.landing.application.usecase;
 
+import com.goodhelp.common.util.TherapistPhotoUrls;
 import com.goodhelp.landing.application.dto.BookingPriceOptionDto;
 import com.goodhelp.landing.application.dto.BookingTherapistDto;
 import com.goodhelp.landing.application.dto.TherapistProfileData;
+import com.goodhelp.landing.application.service.TherapistProfileContentStore;
 import com.goodhelp.therapist.domain.model.PriceType;
 import com.goodhelp.therapist.domain.model.Therapist;
 import com.goodhelp.therapist.domain.model.TherapistPrice;
 import com.goodhelp.therapist.domain.model.TherapistProfile;
 import com.goodhelp.therapist.domain.repository.TherapistPriceRepository;
 import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,12 +31,15 @@ public class GetTherapistForBookingUseCase {
 
     private final TherapistRepository therapistRepository;
     private final TherapistPriceRepository priceRepository;
+    private final TherapistProfileContentStore profileContentStore;
 
     public GetTherapistForBookingUseCase(
             TherapistRepository therapistRepository,
-            TherapistPriceRepository priceRepository) {
+            TherapistPriceRepository priceRepository,
+            TherapistProfileContentStore profileContentStore) {
         this.therapistRepository = therapistRepository;
         this.priceRepository = priceRepository;
+        this.profileContentStore = profileContentStore;
     }
 
     /**
@@ -67,12 +73,11 @@ public class GetTherapistForBookingUseCase {
 
         Long defaultPriceId = resolveDefaultPriceId(options, priceSlug);
 
-        TherapistProfileData.ProfileInfo profileInfo = TherapistProfileData.getProfileInfo(therapistId);
+        TherapistProfileData.ProfileInfo profileInfo = profileContentStore.find(
+            therapistId, LocaleContextHolder.getLocale().getLanguage());
         String singlePhraseKey = profileInfo != null ? profileInfo.singlePhrase() : DEFAULT_SINGLE_PHRASE;
 
-        String photoUrl = profile.getProfileTemplate() != null
-            ? "/assets/landing/img/select-psiholog/" + profile.getProfileTemplate() + ".jpg"
-            : "/assets/landing/img/placeholder-therapist.jpg";
+        String photoUrl = TherapistPhotoUrls.url(profile.getProfileTemplate(), TherapistPhotoUrls.CARD);
 
         return Optional.of(new BookingTherapistDto(
             therapist.getId(),
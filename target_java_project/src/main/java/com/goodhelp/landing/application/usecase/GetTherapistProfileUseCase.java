@@ -1,8 +1,11 @@
 package com.goodhelp.landing.application.usecase;
 
+import com.goodhelp.common.service.TherapistPhotoVariantService;
+import com.goodhelp.common.util.TherapistPhotoUrls;
 import com.goodhelp.landing.application.dto.TherapistProfileData;
 import com.goodhelp.landing.application.dto.TherapistProfileDto;
 import com.goodhelp.landing.application.dto.TherapistProfileDto.*;
+import com.goodhelp.landing.application.service.TherapistProfileContentStore;
 import com.goodhelp.therapist.domain.model.Therapist;
 import com.goodhelp.therapist.domain.model.TherapistPrice;
 import com.goodhelp.therapist.domain.model.TherapistProfile;
@@ -23,12 +26,18 @@ public class GetTherapistProfileUseCase {
 
     private final TherapistRepository therapistRepository;
     private final TherapistPriceRepository priceRepository;
+    private final TherapistProfileContentStore profileContentStore;
+    private final TherapistPhotoVariantService photoVariantService;
 
     public GetTherapistProfileUseCase(
             TherapistRepository therapistRepository,
-            TherapistPriceRepository priceRepository) {
+            TherapistPriceRepository priceRepository,
+            TherapistProfileContentStore profileContentStore,
+            TherapistPhotoVariantService photoVariantService) {
         this.therapistRepository = therapistRepository;
         this.priceRepository = priceRepository;
+        this.profileContentStore = profileContentStore;
+        this.photoVariantService = photoVariantService;
     }
 
     /**
@@ -36,9 +45,10 @@ public class GetTherapistProfileUseCase {
      * 
      * @param therapistId the therapist ID
      * @param priceSlug optional price slug to highlight specific price
+     * @param locale site locale being rendered; only its profile content is loaded
      * @return Optional containing profile DTO, or empty if therapist not found/inactive
      */
-    public Optional<TherapistProfileDto> execute(Long therapistId, String priceSlug) {
+    public Optional<TherapistProfileDto> execute(Long therapistId, String priceSlug, String locale) {
         // Find active therapist
         Optional<Therapist> therapistOpt = therapistRepository.findById(therapistId);
         
@@ -53,8 +63,8 @@ public class GetTherapistProfileUseCase {
             return Optional.empty();
         }
 
-        // Get extended profile data (from static data provider for now)
-        TherapistProfileData.ProfileInfo profileInfo = TherapistProfileData.getProfileInfo(therapistId);
+        // Get extended profile content of the rendered locale
+        TherapistProfileData.ProfileInfo profileInfo = profileContentStore.find(therapistId, locale);
         
         // Get prices
         List<TherapistPrice> prices = priceRepository.findActiveByTherapistIds(List.of(therapistId));
@@ -90,8 +100,8 @@ public class GetTherapistProfileUseCase {
     /**
      * Get therapist profile by ID (without price slug).
      */
-    public Optional<TherapistProfileDto> execute(Long therapistId) {
-        return execute(therapistId, null);
+    public Optional<TherapistProfileDto> execute(Long therapistId, String locale) {
+        return execute(therapistId, null, locale);
     }
 
     private TherapistProfileDto buildProfileDto(
@@ -103,10 +113,10 @@ public class GetTherapistProfileUseCase {
             Integer displayPrice,
             boolean priceFrom) {
 
-        // Build photo URL
-        String photoUrl = profile.getProfileTemplate() != null
-            ? "/assets/landing/img/select-psiholog/" + profile.getProfileTemplate() + ".jpg"
-            : "/assets/landing/img/placeholder-therapist.jpg";
+        // Build photo URLs
+        String photoUrl = TherapistPhotoUrls.url(profile.getProfileTemplate(), TherapistPhotoUrls.PROFILE);
+        String photoSrcset = TherapistPhotoUrls.srcset(
+            profile.getProfileTemplate(), photoVariantService.sourceWidth(profile.getProfileTemplate()));
 
         // Convert prices to DTOs
         List<PriceDto> priceDtos = prices.stream()
@@ -139,8 +149,10 @@ public class GetTherapistProfileUseCase {
                 .toList();
         }
 
-        // Group topics
-        List<String> worksWith = profileInfo != null ? profileInfo.worksWith() : List.of();
+        // Group topics; documents may leave out any list
+        List<String> worksWith = profileInfo != null && profileInfo.worksWith() != null
+            ? profileInfo.worksWith()
+            : List.of();
         Map<String, List<String>> groupedTopics = TherapistProfileData.groupTopics(worksWith);
         
         // Convert to WorksWithGroup format
@@ -161,17 +173,22 @@ public class GetTherapistProfileUseCase {
             therapist.getId(),
             profile.getFullName(),
             photoUrl,
-            profileInfo != null ? profileInfo.singlePhrase() : "clinical_psiholog",
+            photoSrcset,
+            profileInfo != null && profileInfo.singlePhrase() != null
+                ? profileInfo.singlePhrase()
+                : "clinical_psiholog",
             profile.getYearsOfExperience(),
             profileInfo != null ? profileInfo.profileCourses() : null,
             profileInfo == null || profileInfo.hasPsychologistDiploma(),
             profileInfo != null && profileInfo.isNotTherapist(),
-            profileInfo != null ? profileInfo.therapyTypes() : List.of("Individual"),
-            profileInfo != null ? profileInfo.about() : Map.of(),
+            profileInfo != null && profileInfo.therapyTypes() != null
+                ? profileInfo.therapyTypes()
+                : List.of("Individual"),
+            profileInfo != null && profileInfo.about() != null ? profileInfo.about() : Map.of(),
             worksWith,
             worksWithGrouped,
             educationInfo,
-            profileInfo != null ? profileInfo.methods() : List.of(),
+            profileInfo != null && profileInfo.methods() != null ? profileInfo.methods() : List.of(),
             associationEntries,
             reviews,
             priceDtos,
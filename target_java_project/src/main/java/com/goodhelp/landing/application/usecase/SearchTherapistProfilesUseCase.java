@@ -0,0 +1,38 @@
+package com.goodhelp.landing.application.usecase;
+
+import com.goodhelp.landing.application.dto.ProfileSearchHitDto;
+import com.goodhelp.landing.application.service.ProfileSearchIndex;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use case for the free-text therapist search on the landing pages.
+ * Served from the in-process {@link ProfileSearchIndex}; no database access.
+ */
+@Service
+public class SearchTherapistProfilesUseCase {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final ProfileSearchIndex searchIndex;
+
+    public SearchTherapistProfilesUseCase(ProfileSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Search profiles in the given site locale.
+     *
+     * @param limit maximum number of hits, capped at {@link #MAX_LIMIT}
+     */
+    public List<ProfileSearchHitDto> execute(String query, String locale, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String trimmed = query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+        return searchIndex.search(trimmed, locale, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+}
@@ -1,14 +1,27 @@
 package com.goodhelp.landing.presentation.api;
 
+import com.goodhelp.landing.application.dto.AvailableSlotsPayload;
+import com.goodhelp.landing.application.dto.TherapistAvailableSlotsDto;
 import com.goodhelp.landing.application.usecase.ApplyPromocodeRequest;
 import com.goodhelp.landing.application.usecase.ApplyPromocodeUseCase;
+import com.goodhelp.landing.application.usecase.GetAvailableSlotsBatchUseCase;
+import com.goodhelp.landing.application.usecase.GetAvailableSlotsUseCase;
 import com.goodhelp.landing.application.usecase.PromocodeResult;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * API endpoints for booking-related AJAX calls.
  */
@@ -17,14 +30,50 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookConsultationApiController {
 
     private final ApplyPromocodeUseCase applyPromocodeUseCase;
+    private final GetAvailableSlotsUseCase availableSlotsUseCase;
+    private final GetAvailableSlotsBatchUseCase availableSlotsBatchUseCase;
 
-    public BookConsultationApiController(ApplyPromocodeUseCase applyPromocodeUseCase) {
+    public BookConsultationApiController(ApplyPromocodeUseCase applyPromocodeUseCase,
+                                         GetAvailableSlotsUseCase availableSlotsUseCase,
+                                         GetAvailableSlotsBatchUseCase availableSlotsBatchUseCase) {
         this.applyPromocodeUseCase = applyPromocodeUseCase;
+        this.availableSlotsUseCase = availableSlotsUseCase;
+        this.availableSlotsBatchUseCase = availableSlotsBatchUseCase;
     }
 
     @PostMapping("/apply-promocode")
     public PromocodeResult applyPromocode(@Valid @RequestBody ApplyPromocodeRequest request) {
         return applyPromocodeUseCase.execute(request);
     }
-}
 
+    /**
+     * Available slots of a therapist as JSON, in the given timezone (or the one saved in
+     * the {@code user_timezone} cookie).
+     *
+     * <p>The body is pre-serialized and carries a strong ETag, so Spring answers a
+     * matching {@code If-None-Match} with 304 and no body.</p>
+     */
+    @GetMapping("/{id}/slots")
+    public ResponseEntity<byte[]> availableSlots(@PathVariable Long id,
+                                                 @RequestParam(name = "tz", required = false) String timezone,
+                                                 @CookieValue(name = "user_timezone", required = false) String cookieTimezone) {
+        AvailableSlotsPayload payload = availableSlotsUseCase.executePayload(
+            id, timezone != null ? timezone : cookieTimezone);
+        return ResponseEntity.ok()
+            .eTag(payload.etag())
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(payload.json());
+    }
+
+    /**
+     * Available slots of several therapists (e.g. {@code ?ids=1,2,3}), for comparing them.
+     */
+    @GetMapping("/slots")
+    public List<TherapistAvailableSlotsDto> availableSlotsBatch(
+            @RequestParam("ids") List<Long> therapistIds,
+            @RequestParam(name = "tz", required = false) String timezone,
+            @CookieValue(name = "user_timezone", required = false) String cookieTimezone) {
+        return availableSlotsBatchUseCase.execute(therapistIds, timezone != null ? timezone : cookieTimezone);
+    }
+}
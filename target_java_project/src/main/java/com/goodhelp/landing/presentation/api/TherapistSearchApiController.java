@@ -0,0 +1,56 @@
+package com.goodhelp.landing.presentation.api;
+
+import com.goodhelp.booking.application.TimeWindowMatch;
+import com.goodhelp.landing.application.usecase.FindTherapistsByTimeWindowUseCase;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * API endpoints for searching therapists (catalog filters, request matching).
+ */
+@RestController
+@RequestMapping("/api/therapists")
+public class TherapistSearchApiController {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final FindTherapistsByTimeWindowUseCase findByTimeWindowUseCase;
+
+    public TherapistSearchApiController(FindTherapistsByTimeWindowUseCase findByTimeWindowUseCase) {
+        this.findByTimeWindowUseCase = findByTimeWindowUseCase;
+    }
+
+    /**
+     * Therapists free at a time of week, e.g.
+     * {@code ?days=MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY&from=18:00&to=00:00}.
+     * Responds 400 without days; {@code limit} is clamped to 1..200.
+     */
+    @GetMapping("/free-at")
+    public ResponseEntity<List<TimeWindowMatch>> freeAt(
+            @RequestParam(name = "days", required = false) Set<DayOfWeek> days,
+            @RequestParam("from") @DateTimeFormat(pattern = "HH:mm") LocalTime from,
+            @RequestParam("to") @DateTimeFormat(pattern = "HH:mm") LocalTime to,
+            @RequestParam(name = "tz", required = false) String timezone,
+            @RequestParam(name = "limit", defaultValue = "" + FindTherapistsByTimeWindowUseCase.DEFAULT_LIMIT) int limit,
+            @CookieValue(name = "user_timezone", required = false) String cookieTimezone) {
+        if (days == null || days.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(findByTimeWindowUseCase.execute(days, from, to,
+                timezone != null ? timezone : cookieTimezone, Math.max(1, Math.min(limit, MAX_LIMIT))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
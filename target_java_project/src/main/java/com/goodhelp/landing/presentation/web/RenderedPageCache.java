@@ -0,0 +1,138 @@
+package com.goodhelp.landing.presentation.web;
+
+import com.goodhelp.therapist.domain.event.TherapistCatalogChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded LRU cache of rendered landing pages, stored gzip-compressed with their ETag.
+ *
+ * <p>Profile pages are keyed by therapist, locale, price slug and the therapist's version,
+ * which is bumped (and the therapist's pages evicted) on every
+ * {@link TherapistCatalogChangedEvent}: profile, profile content and price changes.
+ * A page rendered while a change commits is stored under the old version and never served.
+ * Catalog pages are keyed by the catalog snapshot they were rendered from.</p>
+ *
+ * <p>Entries also expire after a TTL, which bounds staleness for data that changes
+ * without an event: availability on catalog cards and edits made outside Hibernate.</p>
+ */
+@Component
+public class RenderedPageCache {
+
+    private final long profileTtlMillis;
+    private final long catalogTtlMillis;
+    private final Map<Key, Page> pages;
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public RenderedPageCache(
+            @Value("${goodhelp.page-cache.size:1024}") int size,
+            @Value("${goodhelp.page-cache.profile-ttl-seconds:900}") long profileTtlSeconds,
+            @Value("${goodhelp.page-cache.catalog-ttl-seconds:60}") long catalogTtlSeconds) {
+        this.profileTtlMillis = profileTtlSeconds * 1000;
+        this.catalogTtlMillis = catalogTtlSeconds * 1000;
+        this.pages = new LinkedHashMap<>(Math.min(size, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Page> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * Cache key of a rendered page.
+     *
+     * @param therapistId therapist of a profile page, null for a catalog page
+     * @param locale site locale of the page (uk, ru, en)
+     * @param variant request parameters the page depends on (price slug, catalog topic and sort)
+     * @param viewerLocale locale chosen by the visitor for messages, empty if none
+     * @param version therapist version for profile pages, snapshot time for catalog pages
+     */
+    public record Key(Long therapistId, String locale, String variant, String viewerLocale, long version) {}
+
+    /**
+     * A rendered page.
+     *
+     * @param gzipped gzip-compressed body
+     * @param etag strong entity tag of the uncompressed body, quoted
+     */
+    public record Page(byte[] gzipped, String etag, String contentType, long storedAt) {
+
+        public byte[] body() {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Current version of a therapist's pages.
+     */
+    public long version(Long therapistId) {
+        return versions.getOrDefault(therapistId, 0L);
+    }
+
+    /**
+     * A fresh cached page, or null.
+     */
+    public Page get(Key key) {
+        Page page;
+        synchronized (pages) {
+            page = pages.get(key);
+        }
+        if (page == null) {
+            return null;
+        }
+        long ttl = key.therapistId() != null ? profileTtlMillis : catalogTtlMillis;
+        return System.currentTimeMillis() - page.storedAt() < ttl ? page : null;
+    }
+
+    /**
+     * Compress and store a rendered page.
+     *
+     * @return the stored page
+     */
+    public Page put(Key key, byte[] body, String contentType) {
+        Page page = new Page(gzip(body), "\"0" + DigestUtils.md5DigestAsHex(body) + "\"",
+            contentType, System.currentTimeMillis());
+        if (key.therapistId() != null && key.version() != version(key.therapistId())) {
+            // Rendered from data that has changed since
+            return page;
+        }
+        synchronized (pages) {
+            pages.put(key, page);
+        }
+        return page;
+    }
+
+    @EventListener
+    public void onCatalogChanged(TherapistCatalogChangedEvent event) {
+        versions.merge(event.therapistId(), 1L, Long::sum);
+        synchronized (pages) {
+            pages.keySet().removeIf(key -> event.therapistId().equals(key.therapistId()));
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(body.length / 4, 512));
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,177 @@
+package com.goodhelp.landing.presentation.web;
+
+import com.goodhelp.landing.application.service.TherapistCatalogSnapshotHolder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.i18n.SessionLocaleResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves therapist profile and catalog pages from {@link RenderedPageCache}.
+ *
+ * <p>Only anonymous GET requests are cached: the layout differs for signed-in visitors.
+ * Requests switching the locale ({@code lang} parameter) always render. Cached pages are
+ * sent gzip-compressed when the client accepts it, carry an ETag and are answered with
+ * 304 Not Modified on a matching {@code If-None-Match}. Tracking parameters (utm_*, gclid)
+ * do not split the cache; only the parameters the pages read are part of the key.</p>
+ */
+@Component
+public class RenderedPageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern PROFILE_PATH = Pattern.compile("^/(?:(ru|en)/)?profile/(\\d{1,18})$");
+    private static final Pattern CATALOG_PATH = Pattern.compile("^/(?:(ru|en)/)?therapist-list$");
+    private static final String LOCALE_CHANGE_PARAM = "lang";
+
+    private final RenderedPageCache cache;
+    private final TherapistCatalogSnapshotHolder snapshotHolder;
+    private final boolean enabled;
+
+    public RenderedPageCacheFilter(
+            RenderedPageCache cache,
+            TherapistCatalogSnapshotHolder snapshotHolder,
+            @Value("${goodhelp.page-cache.enabled:true}") boolean enabled) {
+        this.cache = cache;
+        this.snapshotHolder = snapshotHolder;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled
+            || !"GET".equals(request.getMethod())
+            || request.getParameter(LOCALE_CHANGE_PARAM) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        RenderedPageCache.Key key = isAnonymous() ? keyOf(request) : null;
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RenderedPageCache.Page cached = cache.get(key);
+        if (cached != null) {
+            send(cached, request, response);
+            return;
+        }
+
+        boolean hadSession = request.getSession(false) != null;
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        // A page that started a session or set a cookie is specific to this visitor
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK
+                && wrapper.getContentType() != null
+                && wrapper.getContentType().startsWith("text/html")
+                && wrapper.getHeader(HttpHeaders.SET_COOKIE) == null
+                && (hadSession || request.getSession(false) == null)) {
+            RenderedPageCache.Page page = cache.put(key, wrapper.getContentAsByteArray(), wrapper.getContentType());
+            addCachingHeaders(wrapper);
+            if (new ServletWebRequest(request, wrapper).checkNotModified(page.etag())) {
+                wrapper.resetBuffer();
+            }
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * Cache key of a profile or catalog page request, or null for other requests.
+     */
+    private RenderedPageCache.Key keyOf(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        Matcher profile = PROFILE_PATH.matcher(path);
+        if (profile.matches()) {
+            Long therapistId = Long.valueOf(profile.group(2));
+            return new RenderedPageCache.Key(
+                therapistId,
+                siteLocale(profile.group(1)),
+                String.valueOf(request.getParameter("tft")),
+                viewerLocale(request),
+                cache.version(therapistId)
+            );
+        }
+        Matcher catalog = CATALOG_PATH.matcher(path);
+        if (catalog.matches()) {
+            return new RenderedPageCache.Key(
+                null,
+                siteLocale(catalog.group(1)),
+                request.getParameter("topic") + "|" + request.getParameter("sort"),
+                viewerLocale(request),
+                snapshotHolder.current().builtAt().toEpochMilli()
+            );
+        }
+        return null;
+    }
+
+    private void send(RenderedPageCache.Page page, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(page.contentType());
+        addCachingHeaders(response);
+        if (new ServletWebRequest(request, response).checkNotModified(page.etag())) {
+            return;
+        }
+        byte[] body;
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = page.gzipped();
+        } else {
+            body = page.body();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Browsers may keep the page but must revalidate it with the ETag.
+     */
+    private static void addCachingHeaders(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || authentication instanceof AnonymousAuthenticationToken;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    /**
+     * Locale stored by {@link SessionLocaleResolver}; messages on the page are resolved with it.
+     */
+    private static String viewerLocale(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object locale = session != null
+            ? session.getAttribute(SessionLocaleResolver.LOCALE_SESSION_ATTRIBUTE_NAME)
+            : null;
+        return locale instanceof Locale l ? l.toLanguageTag() : "";
+    }
+
+    private static String siteLocale(String pathPrefix) {
+        return pathPrefix != null ? pathPrefix : "uk";
+    }
+}
@@ -1,15 +1,27 @@
 package com.goodhelp.landing.presentation.web;
 
+import com.goodhelp.landing.application.dto.ProfileSearchHitDto;
+import com.goodhelp.landing.application.dto.TherapistCatalogPageDto;
 import com.goodhelp.landing.application.dto.TherapistListItemDto;
+import com.goodhelp.landing.application.service.TherapistFacetIndex.Filter;
 import com.goodhelp.landing.application.usecase.GetTherapistCatalogUseCase;
+import com.goodhelp.landing.application.usecase.GetTherapistCatalogUseCase.Query;
+import com.goodhelp.landing.application.usecase.GetTherapistCatalogUseCase.Sort;
+import com.goodhelp.landing.application.usecase.SearchTherapistProfilesUseCase;
+import com.goodhelp.therapist.domain.model.PriceType;
+import com.goodhelp.therapist.domain.model.Sex;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controller for the therapist listing page.
@@ -19,9 +31,13 @@ import java.util.List;
 public class TherapistListController extends BaseLandingController {
 
     private final GetTherapistCatalogUseCase catalogUseCase;
+    private final SearchTherapistProfilesUseCase profileSearchUseCase;
 
-    public TherapistListController(GetTherapistCatalogUseCase catalogUseCase) {
+    public TherapistListController(
+            GetTherapistCatalogUseCase catalogUseCase,
+            SearchTherapistProfilesUseCase profileSearchUseCase) {
         this.catalogUseCase = catalogUseCase;
+        this.profileSearchUseCase = profileSearchUseCase;
     }
 
     /**
@@ -30,9 +46,10 @@ public class TherapistListController extends BaseLandingController {
     @GetMapping("/therapist-list")
     public String listUk(
             @RequestParam(required = false) String topic,
+            @RequestParam(required = false) String sort,
             Model model,
             HttpServletRequest request) {
-        return renderList(model, request, topic);
+        return renderList(model, request, topic, sort);
     }
 
     /**
@@ -41,9 +58,10 @@ public class TherapistListController extends BaseLandingController {
     @GetMapping("/ru/therapist-list")
     public String listRu(
             @RequestParam(required = false) String topic,
+            @RequestParam(required = false) String sort,
             Model model,
             HttpServletRequest request) {
-        return renderList(model, request, topic);
+        return renderList(model, request, topic, sort);
     }
 
     /**
@@ -52,21 +70,19 @@ public class TherapistListController extends BaseLandingController {
     @GetMapping("/en/therapist-list")
     public String listEn(
             @RequestParam(required = false) String topic,
+            @RequestParam(required = false) String sort,
             Model model,
             HttpServletRequest request) {
-        return renderList(model, request, topic);
+        return renderList(model, request, topic, sort);
     }
 
-    private String renderList(Model model, HttpServletRequest request, String topic) {
+    private String renderList(Model model, HttpServletRequest request, String topic, String sort) {
         addCommonAttributes(model, request, "therapist-list");
         
         // Fetch therapists
-        List<TherapistListItemDto> therapists;
+        List<TherapistListItemDto> therapists = catalogUseCase.execute(toQuery(topic, null, sort));
         if (topic != null && !topic.isBlank()) {
-            therapists = catalogUseCase.execute(topic);
             model.addAttribute("selectedTopic", topic);
-        } else {
-            therapists = catalogUseCase.execute();
         }
         
         model.addAttribute("therapistList", therapists);
@@ -77,26 +93,107 @@ public class TherapistListController extends BaseLandingController {
     @GetMapping("/json/therapist-list")
     public ResponseEntity<List<TherapistListItemDto>> listJson(
             @RequestParam(required = false) String topic,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String sort,
             Model model,
             HttpServletRequest request) {
-        return ResponseEntity.ok(_renderList(model, request, topic));
+        return ResponseEntity.ok(_renderList(model, request, toQuery(topic, match, sort)));
     }
 
-    private List<TherapistListItemDto> _renderList(Model model, HttpServletRequest request, String topic) {
+    private List<TherapistListItemDto> _renderList(Model model, HttpServletRequest request, Query query) {
         addCommonAttributes(model, request, "therapist-list");
 
         // Fetch therapists
-        List<TherapistListItemDto> therapists;
-        if (topic != null && !topic.isBlank()) {
-            therapists = catalogUseCase.execute(topic);
-            model.addAttribute("selectedTopic", topic);
-        } else {
-            therapists = catalogUseCase.execute();
+        List<TherapistListItemDto> therapists = catalogUseCase.execute(query);
+        if (!query.topics().isEmpty()) {
+            model.addAttribute("selectedTopic", String.join(",", query.topics()));
         }
 
         model.addAttribute("therapistList", therapists);
 
         return therapists;
     }
-}
 
+    /**
+     * Filtered catalog with facet counts, for the catalog filter panel.
+     * List parameters accept repeated or comma-separated values; unknown values are ignored.
+     */
+    @GetMapping("/json/therapist-search")
+    public ResponseEntity<TherapistCatalogPageDto> searchJson(
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer priceMin,
+            @RequestParam(required = false) Integer priceMax,
+            @RequestParam(required = false) List<String> sex,
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) Integer experience,
+            @RequestParam(required = false) List<String> language) {
+        Filter filter = new Filter(
+            priceMin,
+            priceMax,
+            parseEnums(sex, Sex.class),
+            parseEnums(type, PriceType.class),
+            experience,
+            language != null ? Set.copyOf(language) : null
+        );
+        Query base = toQuery(topic, match, sort);
+        return ResponseEntity.ok(catalogUseCase.search(
+            new Query(base.topics(), base.matchAll(), filter, base.sort())));
+    }
+
+    /**
+     * Free-text search over therapist profiles, ranked, with highlighted snippets.
+     *
+     * @param lang site locale (uk, ru, en); defaults to the request locale
+     */
+    @GetMapping("/json/profile-search")
+    public ResponseEntity<List<ProfileSearchHitDto>> profileSearchJson(
+            @RequestParam String q,
+            @RequestParam(required = false) String lang,
+            @RequestParam(defaultValue = "" + SearchTherapistProfilesUseCase.DEFAULT_LIMIT) int limit,
+            HttpServletRequest request) {
+        String locale = lang != null && !lang.isBlank() ? lang : RequestContextUtils.getLocale(request).getLanguage();
+        return ResponseEntity.ok(profileSearchUseCase.execute(q, locale, limit));
+    }
+
+    private static <E extends Enum<E>> Set<E> parseEnums(List<String> values, Class<E> type) {
+        if (values == null) {
+            return null;
+        }
+        Set<E> result = EnumSet.noneOf(type);
+        for (String value : values) {
+            for (E constant : type.getEnumConstants()) {
+                if (constant.name().equalsIgnoreCase(value.trim())) {
+                    result.add(constant);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Build a catalog query from request parameters.
+     *
+     * @param topic comma-separated topics and/or topic groups
+     * @param match "all" to require every topic; any topic otherwise
+     * @param sort "price" or "available"; catalog order otherwise
+     */
+    private static Query toQuery(String topic, String match, String sort) {
+        List<String> topics = new ArrayList<>();
+        if (topic != null) {
+            for (String part : topic.split(",")) {
+                if (!part.isBlank()) {
+                    topics.add(part.trim());
+                }
+            }
+        }
+        Sort order = Sort.DEFAULT;
+        if ("price".equalsIgnoreCase(sort)) {
+            order = Sort.PRICE;
+        } else if ("available".equalsIgnoreCase(sort)) {
+            order = Sort.NEXT_AVAILABLE;
+        }
+        return new Query(topics, "all".equalsIgnoreCase(match), order);
+    }
+}
@@ -0,0 +1,80 @@
+package com.goodhelp.landing.presentation.web;
+
+import com.goodhelp.common.service.TherapistPhotoVariantService;
+import com.goodhelp.common.service.TherapistPhotoVariantService.Variant;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves therapist photo variants built by {@link TherapistPhotoVariantService}.
+ *
+ * <p>URLs come from {@link com.goodhelp.common.util.TherapistPhotoUrls}. The format is
+ * negotiated from {@code Accept}, hence {@code Vary: Accept}. Files are handed to Tomcat's
+ * sendfile when the connector supports it, so the body is copied by the kernel without
+ * passing through the JVM.</p>
+ */
+@Controller
+public class TherapistPhotoController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final TherapistPhotoVariantService variantService;
+
+    public TherapistPhotoController(TherapistPhotoVariantService variantService) {
+        this.variantService = variantService;
+    }
+
+    @GetMapping("/photo/therapist/{template}/{width}")
+    public void photo(
+            @PathVariable String template,
+            @PathVariable int width,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        Optional<Variant> variant = variantService.find(template, width, accept != null && accept.contains("image/webp"));
+        if (variant.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(variant.get().etag())) {
+            return;
+        }
+
+        response.setContentType(variant.get().mediaType().toString());
+        long length = Files.size(variant.get().file());
+        response.setContentLengthLong(length);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, variant.get().file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(variant.get().file())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += channel.transferTo(position, length - position, out);
+            }
+        }
+    }
+}
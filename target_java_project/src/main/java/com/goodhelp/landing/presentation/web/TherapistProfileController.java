@@ -2,6 +2,7 @@ package com.goodhelp.landing.presentation.web;
 
 import com.goodhelp.common.exception.ResourceNotFoundException;
 import com.goodhelp.landing.application.dto.TherapistProfileDto;
+import com.goodhelp.landing.application.service.TherapistProfileContentStore;
 import com.goodhelp.landing.application.usecase.GetTherapistProfileUseCase;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Controller;
@@ -61,7 +62,8 @@ public class TherapistProfileController extends BaseLandingController {
 
     private String renderProfile(Long id, String priceSlug, Model model, HttpServletRequest request) {
         // Fetch profile
-        TherapistProfileDto profile = profileUseCase.execute(id, priceSlug)
+        String locale = getLocaleFromPath(request);
+        TherapistProfileDto profile = profileUseCase.execute(id, priceSlug, locale)
             .orElseThrow(() -> new ResourceNotFoundException("Therapist not found"));
 
         // Add common attributes
@@ -76,6 +78,9 @@ public class TherapistProfileController extends BaseLandingController {
         model.addAttribute("bookConsultationLink", profile.bookConsultationLink());
         model.addAttribute("topicsGrouped", profile.worksWithGrouped());
         model.addAttribute("reviews", profile.reviews());
+        // Only the path locale's content is loaded, so texts are read with its key
+        // rather than the session locale
+        model.addAttribute("contentLocale", TherapistProfileContentStore.contentKey(locale));
 
         // Set meta tags
         setMetaTags(model, 
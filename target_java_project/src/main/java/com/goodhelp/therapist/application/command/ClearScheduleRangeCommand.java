@@ -0,0 +1,17 @@
+package com.goodhelp.therapist.application.command;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * Command to make every slot in a date range unavailable.
+ * Dates are inclusive and in the therapist's timezone.
+ */
+public record ClearScheduleRangeCommand(
+    @NotNull
+    LocalDate fromDate,
+    @NotNull
+    LocalDate toDate
+) {
+}
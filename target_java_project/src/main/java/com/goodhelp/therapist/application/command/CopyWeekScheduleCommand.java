@@ -0,0 +1,21 @@
+package com.goodhelp.therapist.application.command;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * Command to repeat one week's available slots on the following weeks.
+ * Dates are Mondays in the therapist's timezone.
+ */
+public record CopyWeekScheduleCommand(
+    @NotNull
+    LocalDate sourceMonday,
+    @NotNull
+    LocalDate targetMonday,
+    @NotNull @Min(1) @Max(26)
+    Integer weeks
+) {
+}
@@ -0,0 +1,19 @@
+package com.goodhelp.therapist.application.command;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Command to add a dated availability exception.
+ * Without times the exception covers the whole day.
+ */
+public record SaveAvailabilityExceptionCommand(
+    @NotNull
+    LocalDate date,
+    LocalTime startTime,
+    LocalTime endTime,
+    boolean open
+) {
+}
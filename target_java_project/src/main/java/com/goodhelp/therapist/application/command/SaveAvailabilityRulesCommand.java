@@ -0,0 +1,36 @@
+package com.goodhelp.therapist.application.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Command to replace a therapist's weekly availability rules.
+ * Times are wall-clock times in the therapist's timezone.
+ */
+public record SaveAvailabilityRulesCommand(
+    @NotNull
+    @Valid
+    List<Rule> rules
+) {
+
+    /**
+     * One weekly rule: hourly slots from {@code startTime} up to (excluding) {@code endTime}.
+     */
+    public record Rule(
+        @NotNull @Min(1) @Max(7)
+        Integer dayOfWeek,
+        @NotNull
+        LocalTime startTime,
+        @NotNull
+        LocalTime endTime,
+        LocalDate validFrom,
+        LocalDate validUntil
+    ) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.goodhelp.therapist.application.dto;
+
+import com.goodhelp.booking.domain.model.AvailabilityException;
+import com.goodhelp.booking.domain.model.AvailabilityExceptionType;
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * DTO with a therapist's weekly availability rules and upcoming exceptions.
+ */
+public record AvailabilityRulesDto(
+    String timezone,
+    List<RuleDto> rules,
+    List<ExceptionDto> exceptions
+) {
+
+    public record RuleDto(
+        Long id,
+        int dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        LocalDate validFrom,
+        LocalDate validUntil
+    ) {
+        public static RuleDto fromEntity(AvailabilityRule rule) {
+            return new RuleDto(
+                rule.getId(),
+                rule.getDayOfWeek().getValue(),
+                rule.getStartTime(),
+                rule.getEndTime(),
+                rule.getValidFrom(),
+                rule.getValidUntil()
+            );
+        }
+    }
+
+    public record ExceptionDto(
+        Long id,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        boolean open
+    ) {
+        public static ExceptionDto fromEntity(AvailabilityException exception) {
+            return new ExceptionDto(
+                exception.getId(),
+                exception.getDate(),
+                exception.getStartTime(),
+                exception.getEndTime(),
+                exception.getType() == AvailabilityExceptionType.OPEN
+            );
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.goodhelp.therapist.application.dto;
+
+/**
+ * Outcome of a bulk schedule edit, counted in slots.
+ *
+ * @param changed slots opened (copy) or closed (clear)
+ * @param unchanged slots that already were in the requested state
+ * @param skipped booked, held, done or past slots that were left as they are
+ * @param conflicts slots changed by someone else between planning and writing
+ */
+public record BulkScheduleEditResultDto(
+    int changed,
+    int unchanged,
+    int skipped,
+    int conflicts
+) {
+}
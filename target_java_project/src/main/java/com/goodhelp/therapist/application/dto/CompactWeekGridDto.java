@@ -0,0 +1,56 @@
+package com.goodhelp.therapist.application.dto;
+
+import com.goodhelp.therapist.application.dto.WeekGridDto.DayHeaderDto;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Compact form of the weekly schedule settings grid.
+ *
+ * <p>Cells are numbered {@code day * cellsPerDay + index of the time of day}. Each
+ * state is a bitset over all cells, encoded as hex: cell {@code i} is bit
+ * {@code i % 4} of hex digit {@code i / 4}. Cells in none of the sets are unused.
+ * Local times of cells follow from {@code monday} and {@code cellMinutes}.</p>
+ *
+ * @param monday first day of the week
+ * @param cellsPerDay cells per day (48)
+ * @param cellMinutes minutes per cell (30)
+ * @param available cells available for booking
+ * @param booked cells booked (or held for a checkout)
+ * @param done cells with a completed consultation
+ * @param passed cells in the past
+ * @param bookedAtUtc UTC epoch-seconds of the booked slots, in cell order of {@code booked}
+ * @param days day headers
+ */
+public record CompactWeekGridDto(
+    LocalDate monday,
+    int cellsPerDay,
+    int cellMinutes,
+    String available,
+    String booked,
+    String done,
+    String passed,
+    long[] bookedAtUtc,
+    List<DayHeaderDto> days
+) {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Encode the first {@code size} bits as hex, four cells per digit, lowest cell in the lowest bit.
+     */
+    public static String toHex(BitSet bits, int size) {
+        char[] digits = new char[(size + 3) / 4];
+        for (int i = 0; i < digits.length; i++) {
+            int nibble = 0;
+            for (int bit = 0; bit < 4; bit++) {
+                if (bits.get(i * 4 + bit)) {
+                    nibble |= 1 << bit;
+                }
+            }
+            digits[i] = HEX[nibble];
+        }
+        return new String(digits);
+    }
+}
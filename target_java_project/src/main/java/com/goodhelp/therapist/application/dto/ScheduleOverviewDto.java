@@ -0,0 +1,41 @@
+package com.goodhelp.therapist.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Schedule counts over several weeks, per day and per week.
+ * Cell-level detail of a week is loaded separately through the week grid endpoint.
+ */
+public record ScheduleOverviewDto(
+    LocalDate from,
+    LocalDate to,
+    List<DaySummaryDto> days,
+    List<WeekSummaryDto> weeks
+) {
+
+    /**
+     * Slot counts of one day; open counts only future slots.
+     */
+    public record DaySummaryDto(
+        LocalDate date,
+        int open,
+        int booked,
+        int done
+    ) {
+    }
+
+    /**
+     * Slot counts of one week.
+     *
+     * @param weekDayFirst value of the {@code weekDayFirst} parameter that loads this week's grid
+     */
+    public record WeekSummaryDto(
+        LocalDate monday,
+        String weekDayFirst,
+        int open,
+        int booked,
+        int done
+    ) {
+    }
+}
@@ -1,9 +1,13 @@
 package com.goodhelp.therapist.application.dto;
 
 import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
 import com.goodhelp.booking.domain.model.SlotStatus;
+import com.goodhelp.common.service.TimezoneProjectionService;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 /**
@@ -25,7 +29,7 @@ public record ScheduleSlotDto(
      * Create DTO from domain entity (available slot).
      */
     public static ScheduleSlotDto fromEntity(ScheduleSlot slot, String timezone) {
-        ZonedDateTime localStart = slot.getAvailableAtInZone(timezone);
+        ZonedDateTime localStart = slot.getAvailableAtInZone(TimezoneProjectionService.zoneOf(timezone));
         // Assuming 1 hour duration for schedule display
         ZonedDateTime localEnd = localStart.plusHours(1);
         
@@ -42,6 +46,27 @@ public record ScheduleSlotDto(
         );
     }
 
+    /**
+     * Create DTO from a read-only slot projection.
+     */
+    public static ScheduleSlotDto fromView(ScheduleSlotView slot, ZoneId zone, Instant now) {
+        ZonedDateTime localStart = slot.startsAt().atZone(zone);
+        ZonedDateTime localEnd = localStart.plusHours(1);
+        boolean isPast = slot.isPast(now);
+
+        return new ScheduleSlotDto(
+            slot.id(),
+            slot.availableAt(),
+            localStart,
+            localEnd,
+            slot.status().name(),
+            slot.isAvailable() && !isPast,
+            isPast,
+            null,
+            null
+        );
+    }
+
     /**
      * Create DTO from domain entity with consultation info.
      */
@@ -51,7 +76,7 @@ public record ScheduleSlotDto(
             String clientName,
             Long consultationId) {
         
-        ZonedDateTime localStart = slot.getAvailableAtInZone(timezone);
+        ZonedDateTime localStart = slot.getAvailableAtInZone(TimezoneProjectionService.zoneOf(timezone));
         ZonedDateTime localEnd = localStart.plusHours(1);
         
         return new ScheduleSlotDto(
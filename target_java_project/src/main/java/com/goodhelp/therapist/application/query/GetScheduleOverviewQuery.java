@@ -0,0 +1,35 @@
+package com.goodhelp.therapist.application.query;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Query for per-day schedule counts over several consecutive weeks.
+ */
+public record GetScheduleOverviewQuery(
+    @NotNull(message = "Therapist ID is required")
+    Long therapistId,
+
+    @NotNull(message = "Start date is required")
+    LocalDate monday,
+
+    @Min(1) @Max(12)
+    int weeks
+) {
+    /**
+     * Create query for the whole weeks covering a calendar month.
+     */
+    public static GetScheduleOverviewQuery forMonth(Long therapistId, YearMonth month) {
+        LocalDate monday = month.atDay(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate sunday = month.atEndOfMonth().with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        int weeks = (int) ((ChronoUnit.DAYS.between(monday, sunday) + 1) / 7);
+        return new GetScheduleOverviewQuery(therapistId, monday, weeks);
+    }
+}
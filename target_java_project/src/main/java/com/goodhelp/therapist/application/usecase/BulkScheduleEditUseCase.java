@@ -0,0 +1,299 @@
+package com.goodhelp.therapist.application.usecase;
+
+import com.goodhelp.booking.application.RecurringAvailabilityService;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
+import com.goodhelp.booking.domain.model.SlotStatus;
+import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import com.goodhelp.common.exception.ResourceNotFoundException;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.common.service.TimezoneProjectionService.LocalProjection;
+import com.goodhelp.common.service.TimezoneProjectionService.OffsetTable;
+import com.goodhelp.therapist.application.command.ClearScheduleRangeCommand;
+import com.goodhelp.therapist.application.command.CopyWeekScheduleCommand;
+import com.goodhelp.therapist.application.dto.BulkScheduleEditResultDto;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for bulk edits of a therapist's schedule: repeating one week's available
+ * slots on the following weeks, and clearing a date range.
+ *
+ * <p>Both work on wall-clock times in the therapist's timezone, so a 09:00 slot stays
+ * at 09:00 across DST changes. Each operation reads existing rows and rule-opened
+ * times of the whole span once and writes all changes with batched upserts; booked,
+ * held, done and past slots are never touched.</p>
+ */
+@Service
+@Validated
+@Transactional
+public class BulkScheduleEditUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkScheduleEditUseCase.class);
+
+    public static final int MAX_WEEKS = 26;
+
+    private static final int SLOTS_PER_DAY = 48;
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int SLOT_DURATION_MINUTES = 30;
+    private static final int CELLS_PER_WEEK = SLOTS_PER_DAY * DAYS_IN_WEEK;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int MAX_OFFSET_SECONDS = 18 * 60 * 60; // widest UTC offset java.time allows
+
+    private final TherapistRepository therapistRepository;
+    private final ScheduleSlotRepository slotRepository;
+    private final RecurringAvailabilityService recurringAvailability;
+    private final TimezoneProjectionService timezoneProjection;
+
+    public BulkScheduleEditUseCase(
+            TherapistRepository therapistRepository,
+            ScheduleSlotRepository slotRepository,
+            RecurringAvailabilityService recurringAvailability,
+            TimezoneProjectionService timezoneProjection) {
+        this.therapistRepository = therapistRepository;
+        this.slotRepository = slotRepository;
+        this.recurringAvailability = recurringAvailability;
+        this.timezoneProjection = timezoneProjection;
+    }
+
+    /**
+     * Open every slot that is available in the source week at the same local day and
+     * time in each target week. Slots already open elsewhere in the target weeks stay open.
+     *
+     * @throws IllegalArgumentException if a date is not a Monday
+     */
+    public BulkScheduleEditResultDto copyWeek(Long therapistId, @Valid CopyWeekScheduleCommand command) {
+        requireMonday(command.sourceMonday());
+        requireMonday(command.targetMonday());
+        Therapist therapist = findTherapist(therapistId);
+        ZoneId zone = TimezoneProjectionService.zoneOf(therapist.getTimezone());
+
+        BitSet pattern = availableCells(therapist, zone, command.sourceMonday());
+        if (pattern.isEmpty()) {
+            return new BulkScheduleEditResultDto(0, 0, 0, 0);
+        }
+
+        long targetFromLocal = command.targetMonday().toEpochDay() * SECONDS_PER_DAY;
+        long targetToLocal = targetFromLocal + (long) command.weeks() * DAYS_IN_WEEK * SECONDS_PER_DAY;
+        OffsetTable offsets = timezoneProjection.offsets(zone,
+            targetFromLocal - MAX_OFFSET_SECONDS, targetToLocal + MAX_OFFSET_SECONDS);
+
+        // Target starts in UTC; a time inside a DST gap moves forward like ZonedDateTime does
+        // and may then coincide with the next cell, hence sort and de-duplicate
+        long[] targets = new long[pattern.cardinality() * command.weeks()];
+        int count = 0;
+        for (int week = 0; week < command.weeks(); week++) {
+            long weekLocal = targetFromLocal + (long) week * DAYS_IN_WEEK * SECONDS_PER_DAY;
+            for (int cell = pattern.nextSetBit(0); cell >= 0; cell = pattern.nextSetBit(cell + 1)) {
+                targets[count++] = offsets.toEpochSecond(weekLocal + cellOffsetSeconds(cell));
+            }
+        }
+        Arrays.sort(targets);
+
+        ExistingSlots existing = loadExisting(therapist,
+            offsets.toEpochSecond(targetFromLocal), offsets.toEpochSecond(targetToLocal), 0);
+        long nowSecond = Instant.now().getEpochSecond();
+
+        List<LocalDateTime> toOpen = new ArrayList<>();
+        int unchanged = 0;
+        int skipped = 0;
+        for (int i = 0; i < targets.length; i++) {
+            long second = targets[i];
+            if (i > 0 && second == targets[i - 1]) {
+                continue;
+            }
+            SlotStatus current = existing.statusAt(second);
+            if (second < nowSecond) {
+                skipped++;
+            } else if (current == null) {
+                if (existing.openedByRules(second)) {
+                    unchanged++;
+                } else {
+                    toOpen.add(utc(second));
+                }
+            } else if (current == SlotStatus.AVAILABLE) {
+                unchanged++;
+            } else if (current == SlotStatus.UNAVAILABLE) {
+                toOpen.add(utc(second));
+            } else {
+                skipped++;
+            }
+        }
+
+        int written = toOpen.isEmpty() ? 0 : slotRepository.upsertStatus(
+            therapistId, toOpen, SlotStatus.AVAILABLE, List.of(SlotStatus.UNAVAILABLE)).size();
+        log.info("Copied week {} of therapist {} to {} week(s) from {}: {} opened, {} skipped",
+            command.sourceMonday(), therapistId, command.weeks(), command.targetMonday(), written, skipped);
+
+        return new BulkScheduleEditResultDto(written, unchanged, skipped, toOpen.size() - written);
+    }
+
+    /**
+     * Make every open slot from {@code fromDate} through {@code toDate} unavailable,
+     * including slots opened by weekly rules (blocked with an UNAVAILABLE row).
+     *
+     * @throws IllegalArgumentException if the range is empty or longer than {@link #MAX_WEEKS} weeks
+     */
+    public BulkScheduleEditResultDto clearRange(Long therapistId, @Valid ClearScheduleRangeCommand command) {
+        long days = ChronoUnit.DAYS.between(command.fromDate(), command.toDate()) + 1;
+        if (days < 1 || days > (long) MAX_WEEKS * DAYS_IN_WEEK) {
+            throw new IllegalArgumentException("Date range must cover 1 to " + MAX_WEEKS * DAYS_IN_WEEK + " days");
+        }
+        Therapist therapist = findTherapist(therapistId);
+        ZoneId zone = TimezoneProjectionService.zoneOf(therapist.getTimezone());
+
+        long fromLocal = command.fromDate().toEpochDay() * SECONDS_PER_DAY;
+        long toLocal = command.toDate().plusDays(1).toEpochDay() * SECONDS_PER_DAY;
+        OffsetTable offsets = timezoneProjection.offsets(zone,
+            fromLocal - MAX_OFFSET_SECONDS, toLocal + MAX_OFFSET_SECONDS);
+        long nowSecond = Instant.now().getEpochSecond();
+        long fromUtc = offsets.toEpochSecond(fromLocal);
+        long toUtc = offsets.toEpochSecond(toLocal);
+
+        // Past times are never blocked, so rules only need expanding from now on
+        ExistingSlots existing = loadExisting(therapist, fromUtc, toUtc, nowSecond);
+
+        List<LocalDateTime> toClose = new ArrayList<>();
+        int unchanged = 0;
+        int skipped = 0;
+        for (ScheduleSlotView view : existing.rows().values()) {
+            SlotStatus status = view.status();
+            if (status == SlotStatus.AVAILABLE) {
+                if (view.availableAtEpochSecond() < nowSecond) {
+                    skipped++;
+                } else {
+                    toClose.add(view.availableAt());
+                }
+            } else if (status == SlotStatus.UNAVAILABLE) {
+                if (view.availableAtEpochSecond() >= nowSecond) {
+                    unchanged++;
+                }
+            } else if (status.isReserved()) {
+                skipped++;
+            }
+        }
+        for (int epochMinute : existing.ruleMinutes()) {
+            long second = epochMinute * 60L;
+            if (second >= nowSecond && !existing.rows().containsKey(second)) {
+                toClose.add(utc(second));
+            }
+        }
+
+        int written = toClose.isEmpty() ? 0 : slotRepository.upsertStatus(
+            therapistId, toClose, SlotStatus.UNAVAILABLE, List.of(SlotStatus.AVAILABLE)).size();
+        log.info("Cleared schedule of therapist {} from {} to {}: {} closed, {} skipped",
+            therapistId, command.fromDate(), command.toDate(), written, skipped);
+
+        return new BulkScheduleEditResultDto(written, unchanged, skipped, toClose.size() - written);
+    }
+
+    /**
+     * Cells (day * 48 + half-hour) of a week that are open for booking: AVAILABLE rows
+     * and rule-opened times without a row.
+     */
+    private BitSet availableCells(Therapist therapist, ZoneId zone, LocalDate monday) {
+        long mondayLocal = monday.toEpochDay() * SECONDS_PER_DAY;
+        long sundayEndLocal = mondayLocal + (long) DAYS_IN_WEEK * SECONDS_PER_DAY;
+        OffsetTable offsets = timezoneProjection.offsets(zone,
+            mondayLocal - MAX_OFFSET_SECONDS, sundayEndLocal + MAX_OFFSET_SECONDS);
+        ExistingSlots source = loadExisting(therapist,
+            offsets.toEpochSecond(mondayLocal), offsets.toEpochSecond(sundayEndLocal), 0);
+
+        List<ScheduleSlotView> views = List.copyOf(source.rows().values());
+        long[] seconds = new long[views.size() + source.ruleMinutes().length];
+        int count = 0;
+        for (ScheduleSlotView view : views) {
+            if (view.isAvailable()) {
+                seconds[count++] = view.availableAtEpochSecond();
+            }
+        }
+        for (int epochMinute : source.ruleMinutes()) {
+            long second = epochMinute * 60L;
+            if (!source.rows().containsKey(second)) {
+                seconds[count++] = second;
+            }
+        }
+
+        BitSet cells = new BitSet(CELLS_PER_WEEK);
+        LocalProjection local = timezoneProjection.projectEpochSeconds(zone, seconds, count);
+        for (int i = 0; i < local.size(); i++) {
+            long day = local.epochDay(i) - monday.toEpochDay();
+            int minuteOfDay = local.minuteOfDay(i);
+            if (day >= 0 && day < DAYS_IN_WEEK && minuteOfDay % SLOT_DURATION_MINUTES == 0) {
+                cells.set((int) day * SLOTS_PER_DAY + minuteOfDay / SLOT_DURATION_MINUTES);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Rows in [fromUtc, toUtc) and rule-opened times in [max(fromUtc, rulesFrom), toUtc).
+     */
+    private ExistingSlots loadExisting(Therapist therapist, long fromUtc, long toUtc, long rulesFrom) {
+        List<ScheduleSlotView> views = slotRepository.findAllViewsInRange(therapist.getId(), utc(fromUtc), utc(toUtc));
+        Map<Long, ScheduleSlotView> rows = new HashMap<>(views.size() * 2);
+        for (ScheduleSlotView view : views) {
+            rows.put(view.availableAtEpochSecond(), view);
+        }
+        long rulesFromUtc = Math.max(fromUtc, rulesFrom);
+        int[] ruleMinutes = rulesFromUtc < toUtc
+            ? recurringAvailability.expand(therapist, Instant.ofEpochSecond(rulesFromUtc), Instant.ofEpochSecond(toUtc))
+            : new int[0];
+        Arrays.sort(ruleMinutes);
+        return new ExistingSlots(rows, ruleMinutes);
+    }
+
+    private Therapist findTherapist(Long therapistId) {
+        return therapistRepository.findById(therapistId)
+            .orElseThrow(() -> new ResourceNotFoundException("Therapist", therapistId));
+    }
+
+    private static void requireMonday(LocalDate date) {
+        if (date.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new IllegalArgumentException("Week must start on a Monday: " + date);
+        }
+    }
+
+    private static long cellOffsetSeconds(int cell) {
+        return (long) (cell / SLOTS_PER_DAY) * SECONDS_PER_DAY
+            + (long) (cell % SLOTS_PER_DAY) * SLOT_DURATION_MINUTES * 60;
+    }
+
+    private static LocalDateTime utc(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Slot rows by UTC epoch-second, and sorted rule-opened UTC epoch-minutes.
+     */
+    private record ExistingSlots(Map<Long, ScheduleSlotView> rows, int[] ruleMinutes) {
+
+        SlotStatus statusAt(long epochSecond) {
+            ScheduleSlotView view = rows.get(epochSecond);
+            return view != null ? view.status() : null;
+        }
+
+        boolean openedByRules(long epochSecond) {
+            return Arrays.binarySearch(ruleMinutes, (int) (epochSecond / 60)) >= 0;
+        }
+    }
+}
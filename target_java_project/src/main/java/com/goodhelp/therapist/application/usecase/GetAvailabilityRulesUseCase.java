@@ -0,0 +1,54 @@
+package com.goodhelp.therapist.application.usecase;
+
+import com.goodhelp.booking.application.SlotAvailabilityIndex;
+import com.goodhelp.booking.domain.repository.AvailabilityExceptionRepository;
+import com.goodhelp.booking.domain.repository.AvailabilityRuleRepository;
+import com.goodhelp.common.exception.ResourceNotFoundException;
+import com.goodhelp.therapist.application.dto.AvailabilityRulesDto;
+import com.goodhelp.therapist.application.dto.AvailabilityRulesDto.ExceptionDto;
+import com.goodhelp.therapist.application.dto.AvailabilityRulesDto.RuleDto;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Use case for reading a therapist's weekly availability rules and upcoming exceptions.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetAvailabilityRulesUseCase {
+
+    private final TherapistRepository therapistRepository;
+    private final AvailabilityRuleRepository ruleRepository;
+    private final AvailabilityExceptionRepository exceptionRepository;
+
+    public GetAvailabilityRulesUseCase(
+            TherapistRepository therapistRepository,
+            AvailabilityRuleRepository ruleRepository,
+            AvailabilityExceptionRepository exceptionRepository) {
+        this.therapistRepository = therapistRepository;
+        this.ruleRepository = ruleRepository;
+        this.exceptionRepository = exceptionRepository;
+    }
+
+    public AvailabilityRulesDto execute(Long therapistId) {
+        Therapist therapist = therapistRepository.findById(therapistId)
+            .orElseThrow(() -> new ResourceNotFoundException("Therapist", therapistId));
+
+        LocalDate today = LocalDate.now(ZoneId.of(therapist.getTimezone()));
+        return new AvailabilityRulesDto(
+            therapist.getTimezone(),
+            ruleRepository.findByTherapistId(therapistId).stream()
+                .map(RuleDto::fromEntity)
+                .toList(),
+            exceptionRepository.findByTherapistIdInRange(
+                    therapistId, today, today.plusDays(SlotAvailabilityIndex.HORIZON_DAYS)).stream()
+                .map(ExceptionDto::fromEntity)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,196 @@
+package com.goodhelp.therapist.application.usecase;
+
+import com.goodhelp.booking.application.RecurringAvailabilityService;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
+import com.goodhelp.booking.domain.model.SlotStatus;
+import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import com.goodhelp.common.exception.ResourceNotFoundException;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.common.service.TimezoneProjectionService.OffsetTable;
+import com.goodhelp.therapist.application.dto.ScheduleOverviewDto;
+import com.goodhelp.therapist.application.dto.ScheduleOverviewDto.DaySummaryDto;
+import com.goodhelp.therapist.application.dto.ScheduleOverviewDto.WeekSummaryDto;
+import com.goodhelp.therapist.application.query.GetScheduleOverviewQuery;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import jakarta.validation.Valid;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Use case for the multi-week (or month) schedule overview: open, booked and done
+ * slot counts per day and per week.
+ *
+ * <p>All slot rows of the range are read with one ordered, streamed query and merged
+ * with the rule-opened times (also ordered) in a single pass, adding to per-day
+ * counters. No per-cell objects are created; the cell grid of a week is loaded only
+ * when the therapist opens it.</p>
+ */
+@Service
+@Validated
+@Transactional(readOnly = true)
+public class GetScheduleOverviewUseCase {
+
+    private static final DateTimeFormatter WEEK_PARAM_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int MAX_OFFSET_SECONDS = 18 * 60 * 60; // widest UTC offset java.time allows
+
+    private final TherapistRepository therapistRepository;
+    private final ScheduleSlotRepository slotRepository;
+    private final RecurringAvailabilityService recurringAvailability;
+    private final TimezoneProjectionService timezoneProjection;
+
+    public GetScheduleOverviewUseCase(
+            TherapistRepository therapistRepository,
+            ScheduleSlotRepository slotRepository,
+            RecurringAvailabilityService recurringAvailability,
+            TimezoneProjectionService timezoneProjection) {
+        this.therapistRepository = therapistRepository;
+        this.slotRepository = slotRepository;
+        this.recurringAvailability = recurringAvailability;
+        this.timezoneProjection = timezoneProjection;
+    }
+
+    /**
+     * Execute the overview for the weeks of the query.
+     *
+     * @throws IllegalArgumentException if the start date is not a Monday
+     */
+    public ScheduleOverviewDto execute(@Valid GetScheduleOverviewQuery query) {
+        if (query.monday().getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new IllegalArgumentException("Week must start on a Monday: " + query.monday());
+        }
+        Therapist therapist = therapistRepository.findById(query.therapistId())
+            .orElseThrow(() -> new ResourceNotFoundException("Therapist", query.therapistId()));
+        ZoneId zone = TimezoneProjectionService.zoneOf(therapist.getTimezone());
+
+        int days = query.weeks() * DAYS_IN_WEEK;
+        long fromLocal = query.monday().toEpochDay() * SECONDS_PER_DAY;
+        long toLocal = fromLocal + (long) days * SECONDS_PER_DAY;
+        OffsetTable offsets = timezoneProjection.offsets(zone,
+            fromLocal - MAX_OFFSET_SECONDS, toLocal + MAX_OFFSET_SECONDS);
+        long fromUtc = offsets.toEpochSecond(fromLocal);
+        long toUtc = offsets.toEpochSecond(toLocal);
+        long nowSecond = Instant.now().getEpochSecond();
+
+        // Only future times count as open, so rules need expanding from now on
+        long rulesFrom = Math.max(fromUtc, nowSecond);
+        int[] ruleMinutes = rulesFrom < toUtc
+            ? recurringAvailability.expand(therapist, Instant.ofEpochSecond(rulesFrom), Instant.ofEpochSecond(toUtc))
+            : new int[0];
+        Arrays.sort(ruleMinutes);
+
+        DayTally tally = new DayTally(query.monday().toEpochDay(), days, offsets, ruleMinutes, nowSecond);
+        slotRepository.forEachViewInRange(query.therapistId(),
+            LocalDateTime.ofEpochSecond(fromUtc, 0, ZoneOffset.UTC),
+            LocalDateTime.ofEpochSecond(toUtc, 0, ZoneOffset.UTC),
+            tally::accept);
+        tally.finish();
+
+        return toDto(query.monday(), tally);
+    }
+
+    private static ScheduleOverviewDto toDto(LocalDate monday, DayTally tally) {
+        List<DaySummaryDto> dayDtos = new ArrayList<>(tally.open.length);
+        List<WeekSummaryDto> weekDtos = new ArrayList<>(tally.open.length / DAYS_IN_WEEK);
+        for (int weekStart = 0; weekStart < tally.open.length; weekStart += DAYS_IN_WEEK) {
+            int open = 0;
+            int booked = 0;
+            int done = 0;
+            for (int day = weekStart; day < weekStart + DAYS_IN_WEEK; day++) {
+                dayDtos.add(new DaySummaryDto(monday.plusDays(day), tally.open[day], tally.booked[day], tally.done[day]));
+                open += tally.open[day];
+                booked += tally.booked[day];
+                done += tally.done[day];
+            }
+            LocalDate weekMonday = monday.plusDays(weekStart);
+            weekDtos.add(new WeekSummaryDto(
+                weekMonday, weekMonday.atStartOfDay().format(WEEK_PARAM_FORMATTER), open, booked, done));
+        }
+        return new ScheduleOverviewDto(monday, monday.plusDays(tally.open.length - 1L), dayDtos, weekDtos);
+    }
+
+    /**
+     * Per-day counters filled from the time-ordered row stream merged with the sorted
+     * rule-opened times. A row at the same time as a rule replaces the rule's slot.
+     */
+    private static final class DayTally {
+
+        private final long firstEpochDay;
+        private final OffsetTable offsets;
+        private final int[] ruleMinutes;
+        private final long nowSecond;
+        private final int[] open;
+        private final int[] booked;
+        private final int[] done;
+        private int nextRule;
+
+        DayTally(long firstEpochDay, int days, OffsetTable offsets, int[] ruleMinutes, long nowSecond) {
+            this.firstEpochDay = firstEpochDay;
+            this.offsets = offsets;
+            this.ruleMinutes = ruleMinutes;
+            this.nowSecond = nowSecond;
+            this.open = new int[days];
+            this.booked = new int[days];
+            this.done = new int[days];
+        }
+
+        void accept(ScheduleSlotView view) {
+            long second = view.availableAtEpochSecond();
+            while (nextRule < ruleMinutes.length && ruleMinutes[nextRule] * 60L < second) {
+                countRule(ruleMinutes[nextRule++] * 60L);
+            }
+            if (nextRule < ruleMinutes.length && ruleMinutes[nextRule] * 60L == second) {
+                nextRule++;
+            }
+
+            int day = dayOf(second);
+            if (day < 0) {
+                return;
+            }
+            SlotStatus status = view.status();
+            if (status == SlotStatus.AVAILABLE && second >= nowSecond) {
+                open[day]++;
+            } else if (status.isReserved()) {
+                booked[day]++;
+            } else if (status == SlotStatus.DONE) {
+                done[day]++;
+            }
+        }
+
+        void finish() {
+            while (nextRule < ruleMinutes.length) {
+                countRule(ruleMinutes[nextRule++] * 60L);
+            }
+        }
+
+        private void countRule(long second) {
+            int day = dayOf(second);
+            if (day >= 0) {
+                open[day]++;
+            }
+        }
+
+        /**
+         * Index of the therapist-local day of a UTC time, or -1 outside the range.
+         */
+        private int dayOf(long epochSecond) {
+            long localDay = Math.floorDiv(epochSecond + offsets.offsetAt(epochSecond), SECONDS_PER_DAY);
+            long index = localDay - firstEpochDay;
+            return index >= 0 && index < open.length ? (int) index : -1;
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.goodhelp.therapist.application.usecase;
 
-import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
 import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
-import com.goodhelp.booking.domain.service.ScheduleDomainService;
 import com.goodhelp.common.exception.ResourceNotFoundException;
 import com.goodhelp.therapist.application.dto.ScheduleSlotDto;
 import com.goodhelp.therapist.application.query.GetScheduleQuery;
@@ -13,9 +12,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 
@@ -29,15 +29,12 @@ public class GetScheduleUseCase {
 
     private final TherapistRepository therapistRepository;
     private final ScheduleSlotRepository slotRepository;
-    private final ScheduleDomainService scheduleDomainService;
 
     public GetScheduleUseCase(
             TherapistRepository therapistRepository,
-            ScheduleSlotRepository slotRepository,
-            ScheduleDomainService scheduleDomainService) {
+            ScheduleSlotRepository slotRepository) {
         this.therapistRepository = therapistRepository;
         this.slotRepository = slotRepository;
-        this.scheduleDomainService = scheduleDomainService;
     }
 
     /**
@@ -57,20 +54,21 @@ public class GetScheduleUseCase {
         Therapist therapist = therapistRepository.findById(query.therapistId())
             .orElseThrow(() -> new ResourceNotFoundException("Therapist", query.therapistId()));
 
-        String timezone = therapist.getTimezone();
+        ZoneId zone = ZoneId.of(therapist.getTimezone());
+        Instant now = Instant.now();
         
-        // Convert dates to datetime range
+        // Convert dates to datetime range [from, to)
         LocalDateTime from = query.from().atStartOfDay();
-        LocalDateTime to = query.to().atTime(LocalTime.MAX);
+        LocalDateTime to = query.to().plusDays(1).atStartOfDay();
 
-        // Fetch slots
-        List<ScheduleSlot> slots = slotRepository.findByTherapistIdAndAvailableAtBetween(
+        // Fetch slots (read-only projections)
+        List<ScheduleSlotView> slots = slotRepository.findAllViewsInRange(
             query.therapistId(), from, to
         );
 
         // Convert to DTOs
         List<ScheduleSlotDto> slotDtos = slots.stream()
-            .map(slot -> ScheduleSlotDto.fromEntity(slot, timezone))
+            .map(slot -> ScheduleSlotDto.fromView(slot, zone, now))
             .toList();
 
         // Group by date
@@ -80,8 +78,8 @@ public class GetScheduleUseCase {
             ));
 
         // Calculate stats
-        int available = (int) slots.stream().filter(ScheduleSlot::isAvailable).count();
-        int booked = (int) slots.stream().filter(ScheduleSlot::isBooked).count();
+        int available = (int) slots.stream().filter(ScheduleSlotView::isAvailable).count();
+        int booked = (int) slots.stream().filter(ScheduleSlotView::isBooked).count();
 
         return new Result(slotsByDate, slots.size(), available, booked);
     }
@@ -109,11 +109,11 @@ public class GetUnreadMessagesUseCase {
 
         Map<Long, UserInfo> result = new HashMap<>();
 
-        // Join with user and psiholog_user_notes tables
+        // Join with user and therapist_user_notes tables
         String sql = """
-            SELECT u.id, u.full_name, u.is_full_name_set_by_user, pun.name as notes_name
+            SELECT u.id, u.full_name, u.is_full_name_set_by_user, tun.name as notes_name
             FROM "user" u
-            LEFT JOIN psiholog_user_notes pun ON pun.user_id = u.id AND pun.psiholog_id = ?
+            LEFT JOIN therapist_user_notes tun ON tun.user_id = u.id AND tun.therapist_id = ?
             WHERE u.id IN (%s)
             """.formatted(
                 String.join(",", userIds.stream().map(String::valueOf).toList())
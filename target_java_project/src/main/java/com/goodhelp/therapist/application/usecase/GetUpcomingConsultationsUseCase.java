@@ -1,6 +1,7 @@
 package com.goodhelp.therapist.application.usecase;
 
 import com.goodhelp.common.exception.ResourceNotFoundException;
+import com.goodhelp.common.service.TimezoneProjectionService;
 import com.goodhelp.therapist.application.dto.ConsultationDto;
 import com.goodhelp.therapist.domain.model.Therapist;
 import com.goodhelp.therapist.domain.repository.TherapistRepository;
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -133,11 +134,11 @@ public class GetUpcomingConsultationsUseCase {
         LocalDateTime availableAt = convertToLocalDateTime(row[5]);
         String notesName = (String) row[7];
 
-        ZonedDateTime localTime = availableAt.atZone(ZoneId.of("UTC"))
-            .withZoneSameInstant(ZoneId.of(timezone));
+        ZonedDateTime localTime = ZonedDateTime.ofInstant(
+            availableAt, ZoneOffset.UTC, TimezoneProjectionService.zoneOf(timezone));
 
         String label = formatDateTimeLabel(localTime);
-        long timestampUtc = availableAt.atZone(ZoneId.of("UTC")).toEpochSecond();
+        long timestampUtc = availableAt.toEpochSecond(ZoneOffset.UTC);
 
         return new ConsultationDto(
             id,
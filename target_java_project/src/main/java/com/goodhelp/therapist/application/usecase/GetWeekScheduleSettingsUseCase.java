@@ -1,9 +1,14 @@
 package com.goodhelp.therapist.application.usecase;
 
-import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.booking.application.RecurringAvailabilityService;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
 import com.goodhelp.booking.domain.model.SlotStatus;
 import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
 import com.goodhelp.common.exception.ResourceNotFoundException;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.common.service.TimezoneProjectionService.LocalProjection;
+import com.goodhelp.common.service.TimezoneProjectionService.OffsetTable;
+import com.goodhelp.therapist.application.dto.CompactWeekGridDto;
 import com.goodhelp.therapist.application.dto.TimeSlotSettingDto;
 import com.goodhelp.therapist.application.dto.TimeSlotSettingDto.SlotState;
 import com.goodhelp.therapist.application.dto.WeekGridDto;
@@ -14,13 +19,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
-import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.util.*;
 
 /**
  * Use case for getting the weekly schedule settings grid.
- * Returns a grid of time slots (48 per day - every 30 minutes) for 7 days.
+ * Returns a grid of time slots (48 per day - every 30 minutes) for 7 days, either as
+ * one DTO per cell or as compact per-state bitsets.
  */
 @Service
 @Transactional(readOnly = true)
@@ -29,15 +34,24 @@ public class GetWeekScheduleSettingsUseCase {
     private static final int SLOTS_PER_DAY = 48; // 24 hours * 2 (30-minute slots)
     private static final int DAYS_IN_WEEK = 7;
     private static final int SLOT_DURATION_MINUTES = 30;
+    private static final int CELLS_PER_WEEK = SLOTS_PER_DAY * DAYS_IN_WEEK;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int MAX_OFFSET_SECONDS = 18 * 60 * 60; // widest UTC offset java.time allows
 
     private final TherapistRepository therapistRepository;
     private final ScheduleSlotRepository slotRepository;
+    private final RecurringAvailabilityService recurringAvailability;
+    private final TimezoneProjectionService timezoneProjection;
 
     public GetWeekScheduleSettingsUseCase(
             TherapistRepository therapistRepository,
-            ScheduleSlotRepository slotRepository) {
+            ScheduleSlotRepository slotRepository,
+            RecurringAvailabilityService recurringAvailability,
+            TimezoneProjectionService timezoneProjection) {
         this.therapistRepository = therapistRepository;
         this.slotRepository = slotRepository;
+        this.recurringAvailability = recurringAvailability;
+        this.timezoneProjection = timezoneProjection;
     }
 
     /**
@@ -49,103 +63,181 @@ public class GetWeekScheduleSettingsUseCase {
      * Execute the use case to get the weekly grid.
      */
     public WeekGridDto execute(Query query) {
+        WeekCells cells = computeCells(query);
+
+        // Build the grid
+        List<List<TimeSlotSettingDto>> timeRows = new ArrayList<>();
+        for (int halfHour = 0; halfHour < SLOTS_PER_DAY; halfHour++) {
+            List<TimeSlotSettingDto> row = new ArrayList<>();
+            for (int day = 0; day < DAYS_IN_WEEK; day++) {
+                int cell = day * SLOTS_PER_DAY + halfHour;
+                long localSecond = cells.localSecondOf(cell);
+                SlotState state = cells.states()[cell];
+                row.add(new TimeSlotSettingDto(
+                    state,
+                    cells.offsets().toEpochSecond(localSecond),
+                    TimezoneProjectionService.label(halfHour * SLOT_DURATION_MINUTES),
+                    LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC),
+                    state == SlotState.BOOKED ? cells.bookedAtUtc()[cell] : null
+                ));
+            }
+            timeRows.add(row);
+        }
+
+        return new WeekGridDto(timeRows, dayHeaders(query.mondayDate()));
+    }
+
+    /**
+     * Execute the use case to get the weekly grid as bitsets (one per state) instead
+     * of one object per cell.
+     */
+    public CompactWeekGridDto executeCompact(Query query) {
+        WeekCells cells = computeCells(query);
+
+        BitSet available = new BitSet(CELLS_PER_WEEK);
+        BitSet booked = new BitSet(CELLS_PER_WEEK);
+        BitSet done = new BitSet(CELLS_PER_WEEK);
+        BitSet passed = new BitSet(CELLS_PER_WEEK);
+        long[] bookedAtUtc = new long[CELLS_PER_WEEK];
+        int bookedCount = 0;
+        for (int cell = 0; cell < CELLS_PER_WEEK; cell++) {
+            switch (cells.states()[cell]) {
+                case AVAILABLE -> available.set(cell);
+                case BOOKED -> {
+                    booked.set(cell);
+                    bookedAtUtc[bookedCount++] = cells.bookedAtUtc()[cell];
+                }
+                case DONE -> done.set(cell);
+                case PASSED -> passed.set(cell);
+                case UNUSED -> { }
+            }
+        }
+
+        return new CompactWeekGridDto(
+            query.mondayDate(),
+            SLOTS_PER_DAY,
+            SLOT_DURATION_MINUTES,
+            CompactWeekGridDto.toHex(available, CELLS_PER_WEEK),
+            CompactWeekGridDto.toHex(booked, CELLS_PER_WEEK),
+            CompactWeekGridDto.toHex(done, CELLS_PER_WEEK),
+            CompactWeekGridDto.toHex(passed, CELLS_PER_WEEK),
+            Arrays.copyOf(bookedAtUtc, bookedCount),
+            dayHeaders(query.mondayDate())
+        );
+    }
+
+    /**
+     * Resolve the state of every cell of the week, cell = day * 48 + half-hour.
+     */
+    private WeekCells computeCells(Query query) {
         Therapist therapist = therapistRepository.findById(query.therapistId())
             .orElseThrow(() -> new ResourceNotFoundException("Therapist", query.therapistId()));
 
-        String therapistTimezone = therapist.getTimezone();
-        ZoneId therapistZone = ZoneId.of(therapistTimezone);
-        LocalDateTime mondayStart = query.mondayDate().atStartOfDay();
-        LocalDateTime sundayEnd = query.mondayDate().plusDays(7).atStartOfDay();
+        ZoneId therapistZone = TimezoneProjectionService.zoneOf(therapist.getTimezone());
+        LocalDate mondayDate = query.mondayDate();
+        long mondayLocalSecond = mondayDate.toEpochDay() * SECONDS_PER_DAY;
+        long sundayEndLocalSecond = mondayLocalSecond + (long) DAYS_IN_WEEK * SECONDS_PER_DAY;
+
+        // One offset table covers the whole week, whatever the zone's offset is
+        OffsetTable offsets = timezoneProjection.offsets(therapistZone,
+            mondayLocalSecond - MAX_OFFSET_SECONDS, sundayEndLocalSecond + MAX_OFFSET_SECONDS);
 
-        // Convert therapist's local time to UTC for database query
-        ZonedDateTime mondayUtc = mondayStart.atZone(therapistZone).withZoneSameInstant(ZoneId.of("UTC"));
-        ZonedDateTime sundayUtc = sundayEnd.atZone(therapistZone).withZoneSameInstant(ZoneId.of("UTC"));
+        // Convert therapist's local week bounds to UTC for the database query
+        Instant mondayUtc = Instant.ofEpochSecond(offsets.toEpochSecond(mondayLocalSecond));
+        Instant sundayUtc = Instant.ofEpochSecond(offsets.toEpochSecond(sundayEndLocalSecond));
 
-        // Fetch existing slots from database
-        List<ScheduleSlot> existingSlots = slotRepository.findByTherapistIdAndAvailableAtBetween(
+        // Fetch existing slots from database (read-only projections)
+        List<ScheduleSlotView> existingSlots = slotRepository.findAllViewsInRange(
             query.therapistId(),
-            mondayUtc.toLocalDateTime(),
-            sundayUtc.toLocalDateTime()
+            LocalDateTime.ofInstant(mondayUtc, ZoneOffset.UTC),
+            LocalDateTime.ofInstant(sundayUtc, ZoneOffset.UTC)
         );
 
-        // Index slots by their local datetime for quick lookup
-        Map<LocalDateTime, ScheduleSlot> slotsByTime = new HashMap<>();
-        for (ScheduleSlot slot : existingSlots) {
-            ZonedDateTime localTime = slot.getAvailableAt()
-                .atZone(ZoneId.of("UTC"))
-                .withZoneSameInstant(therapistZone);
-            slotsByTime.put(localTime.toLocalDateTime(), slot);
+        // Index slots by grid cell (local half-hour of the week) for quick lookup
+        ScheduleSlotView[] slotsByCell = new ScheduleSlotView[CELLS_PER_WEEK];
+        long[] slotSeconds = new long[existingSlots.size()];
+        for (int i = 0; i < slotSeconds.length; i++) {
+            slotSeconds[i] = existingSlots.get(i).availableAtEpochSecond();
+        }
+        LocalProjection slotTimes = timezoneProjection.projectEpochSeconds(therapistZone, slotSeconds, slotSeconds.length);
+        for (int i = 0; i < slotTimes.size(); i++) {
+            int cell = cellOf(slotTimes, i, mondayDate);
+            if (cell >= 0) {
+                slotsByCell[cell] = existingSlots.get(i);
+            }
         }
 
-        // Current time in therapist's timezone
-        ZonedDateTime nowLocal = ZonedDateTime.now(therapistZone);
-
-        // Build the grid
-        List<List<TimeSlotSettingDto>> timeRows = new ArrayList<>();
-        for (int halfHour = 0; halfHour < SLOTS_PER_DAY; halfHour++) {
-            List<TimeSlotSettingDto> row = new ArrayList<>();
-            for (int day = 0; day < DAYS_IN_WEEK; day++) {
-                LocalDateTime slotTime = mondayStart
-                    .plusDays(day)
-                    .plusMinutes((long) halfHour * SLOT_DURATION_MINUTES);
-
-                TimeSlotSettingDto dto = createSlotDto(
-                    slotTime, 
-                    slotsByTime.get(slotTime), 
-                    nowLocal.toLocalDateTime(),
-                    therapistZone
-                );
-                row.add(dto);
+        // Times opened by weekly rules; a row at the same time takes precedence
+        boolean[] openedByRules = new boolean[CELLS_PER_WEEK];
+        int[] ruleMinutes = recurringAvailability.expand(therapist, mondayUtc, sundayUtc);
+        LocalProjection ruleTimes = timezoneProjection.projectEpochMinutes(therapistZone, ruleMinutes, ruleMinutes.length);
+        for (int i = 0; i < ruleTimes.size(); i++) {
+            int cell = cellOf(ruleTimes, i, mondayDate);
+            if (cell >= 0) {
+                openedByRules[cell] = true;
             }
-            timeRows.add(row);
         }
 
-        // Build day headers
+        // Current time in therapist's timezone, as local epoch-second
+        long nowSecond = Instant.now().getEpochSecond();
+        long nowLocalSecond = nowSecond + offsets.offsetAt(nowSecond);
+
+        WeekCells cells = new WeekCells(mondayLocalSecond, offsets,
+            new SlotState[CELLS_PER_WEEK], new long[CELLS_PER_WEEK]);
+        for (int cell = 0; cell < CELLS_PER_WEEK; cell++) {
+            cells.states()[cell] = stateOf(cells, cell, slotsByCell[cell], openedByRules[cell], nowLocalSecond);
+        }
+        return cells;
+    }
+
+    /**
+     * Grid cell of a projected time, or -1 if it is outside the week or off the half-hour grid.
+     */
+    private static int cellOf(LocalProjection times, int index, LocalDate mondayDate) {
+        long day = times.epochDay(index) - mondayDate.toEpochDay();
+        int minuteOfDay = times.minuteOfDay(index);
+        if (day < 0 || day >= DAYS_IN_WEEK || minuteOfDay % SLOT_DURATION_MINUTES != 0) {
+            return -1;
+        }
+        return (int) day * SLOTS_PER_DAY + minuteOfDay / SLOT_DURATION_MINUTES;
+    }
+
+    private static SlotState stateOf(
+            WeekCells cells,
+            int cell,
+            ScheduleSlotView existingSlot,
+            boolean openedByRules,
+            long nowLocalSecond) {
+
+        if (cells.localSecondOf(cell) < nowLocalSecond) {
+            return SlotState.PASSED;
+        }
+        if (existingSlot == null) {
+            return openedByRules ? SlotState.AVAILABLE : SlotState.UNUSED;
+        }
+        SlotStatus slotStatus = existingSlot.status();
+        if (slotStatus == SlotStatus.AVAILABLE) {
+            return SlotState.AVAILABLE;
+        }
+        if (slotStatus.isReserved()) {
+            // A held slot is shown as booked: the therapist cannot change it either way
+            cells.bookedAtUtc()[cell] = existingSlot.availableAtEpochSecond();
+            return SlotState.BOOKED;
+        }
+        return slotStatus == SlotStatus.DONE ? SlotState.DONE : SlotState.UNUSED;
+    }
+
+    private List<DayHeaderDto> dayHeaders(LocalDate mondayDate) {
         List<DayHeaderDto> dayHeaders = new ArrayList<>();
         for (int day = 0; day < DAYS_IN_WEEK; day++) {
-            LocalDate date = query.mondayDate().plusDays(day);
+            LocalDate date = mondayDate.plusDays(day);
             dayHeaders.add(new DayHeaderDto(
                 date,
                 formatDateLabel(date),
                 date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.forLanguageTag("uk"))
             ));
         }
-
-        return new WeekGridDto(timeRows, dayHeaders);
-    }
-
-    private TimeSlotSettingDto createSlotDto(
-            LocalDateTime slotTime,
-            ScheduleSlot existingSlot,
-            LocalDateTime nowLocal,
-            ZoneId therapistZone) {
-
-        long timestamp = slotTime.atZone(therapistZone).toEpochSecond();
-        String timeLabel = slotTime.format(DateTimeFormatter.ofPattern("HH:mm"));
-        Long timestampUtc = null;
-
-        SlotState state;
-        if (slotTime.isBefore(nowLocal)) {
-            state = SlotState.PASSED;
-        } else if (existingSlot == null) {
-            state = SlotState.UNUSED;
-        } else {
-            SlotStatus slotStatus = existingSlot.getStatus();
-            if (slotStatus == SlotStatus.AVAILABLE) {
-                state = SlotState.AVAILABLE;
-            } else if (slotStatus == SlotStatus.BOOKED) {
-                state = SlotState.BOOKED;
-                timestampUtc = existingSlot.getAvailableAt()
-                    .atZone(ZoneId.of("UTC"))
-                    .toEpochSecond();
-            } else if (slotStatus == SlotStatus.DONE) {
-                state = SlotState.DONE;
-            } else {
-                state = SlotState.UNUSED;
-            }
-        }
-
-        return new TimeSlotSettingDto(state, timestamp, timeLabel, slotTime, timestampUtc);
+        return dayHeaders;
     }
 
     private String formatDateLabel(LocalDate date) {
@@ -171,5 +263,21 @@ public class GetWeekScheduleSettingsUseCase {
             default -> "";
         };
     }
-}
 
+    /**
+     * Resolved cells of one week.
+     *
+     * @param mondayLocalSecond start of the week as local epoch-second
+     * @param offsets therapist's zone offsets around the week
+     * @param states state per cell
+     * @param bookedAtUtc slot start (UTC epoch-second) per BOOKED cell
+     */
+    private record WeekCells(long mondayLocalSecond, OffsetTable offsets, SlotState[] states, long[] bookedAtUtc) {
+
+        long localSecondOf(int cell) {
+            return mondayLocalSecond
+                + (long) (cell / SLOTS_PER_DAY) * SECONDS_PER_DAY
+                + (long) (cell % SLOTS_PER_DAY) * SLOT_DURATION_MINUTES * 60;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.goodhelp.therapist.application.usecase;
+
+import com.goodhelp.booking.domain.event.AvailabilityRulesChangedEvent;
+import com.goodhelp.booking.domain.model.AvailabilityException;
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+import com.goodhelp.booking.domain.repository.AvailabilityExceptionRepository;
+import com.goodhelp.booking.domain.repository.AvailabilityRuleRepository;
+import com.goodhelp.common.exception.ResourceNotFoundException;
+import com.goodhelp.therapist.application.command.SaveAvailabilityExceptionCommand;
+import com.goodhelp.therapist.application.command.SaveAvailabilityRulesCommand;
+import com.goodhelp.therapist.application.dto.AvailabilityRulesDto.ExceptionDto;
+import com.goodhelp.therapist.application.dto.AvailabilityRulesDto.RuleDto;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Use case for editing a therapist's recurring availability:
+ * replacing the weekly rules and adding or removing dated exceptions.
+ */
+@Service
+@Validated
+@Transactional
+public class SaveAvailabilityRulesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SaveAvailabilityRulesUseCase.class);
+
+    private final AvailabilityRuleRepository ruleRepository;
+    private final AvailabilityExceptionRepository exceptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SaveAvailabilityRulesUseCase(
+            AvailabilityRuleRepository ruleRepository,
+            AvailabilityExceptionRepository exceptionRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.ruleRepository = ruleRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Replace all weekly rules of the therapist.
+     */
+    public List<RuleDto> replaceRules(Long therapistId, @Valid SaveAvailabilityRulesCommand command) {
+        List<AvailabilityRule> rules = command.rules().stream()
+            .map(rule -> AvailabilityRule.create(
+                therapistId,
+                DayOfWeek.of(rule.dayOfWeek()),
+                rule.startTime(),
+                rule.endTime(),
+                rule.validFrom(),
+                rule.validUntil()
+            ))
+            .toList();
+
+        List<AvailabilityRule> saved = ruleRepository.replaceForTherapist(therapistId, rules);
+        eventPublisher.publishEvent(new AvailabilityRulesChangedEvent(therapistId));
+        log.info("Replaced availability rules for therapist {}: {} rules", therapistId, saved.size());
+
+        return saved.stream().map(RuleDto::fromEntity).toList();
+    }
+
+    /**
+     * Add a dated exception (day off, blocked hours or extra hours).
+     */
+    public ExceptionDto addException(Long therapistId, @Valid SaveAvailabilityExceptionCommand command) {
+        LocalTime start = command.startTime() != null ? command.startTime() : LocalTime.MIDNIGHT;
+        LocalTime end = command.endTime() != null ? command.endTime() : LocalTime.MIDNIGHT;
+
+        AvailabilityException exception = command.open()
+            ? AvailabilityException.open(therapistId, command.date(), start, end)
+            : AvailabilityException.blocked(therapistId, command.date(), start, end);
+
+        AvailabilityException saved = exceptionRepository.save(exception);
+        eventPublisher.publishEvent(new AvailabilityRulesChangedEvent(therapistId));
+        log.info("Added availability exception {} for therapist {} on {}", saved.getId(), therapistId, command.date());
+
+        return ExceptionDto.fromEntity(saved);
+    }
+
+    /**
+     * Remove a dated exception of the therapist.
+     */
+    public void removeException(Long therapistId, Long exceptionId) {
+        AvailabilityException exception = exceptionRepository.findById(exceptionId)
+            .filter(found -> found.getTherapistId().equals(therapistId))
+            .orElseThrow(() -> new ResourceNotFoundException("AvailabilityException", exceptionId));
+
+        exceptionRepository.delete(exception);
+        eventPublisher.publishEvent(new AvailabilityRulesChangedEvent(therapistId));
+        log.info("Removed availability exception {} for therapist {}", exceptionId, therapistId);
+    }
+}
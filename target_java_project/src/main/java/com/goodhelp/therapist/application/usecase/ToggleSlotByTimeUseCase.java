@@ -1,5 +1,6 @@
 package com.goodhelp.therapist.application.usecase;
 
+import com.goodhelp.booking.application.RecurringAvailabilityService;
 import com.goodhelp.booking.domain.model.ScheduleSlot;
 import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
 import com.goodhelp.common.exception.ResourceNotFoundException;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Optional;
@@ -21,6 +23,9 @@ import java.util.Optional;
  * 
  * This is used by the weekly schedule settings grid where therapists
  * click on time slots to mark them as available or unavailable.
+ *
+ * Times opened by weekly availability rules need no row to be available;
+ * removing such a time stores an UNAVAILABLE row that blocks it.
  */
 @Service
 @Transactional
@@ -34,12 +39,15 @@ public class ToggleSlotByTimeUseCase {
 
     private final TherapistRepository therapistRepository;
     private final ScheduleSlotRepository slotRepository;
+    private final RecurringAvailabilityService recurringAvailability;
 
     public ToggleSlotByTimeUseCase(
             TherapistRepository therapistRepository,
-            ScheduleSlotRepository slotRepository) {
+            ScheduleSlotRepository slotRepository,
+            RecurringAvailabilityService recurringAvailability) {
         this.therapistRepository = therapistRepository;
         this.slotRepository = slotRepository;
+        this.recurringAvailability = recurringAvailability;
     }
 
     public record Command(
@@ -75,7 +83,7 @@ public class ToggleSlotByTimeUseCase {
         if (command.action() == ACTION_ADD) {
             return handleAdd(existingSlot, therapist, utcTime);
         } else if (command.action() == ACTION_REMOVE) {
-            return handleRemove(existingSlot);
+            return handleRemove(existingSlot, therapist, utcTime);
         } else {
             return Result.failed("Invalid action");
         }
@@ -91,6 +99,9 @@ public class ToggleSlotByTimeUseCase {
                 log.info("Reactivated slot {} for therapist {}", slot.getId(), therapist.getId());
             }
             // If already available or booked, do nothing
+        } else if (openedByRules(therapist, utcTime)) {
+            // Already available through a weekly rule - no row needed
+            return Result.ok();
         } else {
             ScheduleSlot newSlot = ScheduleSlot.createAvailable(therapist, utcTime);
             slotRepository.save(newSlot);
@@ -99,9 +110,13 @@ public class ToggleSlotByTimeUseCase {
         return Result.ok();
     }
 
-    private Result handleRemove(Optional<ScheduleSlot> existingSlot) {
+    private Result handleRemove(Optional<ScheduleSlot> existingSlot, Therapist therapist, LocalDateTime utcTime) {
         if (existingSlot.isEmpty()) {
-            // Nothing to remove
+            if (openedByRules(therapist, utcTime)) {
+                // Block the rule-based slot for this one date
+                slotRepository.save(ScheduleSlot.createUnavailable(therapist, utcTime));
+                log.info("Blocked rule-based slot at {} for therapist {}", utcTime, therapist.getId());
+            }
             return Result.ok();
         }
 
@@ -111,6 +126,10 @@ public class ToggleSlotByTimeUseCase {
             // Cannot remove booked slots from the grid - must cancel via consultation management
             return Result.failed("Cannot remove booked slot. Use consultation cancellation instead.");
         }
+        if (slot.isHeld()) {
+            // A client is in checkout for this slot; the hold expires on its own
+            return Result.failed("Cannot remove slot while a client is checking out.");
+        }
 
         // Mark as unavailable
         slot.markUnavailable();
@@ -119,5 +138,8 @@ public class ToggleSlotByTimeUseCase {
         
         return Result.ok();
     }
-}
 
+    private boolean openedByRules(Therapist therapist, LocalDateTime utcTime) {
+        return recurringAvailability.opensAt(therapist, utcTime.toInstant(ZoneOffset.UTC));
+    }
+}
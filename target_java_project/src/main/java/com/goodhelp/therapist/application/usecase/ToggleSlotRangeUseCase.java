@@ -0,0 +1,245 @@
+package com.goodhelp.therapist.application.usecase;
+
+import com.goodhelp.booking.application.RecurringAvailabilityService;
+import com.goodhelp.booking.domain.model.ScheduleSlotView;
+import com.goodhelp.booking.domain.model.SlotStatus;
+import com.goodhelp.booking.domain.repository.ScheduleSlotRepository;
+import com.goodhelp.common.exception.ResourceNotFoundException;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.common.service.TimezoneProjectionService.OffsetTable;
+import com.goodhelp.therapist.application.dto.TimeSlotSettingDto.SlotState;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.repository.TherapistRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Use case for toggling many cells of the weekly schedule settings grid at once.
+ *
+ * <p>Same rules as {@link ToggleSlotByTimeUseCase}, applied to a whole drag-painted
+ * series or time range in one transaction: existing rows and rule-opened times are
+ * read with one query each, and all writes go out as batched upserts. Booked, held,
+ * done and past cells are left as they are.</p>
+ *
+ * <p>The result is the grid delta: the state of every requested cell afterwards.</p>
+ */
+@Service
+@Transactional
+public class ToggleSlotRangeUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ToggleSlotRangeUseCase.class);
+
+    public static final int MAX_CELLS = 7 * 48;
+
+    private static final int SLOT_DURATION_MINUTES = 30;
+    private static final int MAX_OFFSET_SECONDS = 18 * 60 * 60; // widest UTC offset java.time allows
+
+    private final TherapistRepository therapistRepository;
+    private final ScheduleSlotRepository slotRepository;
+    private final RecurringAvailabilityService recurringAvailability;
+    private final TimezoneProjectionService timezoneProjection;
+
+    public ToggleSlotRangeUseCase(
+            TherapistRepository therapistRepository,
+            ScheduleSlotRepository slotRepository,
+            RecurringAvailabilityService recurringAvailability,
+            TimezoneProjectionService timezoneProjection) {
+        this.therapistRepository = therapistRepository;
+        this.slotRepository = slotRepository;
+        this.recurringAvailability = recurringAvailability;
+        this.timezoneProjection = timezoneProjection;
+    }
+
+    /**
+     * Cells to toggle, as grid times in the therapist's timezone.
+     *
+     * @param action {@link ToggleSlotByTimeUseCase#ACTION_ADD} or {@link ToggleSlotByTimeUseCase#ACTION_REMOVE}
+     */
+    public record Command(
+        Long therapistId,
+        List<LocalDateTime> timesInTherapistTz,
+        int action
+    ) {
+
+        /**
+         * Every grid cell in [{@code from}, {@code to}), in 30-minute steps.
+         */
+        public static Command range(Long therapistId, LocalDateTime from, LocalDateTime to, int action) {
+            List<LocalDateTime> times = new ArrayList<>();
+            for (LocalDateTime time = from;
+                 time.isBefore(to) && times.size() <= MAX_CELLS;
+                 time = time.plusMinutes(SLOT_DURATION_MINUTES)) {
+                times.add(time);
+            }
+            return new Command(therapistId, times, action);
+        }
+    }
+
+    /**
+     * State of one cell after the toggle.
+     */
+    public record CellState(LocalDateTime timeInTherapistTz, SlotState state) {}
+
+    public record Result(boolean succeeded, String message, List<CellState> cells) {
+        public static Result ok(List<CellState> cells) {
+            return new Result(true, null, cells);
+        }
+
+        public static Result failed(String message) {
+            return new Result(false, message, List.of());
+        }
+    }
+
+    public Result execute(Command command) {
+        int action = command.action();
+        if (action != ToggleSlotByTimeUseCase.ACTION_ADD && action != ToggleSlotByTimeUseCase.ACTION_REMOVE) {
+            return Result.failed("Invalid action");
+        }
+        // Sorted and de-duplicated; a drag may pass over the same cell twice
+        TreeSet<LocalDateTime> localTimes = new TreeSet<>(command.timesInTherapistTz());
+        if (localTimes.isEmpty()) {
+            return Result.ok(List.of());
+        }
+        if (localTimes.size() > MAX_CELLS) {
+            return Result.failed("Too many slots in one request (max " + MAX_CELLS + ")");
+        }
+
+        Therapist therapist = therapistRepository.findById(command.therapistId())
+            .orElseThrow(() -> new ResourceNotFoundException("Therapist", command.therapistId()));
+
+        // Convert therapist's local times to UTC with one offset table for the whole span
+        long firstLocal = localTimes.first().toEpochSecond(ZoneOffset.UTC);
+        long lastLocal = localTimes.last().toEpochSecond(ZoneOffset.UTC);
+        OffsetTable offsets = timezoneProjection.offsets(TimezoneProjectionService.zoneOf(therapist.getTimezone()),
+            firstLocal - MAX_OFFSET_SECONDS, lastLocal + MAX_OFFSET_SECONDS);
+
+        List<LocalDateTime> requested = new ArrayList<>(localTimes);
+        long[] utcSeconds = new long[requested.size()];
+        // A cell inside a DST gap moves forward onto the cell an hour later; it is written
+        // once and reports the state of that cell (-1: first cell at its UTC second)
+        int[] sameAs = new int[requested.size()];
+        Map<Long, Integer> firstCellBySecond = new HashMap<>(requested.size() * 2);
+        long minUtc = Long.MAX_VALUE;
+        long maxUtc = Long.MIN_VALUE;
+        for (int i = 0; i < utcSeconds.length; i++) {
+            utcSeconds[i] = offsets.toEpochSecond(requested.get(i).toEpochSecond(ZoneOffset.UTC));
+            Integer first = firstCellBySecond.putIfAbsent(utcSeconds[i], i);
+            sameAs[i] = first != null ? first : -1;
+            minUtc = Math.min(minUtc, utcSeconds[i]);
+            maxUtc = Math.max(maxUtc, utcSeconds[i]);
+        }
+
+        // Existing rows and rule-opened times of the whole span, one query each
+        Map<Long, ScheduleSlotView> existingBySecond = viewsBySecond(therapist.getId(), minUtc, maxUtc);
+        int[] ruleMinutes = recurringAvailability.expand(therapist,
+            Instant.ofEpochSecond(minUtc), Instant.ofEpochSecond(maxUtc + 60));
+        Arrays.sort(ruleMinutes);
+
+        long nowSecond = Instant.now().getEpochSecond();
+        SlotState[] states = new SlotState[requested.size()];
+        List<LocalDateTime> toWrite = new ArrayList<>();
+        for (int i = 0; i < states.length; i++) {
+            long utcSecond = utcSeconds[i];
+            if (sameAs[i] >= 0) {
+                continue;
+            }
+            if (utcSecond < nowSecond) {
+                states[i] = SlotState.PASSED;
+                continue;
+            }
+            ScheduleSlotView existing = existingBySecond.get(utcSecond);
+            boolean openedByRules = Arrays.binarySearch(ruleMinutes, (int) (utcSecond / 60)) >= 0;
+            SlotStatus current = existing != null ? existing.status() : null;
+
+            boolean write = action == ToggleSlotByTimeUseCase.ACTION_ADD
+                ? current == SlotStatus.UNAVAILABLE || (current == null && !openedByRules)
+                : current == SlotStatus.AVAILABLE || (current == null && openedByRules);
+            if (write) {
+                toWrite.add(LocalDateTime.ofEpochSecond(utcSecond, 0, ZoneOffset.UTC));
+                states[i] = action == ToggleSlotByTimeUseCase.ACTION_ADD ? SlotState.AVAILABLE : SlotState.UNUSED;
+            } else {
+                states[i] = stateOf(current, openedByRules);
+            }
+        }
+
+        if (!toWrite.isEmpty()) {
+            SlotStatus target = action == ToggleSlotByTimeUseCase.ACTION_ADD ? SlotStatus.AVAILABLE : SlotStatus.UNAVAILABLE;
+            SlotStatus replaceable = action == ToggleSlotByTimeUseCase.ACTION_ADD ? SlotStatus.UNAVAILABLE : SlotStatus.AVAILABLE;
+            List<ScheduleSlotView> written = slotRepository.upsertStatus(
+                therapist.getId(), toWrite, target, List.of(replaceable));
+            log.info("Set {} slots to {} for therapist {}", written.size(), target, therapist.getId());
+
+            if (written.size() < toWrite.size()) {
+                // Some rows changed since they were read (e.g. booked meanwhile): report their actual state
+                refreshLostCells(therapist.getId(), written, utcSeconds, states, minUtc, maxUtc, ruleMinutes);
+            }
+        }
+
+        List<CellState> cells = new ArrayList<>(states.length);
+        for (int i = 0; i < states.length; i++) {
+            if (sameAs[i] >= 0) {
+                states[i] = states[sameAs[i]];
+            }
+            cells.add(new CellState(requested.get(i), states[i]));
+        }
+        return Result.ok(cells);
+    }
+
+    private Map<Long, ScheduleSlotView> viewsBySecond(Long therapistId, long minUtc, long maxUtc) {
+        List<ScheduleSlotView> views = slotRepository.findAllViewsInRange(therapistId,
+            LocalDateTime.ofEpochSecond(minUtc, 0, ZoneOffset.UTC),
+            LocalDateTime.ofEpochSecond(maxUtc + 1, 0, ZoneOffset.UTC));
+        Map<Long, ScheduleSlotView> bySecond = new HashMap<>(views.size() * 2);
+        for (ScheduleSlotView view : views) {
+            bySecond.put(view.availableAtEpochSecond(), view);
+        }
+        return bySecond;
+    }
+
+    private void refreshLostCells(Long therapistId, List<ScheduleSlotView> written, long[] utcSeconds,
+                                  SlotState[] states, long minUtc, long maxUtc, int[] ruleMinutes) {
+        Set<Long> writtenSeconds = new HashSet<>();
+        for (ScheduleSlotView view : written) {
+            writtenSeconds.add(view.availableAtEpochSecond());
+        }
+        Map<Long, ScheduleSlotView> current = viewsBySecond(therapistId, minUtc, maxUtc);
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] == null || states[i] == SlotState.PASSED || writtenSeconds.contains(utcSeconds[i])) {
+                continue;
+            }
+            ScheduleSlotView view = current.get(utcSeconds[i]);
+            boolean openedByRules = Arrays.binarySearch(ruleMinutes, (int) (utcSeconds[i] / 60)) >= 0;
+            states[i] = stateOf(view != null ? view.status() : null, openedByRules);
+        }
+    }
+
+    /**
+     * Grid state of a cell, as in {@link GetWeekScheduleSettingsUseCase}.
+     */
+    private static SlotState stateOf(SlotStatus status, boolean openedByRules) {
+        if (status == null) {
+            return openedByRules ? SlotState.AVAILABLE : SlotState.UNUSED;
+        }
+        if (status == SlotStatus.AVAILABLE) {
+            return SlotState.AVAILABLE;
+        }
+        if (status.isReserved()) {
+            return SlotState.BOOKED;
+        }
+        return status == SlotStatus.DONE ? SlotState.DONE : SlotState.UNUSED;
+    }
+}
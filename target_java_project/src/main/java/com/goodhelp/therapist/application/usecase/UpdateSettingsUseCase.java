@@ -1,5 +1,6 @@
 package com.goodhelp.therapist.application.usecase;
 
+import com.goodhelp.booking.domain.event.AvailabilityRulesChangedEvent;
 import com.goodhelp.common.exception.ResourceNotFoundException;
 import com.goodhelp.therapist.application.command.UpdateSettingsCommand;
 import com.goodhelp.therapist.application.dto.TherapistDto;
@@ -10,6 +11,7 @@ import com.goodhelp.therapist.domain.repository.TherapistSettingsRepository;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -26,12 +28,15 @@ public class UpdateSettingsUseCase {
 
     private final TherapistRepository therapistRepository;
     private final TherapistSettingsRepository settingsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UpdateSettingsUseCase(
             TherapistRepository therapistRepository,
-            TherapistSettingsRepository settingsRepository) {
+            TherapistSettingsRepository settingsRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.therapistRepository = therapistRepository;
         this.settingsRepository = settingsRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -54,6 +59,8 @@ public class UpdateSettingsUseCase {
 
         settings.updateTimezone(command.timezone());
         settingsRepository.save(settings);
+        // Weekly availability rules are wall-clock times in this timezone
+        eventPublisher.publishEvent(new AvailabilityRulesChangedEvent(therapistId));
         
         log.info("Updated settings for therapist {}: timezone={}", therapistId, command.timezone());
 
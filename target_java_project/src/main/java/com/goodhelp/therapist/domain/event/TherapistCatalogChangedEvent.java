@@ -0,0 +1,10 @@
+package com.goodhelp.therapist.domain.event;
+
+/**
+ * Published after a commit that changed data shown in the public therapist catalog:
+ * the therapist itself (status, embedded profile), its settings, profile content or prices.
+ *
+ * @param therapistId therapist whose catalog entry may be stale
+ */
+public record TherapistCatalogChangedEvent(Long therapistId) {
+}
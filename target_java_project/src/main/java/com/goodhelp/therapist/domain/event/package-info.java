@@ -0,0 +1,8 @@
+/**
+ * Domain events for the Therapist bounded context.
+ * 
+ * <ul>
+ *   <li>{@link com.goodhelp.therapist.domain.event.TherapistCatalogChangedEvent} - Therapist, profile, settings or price changed (after commit)</li>
+ * </ul>
+ */
+package com.goodhelp.therapist.domain.event;
@@ -0,0 +1,68 @@
+package com.goodhelp.therapist.domain.model;
+
+import com.goodhelp.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.Objects;
+
+/**
+ * Extended public profile content of a therapist in one site locale
+ * (about text, topics, education, methods, reviews), stored as a JSON document.
+ *
+ * <p>The document is opaque to the domain; the landing context reads it. The
+ * version increases with every change, so caches of rendered content can key on it.</p>
+ */
+@Entity
+@Table(name = "therapist_profile_content",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uq_therapist_profile_content_therapist_locale",
+        columnNames = {"therapist_id", "locale"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TherapistProfileContent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "therapist_id", nullable = false)
+    private Long therapistId;
+
+    @Column(name = "locale", length = 5, nullable = false)
+    private String locale;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    private TherapistProfileContent(Long therapistId, String locale, String content) {
+        this.therapistId = Objects.requireNonNull(therapistId, "Therapist ID is required");
+        this.locale = Objects.requireNonNull(locale, "Locale is required");
+        this.content = Objects.requireNonNull(content, "Content is required");
+    }
+
+    /**
+     * Create profile content for a therapist and locale.
+     *
+     * @param content JSON document
+     */
+    public static TherapistProfileContent create(Long therapistId, String locale, String content) {
+        return new TherapistProfileContent(therapistId, locale, content);
+    }
+
+    /**
+     * Replace the JSON document.
+     */
+    public void replaceContent(String content) {
+        this.content = Objects.requireNonNull(content, "Content is required");
+    }
+}
@@ -0,0 +1,7 @@
+package com.goodhelp.therapist.domain.model;
+
+/**
+ * Version of one profile content document, without the document itself.
+ */
+public record TherapistProfileContentVersion(Long therapistId, String locale, Integer version) {
+}
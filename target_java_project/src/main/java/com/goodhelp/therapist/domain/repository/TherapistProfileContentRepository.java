@@ -0,0 +1,40 @@
+package com.goodhelp.therapist.domain.repository;
+
+import com.goodhelp.therapist.domain.model.TherapistProfileContent;
+import com.goodhelp.therapist.domain.model.TherapistProfileContentVersion;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for TherapistProfileContent.
+ * One content document per therapist and site locale.
+ */
+public interface TherapistProfileContentRepository {
+
+    /**
+     * Find the content of a therapist in one locale.
+     */
+    Optional<TherapistProfileContent> findByTherapistIdAndLocale(Long therapistId, String locale);
+
+    /**
+     * Find the content of several therapists in every locale.
+     */
+    List<TherapistProfileContent> findByTherapistIdIn(Collection<Long> therapistIds);
+
+    /**
+     * Find the content of several therapists in one locale.
+     */
+    List<TherapistProfileContent> findByTherapistIdInAndLocale(Collection<Long> therapistIds, String locale);
+
+    /**
+     * Find locales and versions of the content of several therapists, without loading the documents.
+     */
+    List<TherapistProfileContentVersion> findVersionsByTherapistIds(Collection<Long> therapistIds);
+
+    /**
+     * Save content (create or update).
+     */
+    TherapistProfileContent save(TherapistProfileContent content);
+}
@@ -4,6 +4,7 @@ import com.goodhelp.therapist.domain.model.Therapist;
 import com.goodhelp.therapist.domain.model.TherapistRole;
 import com.goodhelp.therapist.domain.model.TherapistStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,16 @@ public interface TherapistRepository {
      */
     Optional<Therapist> findById(Long id);
 
+    /**
+     * Find several therapists by ID with a single query. Missing IDs are skipped.
+     */
+    List<Therapist> findAllByIds(Collection<Long> ids);
+
+    /**
+     * Same as {@link #findAllByIds}, with settings fetched in the same query.
+     */
+    List<Therapist> findAllWithSettingsByIds(Collection<Long> ids);
+
     /**
      * Find therapist by email address.
      * Email comparison should be case-insensitive.
@@ -56,7 +56,7 @@ public interface JpaChatMessageRepository extends JpaRepository<ChatMessage, Lon
     @Query(value = """
         SELECT MAX(m.id) as latestMessageId, m.user_id as userId, COUNT(m.id) as unreadCount
         FROM chat_message m
-        WHERE m.psiholog_id = :therapistId
+        WHERE m.therapist_id = :therapistId
           AND m.type = :senderTypeValue
           AND m.state = :statusValue
         GROUP BY m.user_id
@@ -0,0 +1,29 @@
+package com.goodhelp.therapist.infrastructure.persistence;
+
+import com.goodhelp.therapist.domain.model.TherapistProfileContent;
+import com.goodhelp.therapist.domain.model.TherapistProfileContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for TherapistProfileContent entity.
+ */
+@Repository
+public interface JpaTherapistProfileContentRepository extends JpaRepository<TherapistProfileContent, Long> {
+
+    Optional<TherapistProfileContent> findByTherapistIdAndLocale(Long therapistId, String locale);
+
+    List<TherapistProfileContent> findByTherapistIdIn(Collection<Long> therapistIds);
+
+    List<TherapistProfileContent> findByTherapistIdInAndLocale(Collection<Long> therapistIds, String locale);
+
+    @Query("SELECT new com.goodhelp.therapist.domain.model.TherapistProfileContentVersion(c.therapistId, c.locale, c.version) " +
+           "FROM TherapistProfileContent c WHERE c.therapistId IN :therapistIds")
+    List<TherapistProfileContentVersion> findVersionsByTherapistIds(@Param("therapistIds") Collection<Long> therapistIds);
+}
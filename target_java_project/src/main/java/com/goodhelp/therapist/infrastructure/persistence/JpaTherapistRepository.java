@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,12 @@ public interface JpaTherapistRepository extends JpaRepository<Therapist, Long> {
      */
     List<Therapist> findByStatus(TherapistStatus status);
 
+    /**
+     * Find therapists by ID together with their settings.
+     */
+    @Query("SELECT t FROM Therapist t LEFT JOIN FETCH t.settings WHERE t.id IN :ids")
+    List<Therapist> findAllWithSettingsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Find all therapists with given status and roles.
      */
@@ -0,0 +1,119 @@
+package com.goodhelp.therapist.infrastructure.persistence;
+
+import com.goodhelp.therapist.domain.event.TherapistCatalogChangedEvent;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistPrice;
+import com.goodhelp.therapist.domain.model.TherapistProfileContent;
+import com.goodhelp.therapist.domain.model.TherapistSettings;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Hibernate post-commit listener that turns writes to catalog data into
+ * {@link TherapistCatalogChangedEvent}s.
+ *
+ * <p>Covers {@link Therapist} (including its embedded profile), {@link TherapistSettings},
+ * {@link TherapistProfileContent} and both mappings of the {@code therapist_price} table.
+ * Events fire only once the transaction has committed.</p>
+ */
+@Component
+public class TherapistCatalogChangePublisher implements
+        PostCommitInsertEventListener,
+        PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> CATALOG_ENTITIES = Set.of(
+        Therapist.class,
+        TherapistSettings.class,
+        TherapistPrice.class,
+        TherapistProfileContent.class,
+        com.goodhelp.booking.domain.model.TherapistPrice.class
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TherapistCatalogChangePublisher(
+            EntityManagerFactory entityManagerFactory,
+            ApplicationEventPublisher eventPublisher) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed - the catalog stays as it is
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was committed - the catalog stays as it is
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was committed - the catalog stays as it is
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return CATALOG_ENTITIES.contains(persister.getMappedClass());
+    }
+
+    private void publish(Object entity) {
+        Long therapistId = null;
+        if (entity instanceof Therapist therapist) {
+            therapistId = therapist.getId();
+        } else if (entity instanceof TherapistSettings settings) {
+            therapistId = settings.getTherapist().getId();
+        } else if (entity instanceof TherapistPrice price) {
+            therapistId = price.getTherapistId();
+        } else if (entity instanceof TherapistProfileContent content) {
+            therapistId = content.getTherapistId();
+        } else if (entity instanceof com.goodhelp.booking.domain.model.TherapistPrice price) {
+            therapistId = price.getTherapist().getId();
+        }
+        if (therapistId != null) {
+            eventPublisher.publishEvent(new TherapistCatalogChangedEvent(therapistId));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.goodhelp.therapist.infrastructure.persistence;
+
+import com.goodhelp.therapist.domain.model.TherapistProfileContent;
+import com.goodhelp.therapist.domain.model.TherapistProfileContentVersion;
+import com.goodhelp.therapist.domain.repository.TherapistProfileContentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter that implements the domain repository interface using Spring Data JPA.
+ */
+@Component
+public class TherapistProfileContentRepositoryAdapter implements TherapistProfileContentRepository {
+
+    private final JpaTherapistProfileContentRepository jpaRepository;
+
+    public TherapistProfileContentRepositoryAdapter(JpaTherapistProfileContentRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<TherapistProfileContent> findByTherapistIdAndLocale(Long therapistId, String locale) {
+        return jpaRepository.findByTherapistIdAndLocale(therapistId, locale);
+    }
+
+    @Override
+    public List<TherapistProfileContent> findByTherapistIdIn(Collection<Long> therapistIds) {
+        if (therapistIds == null || therapistIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByTherapistIdIn(therapistIds);
+    }
+
+    @Override
+    public List<TherapistProfileContent> findByTherapistIdInAndLocale(Collection<Long> therapistIds, String locale) {
+        if (therapistIds == null || therapistIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByTherapistIdInAndLocale(therapistIds, locale);
+    }
+
+    @Override
+    public List<TherapistProfileContentVersion> findVersionsByTherapistIds(Collection<Long> therapistIds) {
+        if (therapistIds == null || therapistIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findVersionsByTherapistIds(therapistIds);
+    }
+
+    @Override
+    public TherapistProfileContent save(TherapistProfileContent content) {
+        return jpaRepository.save(content);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,22 @@ public class TherapistRepositoryAdapter implements TherapistRepository {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<Therapist> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Therapist> findAllWithSettingsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllWithSettingsByIdIn(ids);
+    }
+
     @Override
     public Optional<Therapist> findByEmail(String email) {
         return jpaRepository.findByEmailIgnoreCase(email);
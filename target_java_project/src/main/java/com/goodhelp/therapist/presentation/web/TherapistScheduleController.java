@@ -1,12 +1,26 @@
 package com.goodhelp.therapist.presentation.web;
 
+import com.goodhelp.therapist.application.command.ClearScheduleRangeCommand;
+import com.goodhelp.therapist.application.command.CopyWeekScheduleCommand;
+import com.goodhelp.therapist.application.command.SaveAvailabilityExceptionCommand;
+import com.goodhelp.therapist.application.command.SaveAvailabilityRulesCommand;
+import com.goodhelp.therapist.application.dto.AvailabilityRulesDto;
+import com.goodhelp.therapist.application.dto.CompactWeekGridDto;
 import com.goodhelp.therapist.application.dto.ConsultationDto;
+import com.goodhelp.therapist.application.dto.ScheduleOverviewDto;
 import com.goodhelp.therapist.application.dto.WeekGridDto;
 import com.goodhelp.therapist.application.dto.WeekInfoDto;
+import com.goodhelp.therapist.application.usecase.BulkScheduleEditUseCase;
+import com.goodhelp.therapist.application.query.GetScheduleOverviewQuery;
+import com.goodhelp.therapist.application.usecase.GetAvailabilityRulesUseCase;
+import com.goodhelp.therapist.application.usecase.GetScheduleOverviewUseCase;
 import com.goodhelp.therapist.application.usecase.GetUpcomingConsultationsUseCase;
 import com.goodhelp.therapist.application.usecase.GetWeekScheduleSettingsUseCase;
+import com.goodhelp.therapist.application.usecase.SaveAvailabilityRulesUseCase;
 import com.goodhelp.therapist.application.usecase.ToggleSlotByTimeUseCase;
+import com.goodhelp.therapist.application.usecase.ToggleSlotRangeUseCase;
 import com.goodhelp.therapist.infrastructure.security.TherapistUserDetails;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -15,7 +29,10 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +44,7 @@ import java.util.Map;
  * - Viewing upcoming consultations
  * - Managing schedule availability
  * - Weekly schedule settings grid
+ * - Recurring weekly availability rules and dated exceptions
  */
 @Controller
 @RequestMapping("/therapist/schedule")
@@ -39,15 +57,30 @@ public class TherapistScheduleController {
 
     private final GetUpcomingConsultationsUseCase getConsultationsUseCase;
     private final GetWeekScheduleSettingsUseCase getWeekSettingsUseCase;
+    private final GetScheduleOverviewUseCase getOverviewUseCase;
     private final ToggleSlotByTimeUseCase toggleSlotUseCase;
+    private final ToggleSlotRangeUseCase toggleSlotRangeUseCase;
+    private final GetAvailabilityRulesUseCase getRulesUseCase;
+    private final SaveAvailabilityRulesUseCase saveRulesUseCase;
+    private final BulkScheduleEditUseCase bulkEditUseCase;
 
     public TherapistScheduleController(
             GetUpcomingConsultationsUseCase getConsultationsUseCase,
             GetWeekScheduleSettingsUseCase getWeekSettingsUseCase,
-            ToggleSlotByTimeUseCase toggleSlotUseCase) {
+            GetScheduleOverviewUseCase getOverviewUseCase,
+            ToggleSlotByTimeUseCase toggleSlotUseCase,
+            ToggleSlotRangeUseCase toggleSlotRangeUseCase,
+            GetAvailabilityRulesUseCase getRulesUseCase,
+            SaveAvailabilityRulesUseCase saveRulesUseCase,
+            BulkScheduleEditUseCase bulkEditUseCase) {
         this.getConsultationsUseCase = getConsultationsUseCase;
         this.getWeekSettingsUseCase = getWeekSettingsUseCase;
+        this.getOverviewUseCase = getOverviewUseCase;
         this.toggleSlotUseCase = toggleSlotUseCase;
+        this.toggleSlotRangeUseCase = toggleSlotRangeUseCase;
+        this.getRulesUseCase = getRulesUseCase;
+        this.saveRulesUseCase = saveRulesUseCase;
+        this.bulkEditUseCase = bulkEditUseCase;
     }
 
     /**
@@ -126,6 +159,52 @@ public class TherapistScheduleController {
         return "therapist/fragments/schedule-settings-week";
     }
 
+    /**
+     * AJAX endpoint to get the weekly schedule grid as per-state bitsets,
+     * rendered client-side by cabinet.js.
+     * GET /therapist/schedule/settings/week/compact
+     */
+    @GetMapping("/settings/week/compact")
+    @ResponseBody
+    public ResponseEntity<CompactWeekGridDto> getCompactWeekSchedule(
+            @RequestParam String weekDayFirst,
+            @AuthenticationPrincipal TherapistUserDetails user) {
+
+        LocalDate mondayDate = LocalDateTime.parse(weekDayFirst, DATE_FORMATTER).toLocalDate();
+        var query = new GetWeekScheduleSettingsUseCase.Query(user.getId(), mondayDate);
+        return ResponseEntity.ok(getWeekSettingsUseCase.executeCompact(query));
+    }
+
+    /**
+     * AJAX endpoint to get per-day and per-week slot counts for a month
+     * ({@code month=yyyy-MM}) or for {@code weeks} weeks from {@code weekDayFirst}.
+     * GET /therapist/schedule/settings/overview
+     */
+    @GetMapping("/settings/overview")
+    @ResponseBody
+    public ResponseEntity<ScheduleOverviewDto> getScheduleOverview(
+            @RequestParam(required = false) String month,
+            @RequestParam(required = false) String weekDayFirst,
+            @RequestParam(defaultValue = "4") int weeks,
+            @AuthenticationPrincipal TherapistUserDetails user) {
+
+        try {
+            GetScheduleOverviewQuery query;
+            if (month != null) {
+                query = GetScheduleOverviewQuery.forMonth(user.getId(), YearMonth.parse(month));
+            } else if (weekDayFirst != null) {
+                LocalDate mondayDate = LocalDateTime.parse(weekDayFirst, DATE_FORMATTER).toLocalDate();
+                query = new GetScheduleOverviewQuery(user.getId(), mondayDate, weeks);
+            } else {
+                query = GetScheduleOverviewQuery.forMonth(user.getId(), YearMonth.now());
+            }
+            return ResponseEntity.ok(getOverviewUseCase.execute(query));
+        } catch (DateTimeParseException | IllegalArgumentException | ConstraintViolationException e) {
+            // Unparsable dates, a first day that is not a Monday, or weeks outside 1..12
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * AJAX endpoint to toggle a time slot.
      * POST /therapist/schedule/book
@@ -155,6 +234,155 @@ public class TherapistScheduleController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * AJAX endpoint to toggle several time slots at once - a list of cells, a range
+     * [from, to), or both. Responds with the resulting state of every requested cell.
+     * POST /therapist/schedule/book/batch
+     */
+    @PostMapping("/book/batch")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> toggleSlots(
+            @RequestBody ToggleSlotsRequest request,
+            @AuthenticationPrincipal TherapistUserDetails user) {
+
+        List<LocalDateTime> times = new ArrayList<>();
+        if (request.times() != null) {
+            request.times().forEach(time -> times.add(LocalDateTime.parse(time, DATE_FORMATTER)));
+        }
+        if (request.from() != null && request.to() != null) {
+            times.addAll(ToggleSlotRangeUseCase.Command.range(
+                user.getId(),
+                LocalDateTime.parse(request.from(), DATE_FORMATTER),
+                LocalDateTime.parse(request.to(), DATE_FORMATTER),
+                request.action()
+            ).timesInTherapistTz());
+        }
+
+        var result = toggleSlotRangeUseCase.execute(
+            new ToggleSlotRangeUseCase.Command(user.getId(), times, request.action()));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", result.succeeded());
+        if (!result.succeeded()) {
+            response.put("message", result.message());
+        }
+        response.put("cells", result.cells().stream()
+            .map(cell -> new SlotCellResponse(
+                cell.timeInTherapistTz().format(DATE_FORMATTER),
+                cell.state().getCode()))
+            .toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * AJAX endpoint to repeat one week's available slots on the following weeks.
+     * POST /therapist/schedule/settings/copy-week
+     */
+    @PostMapping("/settings/copy-week")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> copyWeek(
+            @RequestBody CopyWeekScheduleCommand command,
+            @AuthenticationPrincipal TherapistUserDetails user) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("result", bulkEditUseCase.copyWeek(user.getId(), command));
+            response.put("success", true);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException | ConstraintViolationException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    /**
+     * AJAX endpoint to make all slots in a date range unavailable.
+     * POST /therapist/schedule/settings/clear
+     */
+    @PostMapping("/settings/clear")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> clearRange(
+            @RequestBody ClearScheduleRangeCommand command,
+            @AuthenticationPrincipal TherapistUserDetails user) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("result", bulkEditUseCase.clearRange(user.getId(), command));
+            response.put("success", true);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException | ConstraintViolationException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    /**
+     * AJAX endpoint to get weekly availability rules and upcoming exceptions.
+     * GET /therapist/schedule/settings/rules
+     */
+    @GetMapping("/settings/rules")
+    @ResponseBody
+    public ResponseEntity<AvailabilityRulesDto> getRules(
+            @AuthenticationPrincipal TherapistUserDetails user) {
+        return ResponseEntity.ok(getRulesUseCase.execute(user.getId()));
+    }
+
+    /**
+     * AJAX endpoint to replace the weekly availability rules.
+     * PUT /therapist/schedule/settings/rules
+     */
+    @PutMapping("/settings/rules")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> saveRules(
+            @RequestBody SaveAvailabilityRulesCommand command,
+            @AuthenticationPrincipal TherapistUserDetails user) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("rules", saveRulesUseCase.replaceRules(user.getId(), command));
+            response.put("success", true);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    /**
+     * AJAX endpoint to add a dated availability exception.
+     * POST /therapist/schedule/settings/exceptions
+     */
+    @PostMapping("/settings/exceptions")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> addException(
+            @RequestBody SaveAvailabilityExceptionCommand command,
+            @AuthenticationPrincipal TherapistUserDetails user) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("exception", saveRulesUseCase.addException(user.getId(), command));
+            response.put("success", true);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    /**
+     * AJAX endpoint to remove a dated availability exception.
+     * DELETE /therapist/schedule/settings/exceptions/{id}
+     */
+    @DeleteMapping("/settings/exceptions/{id}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> removeException(
+            @PathVariable Long id,
+            @AuthenticationPrincipal TherapistUserDetails user) {
+        saveRulesUseCase.removeException(user.getId(), id);
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
     /**
      * Cancel a consultation.
      * POST /therapist/schedule/consultation/{id}/cancel
@@ -195,6 +423,16 @@ public class TherapistScheduleController {
      */
     public record ToggleSlotRequest(String time, int action) {}
 
+    /**
+     * Request body for toggling several slots; {@code from}/{@code to} are optional.
+     */
+    public record ToggleSlotsRequest(List<String> times, String from, String to, int action) {}
+
+    /**
+     * Grid cell state after a batch toggle.
+     */
+    public record SlotCellResponse(String time, int state) {}
+
     /**
      * Constants for slot states (used in templates).
      */
@@ -2,13 +2,13 @@ package com.goodhelp.user.application.usecase;
 
 import com.goodhelp.common.service.DateLocalizedHelper;
 import com.goodhelp.common.service.TimezoneHelper;
-import com.goodhelp.therapist.domain.model.Therapist;
-import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.common.service.TimezoneProjectionService;
+import com.goodhelp.common.util.TherapistPhotoUrls;
 import com.goodhelp.user.application.dto.ConsultationDto;
 import com.goodhelp.user.application.dto.LatestTherapistDto;
 import com.goodhelp.user.application.dto.UserDashboardDto;
 import com.goodhelp.user.domain.model.User;
-import com.goodhelp.user.domain.model.UserConsultation;
+import com.goodhelp.user.domain.model.UserConsultationView;
 import com.goodhelp.user.domain.repository.UserConsultationRepository;
 import com.goodhelp.user.domain.repository.UserRepository;
 import org.springframework.stereotype.Service;
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +24,10 @@ import java.util.Optional;
 
 /**
  * Use case for fetching user dashboard data.
+ *
+ * <p>Consultations are read as {@link UserConsultationView} projections joined with the
+ * therapist profile, so a dashboard costs the same few queries however many sessions
+ * the user has booked.</p>
  */
 @Service
 @Transactional(readOnly = true)
@@ -63,16 +68,16 @@ public class GetUserDashboardUseCase {
         int timezoneOffset = userTime.getOffset().getTotalSeconds();
         String timezoneLabel = timezoneHelper.getLabelForOffset(timezoneOffset, timezone);
 
-        // Get upcoming consultations
-        List<UserConsultation> upcomingConsultations = consultationRepository
-            .findUpcomingByUserIdOrderByStartTime(userId);
+        // Get upcoming consultations, already joined with their therapists
+        List<UserConsultationView> upcomingConsultations = consultationRepository
+            .findUpcomingViewsByUserId(userId);
 
         // Get closest consultation (first one)
         ConsultationDto nextConsultation = null;
         List<ConsultationDto> remainingConsultations = new ArrayList<>();
         
         if (!upcomingConsultations.isEmpty()) {
-            UserConsultation closest = upcomingConsultations.get(0);
+            UserConsultationView closest = upcomingConsultations.get(0);
             nextConsultation = toConsultationDto(closest, user.getLocale(), timezone);
             
             // Remaining consultations (skip first)
@@ -114,22 +119,20 @@ public class GetUserDashboardUseCase {
         );
     }
 
-    private ConsultationDto toConsultationDto(UserConsultation consultation, String locale, String timezone) {
-        Therapist therapist = consultation.getTherapist();
-        TherapistProfile profile = therapist.getProfile();
+    private ConsultationDto toConsultationDto(UserConsultationView consultation, String locale, String timezone) {
+        String therapistName = consultation.therapistFirstName() != null
+            ? consultation.therapistFullName()
+            : "Unknown";
+        String therapistPhotoUrl = getTherapistPhotoUrl(consultation.therapistProfileTemplate());
         
-        String therapistName = profile != null ? profile.getFullName() : "Unknown";
-        String therapistPhotoUrl = getTherapistPhotoUrl(profile);
-        
-        LocalDateTime scheduledAt = consultation.getStartTime();
+        LocalDateTime scheduledAt = consultation.startTime();
         if (scheduledAt == null) {
             scheduledAt = LocalDateTime.now(); // Fallback
         }
         
-        // Convert to user's timezone for display
-        ZonedDateTime scheduledAtZoned = scheduledAt.atZone(ZoneId.of("UTC"))
-            .withZoneSameInstant(ZoneId.of(timezone));
-        LocalDateTime scheduledAtUserTz = scheduledAtZoned.toLocalDateTime();
+        // Convert to user's timezone for display (zone and rules are cached)
+        LocalDateTime scheduledAtUserTz = TimezoneProjectionService.toLocal(
+            scheduledAt, TimezoneProjectionService.zoneOf(timezone));
         
         String scheduledAtFormatted = dateLocalizedHelper.getDateTimeGoodLookingLabel(
             scheduledAtUserTz, locale
@@ -140,25 +143,23 @@ public class GetUserDashboardUseCase {
         boolean canBeCancelled = consultation.canBeCancelledByUser(now);
         
         // Timestamp for JavaScript
-        long scheduledAtTimestamp = scheduledAtZoned.toEpochSecond();
+        long scheduledAtTimestamp = scheduledAt.toEpochSecond(ZoneOffset.UTC);
         
         return new ConsultationDto(
-            consultation.getId(),
+            consultation.id(),
             therapistName,
             therapistPhotoUrl,
             scheduledAtUserTz,
             scheduledAtFormatted,
             canBeCancelled,
-            consultation.getState().name(),
+            consultation.state().name(),
             scheduledAtTimestamp
         );
     }
 
-    private String getTherapistPhotoUrl(TherapistProfile profile) {
-        if (profile == null || profile.getProfileTemplate() == null) {
-            return "/assets/landing/img/placeholder-therapist.jpg";
-        }
-        return "/assets/landing/img/select-psiholog/" + profile.getProfileTemplate() + ".jpg";
+    private String getTherapistPhotoUrl(String profileTemplate) {
+        // Dashboard avatars are 48px; the smallest variant covers 2x screens
+        return TherapistPhotoUrls.url(profileTemplate, TherapistPhotoUrls.AVATAR);
     }
 
     /**
@@ -168,22 +169,17 @@ public class GetUserDashboardUseCase {
      */
     private LatestTherapistDto findLatestTherapist(Long userId) {
         // Try to find from latest consultation (even if completed)
-        Optional<UserConsultation> latestConsultation = consultationRepository
-            .findByUserId(userId)
-            .stream()
-            .findFirst();
+        Optional<UserConsultationView> latestConsultation = consultationRepository
+            .findLatestViewByUserId(userId);
         
-        if (latestConsultation.isPresent()) {
-            Therapist therapist = latestConsultation.get().getTherapist();
-            TherapistProfile profile = therapist.getProfile();
-            if (profile != null) {
-                return new LatestTherapistDto(
-                    therapist.getId(),
-                    profile.getFirstName(),
-                    profile.getLastName(),
-                    getTherapistPhotoUrl(profile)
-                );
-            }
+        if (latestConsultation.isPresent() && latestConsultation.get().therapistFirstName() != null) {
+            UserConsultationView consultation = latestConsultation.get();
+            return new LatestTherapistDto(
+                consultation.therapistId(),
+                consultation.therapistFirstName(),
+                consultation.therapistLastName(),
+                getTherapistPhotoUrl(consultation.therapistProfileTemplate())
+            );
         }
         
         // TODO: If no consultations, check OrderRepository for latest purchase
@@ -119,10 +119,16 @@ public class UserConsultation extends BaseEntity {
      * User can cancel if consultation is active and 24+ hours before start time.
      */
     public boolean canBeCancelledByUser(LocalDateTime now) {
+        return isCancellableByUser(state, getStartTime(), now);
+    }
+
+    /**
+     * Cancellation rule for users: the consultation is active and starts in 24+ hours.
+     */
+    public static boolean isCancellableByUser(ConsultationState state, LocalDateTime startTime, LocalDateTime now) {
         if (!state.isActive()) {
             return false;
         }
-        LocalDateTime startTime = getStartTime();
         if (startTime == null) {
             return false;
         }
@@ -0,0 +1,38 @@
+package com.goodhelp.user.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a consultation joined with its therapist's profile,
+ * for the user dashboard.
+ *
+ * <p>Loaded with one query per list instead of walking the lazy therapist and
+ * schedule slot associations of every {@link UserConsultation}.</p>
+ *
+ * @param id consultation identifier
+ * @param state consultation state
+ * @param startTime start of the earliest slot (UTC), null if the consultation has none
+ * @param therapistId therapist of the consultation
+ * @param therapistProfileTemplate photo template of the therapist, may be null
+ */
+public record UserConsultationView(
+    Long id,
+    ConsultationState state,
+    LocalDateTime startTime,
+    Long therapistId,
+    String therapistFirstName,
+    String therapistLastName,
+    String therapistProfileTemplate
+) {
+
+    public String therapistFullName() {
+        return therapistFirstName + " " + therapistLastName;
+    }
+
+    /**
+     * Same rule as {@link UserConsultation#canBeCancelledByUser(LocalDateTime)}.
+     */
+    public boolean canBeCancelledByUser(LocalDateTime now) {
+        return UserConsultation.isCancellableByUser(state, startTime, now);
+    }
+}
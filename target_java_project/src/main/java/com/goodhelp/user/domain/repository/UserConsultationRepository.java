@@ -1,6 +1,7 @@
 package com.goodhelp.user.domain.repository;
 
 import com.goodhelp.user.domain.model.UserConsultation;
+import com.goodhelp.user.domain.model.UserConsultationView;
 
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +46,17 @@ public interface UserConsultationRepository {
      */
     List<UserConsultation> findByUserId(Long userId);
 
+    /**
+     * Upcoming (active) consultations of a user with their therapists, ordered by start
+     * time. One query regardless of the number of consultations.
+     */
+    List<UserConsultationView> findUpcomingViewsByUserId(Long userId);
+
+    /**
+     * The most recently booked consultation of a user (any state) with its therapist.
+     */
+    Optional<UserConsultationView> findLatestViewByUserId(Long userId);
+
     /**
      * Count completed consultations for a user.
      */
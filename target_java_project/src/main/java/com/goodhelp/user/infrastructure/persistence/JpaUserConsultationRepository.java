@@ -1,7 +1,10 @@
 package com.goodhelp.user.infrastructure.persistence;
 
+import com.goodhelp.booking.domain.model.SlotStatus;
 import com.goodhelp.user.domain.model.ConsultationState;
 import com.goodhelp.user.domain.model.UserConsultation;
+import com.goodhelp.user.domain.model.UserConsultationView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -68,6 +71,49 @@ public interface JpaUserConsultationRepository extends JpaRepository<UserConsult
         @Param("state") int state,
         @Param("now") LocalDateTime now);
 
+    /**
+     * Upcoming consultations of a user joined with the therapist profile, earliest first.
+     * Start time is the earliest booked future slot of each consultation.
+     */
+    @Query("""
+        SELECT new com.goodhelp.user.domain.model.UserConsultationView(
+            c.id, c.state, MIN(s.availableAt),
+            t.id, t.profile.firstName, t.profile.lastName, t.profile.profileTemplate)
+        FROM UserConsultation c
+        JOIN c.therapist t
+        JOIN c.scheduleSlots cs
+        JOIN cs.scheduleSlot s
+        WHERE c.user.id = :userId
+        AND c.state = :state
+        AND s.status = :slotStatus
+        AND s.availableAt > :now
+        GROUP BY c.id, c.state, t.id, t.profile.firstName, t.profile.lastName, t.profile.profileTemplate
+        ORDER BY MIN(s.availableAt) ASC, c.id ASC
+        """)
+    List<UserConsultationView> findUpcomingViews(
+        @Param("userId") Long userId,
+        @Param("state") ConsultationState state,
+        @Param("slotStatus") SlotStatus slotStatus,
+        @Param("now") LocalDateTime now);
+
+    /**
+     * Consultations of a user joined with the therapist profile, most recently created first.
+     * Pass a page size to bound the result.
+     */
+    @Query("""
+        SELECT new com.goodhelp.user.domain.model.UserConsultationView(
+            c.id, c.state, MIN(s.availableAt),
+            t.id, t.profile.firstName, t.profile.lastName, t.profile.profileTemplate)
+        FROM UserConsultation c
+        JOIN c.therapist t
+        LEFT JOIN c.scheduleSlots cs
+        LEFT JOIN cs.scheduleSlot s
+        WHERE c.user.id = :userId
+        GROUP BY c.id, c.state, c.createdAt, t.id, t.profile.firstName, t.profile.lastName, t.profile.profileTemplate
+        ORDER BY c.createdAt DESC, c.id DESC
+        """)
+    List<UserConsultationView> findLatestViews(@Param("userId") Long userId, Pageable pageable);
+
     /**
      * Count completed consultations for a user.
      */
@@ -1,9 +1,12 @@
 package com.goodhelp.user.infrastructure.persistence;
 
+import com.goodhelp.booking.domain.model.SlotStatus;
 import com.goodhelp.user.domain.model.ConsultationState;
 import com.goodhelp.user.domain.model.UserConsultation;
+import com.goodhelp.user.domain.model.UserConsultationView;
 import com.goodhelp.user.domain.repository.UserConsultationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -64,6 +67,21 @@ public class UserConsultationRepositoryAdapter implements UserConsultationReposi
         return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId);
     }
 
+    @Override
+    public List<UserConsultationView> findUpcomingViewsByUserId(Long userId) {
+        return jpaRepository.findUpcomingViews(
+            userId,
+            ConsultationState.CREATED,
+            SlotStatus.BOOKED,
+            LocalDateTime.now()
+        );
+    }
+
+    @Override
+    public Optional<UserConsultationView> findLatestViewByUserId(Long userId) {
+        return jpaRepository.findLatestViews(userId, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
     @Override
     public int countCompletedByUserId(Long userId) {
         return jpaRepository.countByUserIdAndState(userId, ConsultationState.COMPLETED);
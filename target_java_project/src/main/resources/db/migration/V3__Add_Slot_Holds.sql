@@ -0,0 +1,7 @@
+-- Short-lived checkout holds on schedule slots (state 7 = HELD)
+-- held_until is the UTC time after which an unfinished checkout releases the slot
+
+ALTER TABLE therapist_schedule ADD COLUMN IF NOT EXISTS held_until TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_therapist_schedule_state_held_until ON therapist_schedule(state, held_until);
+
+ALTER TABLE billing_checkout ADD COLUMN IF NOT EXISTS slot_held_until TIMESTAMP;
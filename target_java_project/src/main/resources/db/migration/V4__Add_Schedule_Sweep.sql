@@ -0,0 +1,17 @@
+-- Progress and single-node lock of background schedule sweeps
+-- expired_through / done_through are UTC high-water marks of the slot lifecycle sweep
+
+CREATE TABLE IF NOT EXISTS therapist_schedule_sweep (
+    name VARCHAR(50) PRIMARY KEY,
+    locked_until TIMESTAMP,
+    locked_by VARCHAR(100),
+    expired_through TIMESTAMP,
+    done_through TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO therapist_schedule_sweep (name) VALUES ('slot-lifecycle') ON CONFLICT (name) DO NOTHING;
+
+-- Sweep batches read "state = ? AND available_at in range ORDER BY available_at"
+CREATE INDEX IF NOT EXISTS idx_therapist_schedule_state_available_at ON therapist_schedule(state, available_at);
@@ -0,0 +1,72 @@
+-- Recurring weekly availability with dated exceptions.
+-- Times are wall-clock times in the therapist's timezone; slots opened by rules are
+-- virtual and get a therapist_schedule row only when booked or blocked.
+
+CREATE TABLE IF NOT EXISTS therapist_availability_rule (
+    id BIGSERIAL PRIMARY KEY,
+    therapist_id BIGINT NOT NULL REFERENCES therapist(id),
+    day_of_week INTEGER NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    valid_from DATE,
+    valid_until DATE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_availability_rule_therapist ON therapist_availability_rule(therapist_id);
+
+CREATE TABLE IF NOT EXISTS therapist_availability_exception (
+    id BIGSERIAL PRIMARY KEY,
+    therapist_id BIGINT NOT NULL REFERENCES therapist(id),
+    exception_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    type INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_availability_exception_therapist_date
+    ON therapist_availability_exception(therapist_id, exception_date);
+
+-- Materializing a virtual slot relies on at most one row per therapist and time.
+-- Existing duplicates are merged first: the booked or held row is kept, then a done one,
+-- otherwise the most recently updated; links to the other rows move to the kept row.
+CREATE TEMPORARY TABLE therapist_schedule_duplicate AS
+SELECT id, kept_id
+FROM (
+    SELECT id,
+           FIRST_VALUE(id) OVER (
+               PARTITION BY therapist_id, available_at
+               ORDER BY CASE WHEN state IN (2, 7) THEN 0 WHEN state = 4 THEN 1 ELSE 2 END,
+                        updated_at DESC,
+                        id DESC
+           ) AS kept_id
+    FROM therapist_schedule
+) ranked
+WHERE id <> kept_id;
+
+UPDATE user_consultation_therapist_schedule link
+SET therapist_schedule_id = duplicate.kept_id
+FROM therapist_schedule_duplicate duplicate
+WHERE link.therapist_schedule_id = duplicate.id;
+
+UPDATE order_therapist_schedule link
+SET therapist_schedule_id = duplicate.kept_id
+FROM therapist_schedule_duplicate duplicate
+WHERE link.therapist_schedule_id = duplicate.id;
+
+UPDATE billing_checkout checkout
+SET therapist_schedule_id = duplicate.kept_id
+FROM therapist_schedule_duplicate duplicate
+WHERE checkout.therapist_schedule_id = duplicate.id;
+
+DELETE FROM therapist_schedule schedule
+USING therapist_schedule_duplicate duplicate
+WHERE schedule.id = duplicate.id;
+
+DROP TABLE therapist_schedule_duplicate;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_therapist_schedule_therapist_time
+    ON therapist_schedule(therapist_id, available_at);
@@ -0,0 +1,46 @@
+-- Extended public profile content (about text, topics, education, methods, reviews),
+-- one JSON document per therapist and site locale (uk, ru, en).
+-- Replaces the static profile data compiled into the application; localized maps in
+-- the document keep their original keys ("ua" for Ukrainian) and hold only the row's locale.
+
+CREATE TABLE IF NOT EXISTS therapist_profile_content (
+    id BIGSERIAL PRIMARY KEY,
+    therapist_id BIGINT NOT NULL REFERENCES therapist(id),
+    locale VARCHAR(5) NOT NULL,
+    content JSONB NOT NULL,
+    version INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_therapist_profile_content_therapist_locale UNIQUE (therapist_id, locale)
+);
+
+-- Content previously held in TherapistProfileData
+INSERT INTO therapist_profile_content (therapist_id, locale, content, version, created_at, updated_at)
+SELECT 1, 'uk', '{"singlePhrase": "clinical_psiholog", "specialties": ["Crisis_and_trauma", "Psychosomatics", "Emotional_intelligence"], "experienceYears": 8, "profileCourses": 6, "hasPsychologistDiploma": true, "isNotTherapist": false, "therapyTypes": ["Individual", "Couple"], "about": {"ua": "<p>Досвідчений клінічний психолог, який спеціалізується на травмах та кризовій інтервенції. Використовую доказові підходи для допомоги клієнтам у подоланні складних життєвих ситуацій.</p>"}, "worksWith": ["stress", "anxiety", "depression", "panic_attacks", "war", "loss_of_loved_one", "burnout"], "education": {"mainAmount": 2, "additionalAmount": 3, "list": [{"years": "2015-2020", "name": {"ua": "Кандидат психологічних наук, Національний університет"}}]}, "methods": ["Cognitive_behavioral_therapy_cbt", "Psychoanalysis", "Existential_therapy"], "associationAndSupervision": [], "reviews": []}'::jsonb, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE EXISTS (SELECT 1 FROM therapist WHERE id = 1)
+ON CONFLICT (therapist_id, locale) DO NOTHING;
+
+INSERT INTO therapist_profile_content (therapist_id, locale, content, version, created_at, updated_at)
+SELECT 1, 'ru', '{"singlePhrase": "clinical_psiholog", "specialties": ["Crisis_and_trauma", "Psychosomatics", "Emotional_intelligence"], "experienceYears": 8, "profileCourses": 6, "hasPsychologistDiploma": true, "isNotTherapist": false, "therapyTypes": ["Individual", "Couple"], "about": {"ru": "<p>Опытный клинический психолог, специализирующийся на травмах и кризисной интервенции. Использую доказательные подходы для помощи клиентам в преодолении сложных жизненных ситуаций.</p>"}, "worksWith": ["stress", "anxiety", "depression", "panic_attacks", "war", "loss_of_loved_one", "burnout"], "education": {"mainAmount": 2, "additionalAmount": 3, "list": [{"years": "2015-2020", "name": {"ru": "Кандидат психологических наук, Национальный университет"}}]}, "methods": ["Cognitive_behavioral_therapy_cbt", "Psychoanalysis", "Existential_therapy"], "associationAndSupervision": [], "reviews": []}'::jsonb, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE EXISTS (SELECT 1 FROM therapist WHERE id = 1)
+ON CONFLICT (therapist_id, locale) DO NOTHING;
+
+INSERT INTO therapist_profile_content (therapist_id, locale, content, version, created_at, updated_at)
+SELECT 1, 'en', '{"singlePhrase": "clinical_psiholog", "specialties": ["Crisis_and_trauma", "Psychosomatics", "Emotional_intelligence"], "experienceYears": 8, "profileCourses": 6, "hasPsychologistDiploma": true, "isNotTherapist": false, "therapyTypes": ["Individual", "Couple"], "about": {"en": "<p>Experienced clinical psychologist specializing in trauma and crisis intervention. I use evidence-based approaches to help clients overcome difficult life situations.</p>"}, "worksWith": ["stress", "anxiety", "depression", "panic_attacks", "war", "loss_of_loved_one", "burnout"], "education": {"mainAmount": 2, "additionalAmount": 3, "list": [{"years": "2015-2020", "name": {"en": "PhD in Clinical Psychology, National University"}}]}, "methods": ["Cognitive_behavioral_therapy_cbt", "Psychoanalysis", "Existential_therapy"], "associationAndSupervision": [], "reviews": []}'::jsonb, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE EXISTS (SELECT 1 FROM therapist WHERE id = 1)
+ON CONFLICT (therapist_id, locale) DO NOTHING;
+
+INSERT INTO therapist_profile_content (therapist_id, locale, content, version, created_at, updated_at)
+SELECT 8, 'uk', '{"singlePhrase": "gestalt_therapist_and_lgbt_friendly_psiholog", "specialties": ["Sexology", "Crisis_and_trauma", "Organizational_consulting", "Interpersonal_relations"], "experienceYears": 5, "profileCourses": 4, "hasPsychologistDiploma": true, "isNotTherapist": false, "therapyTypes": ["Individual", "Couple", "Teenager"], "about": {"ua": "<p>Я енергійна, уважна, з повагою ставлюся до інаковості іншого. Я вірю в унікальність кожного, і що ця унікальність має право виявлятися у всіх сферах життя. Готова бути поряд, коли важко: слухати і чути тебе, якщо треба виговоритись; порадіти разом з тобою, твоїм великим та маленьким успіхам.</p>\n<p>Теми з якими точно до мене:<br>\n- Прийняття себе.<br>\n- Кризи у шлюбі та взагалі в відносинах.<br>\n- Сексуальність, жіноча ідентичність.<br>\n- Як не втратити себе як жінку, як особистість, у сім''ї та з дитиною.</p>\n"}, "worksWith": ["stress", "anxiety", "depression", "panic_attacks", "decline_of_strength", "low_self_esteem", "mood_swings", "irritability", "aggression", "sleep_problems", "a_feeling_of_loneliness", "emotional_dependence", "relationship_with_a_partner", "relations_with_parents", "relationship_with_children", "relationships_in_general_with_others", "sexual_problems_disorders", "difficulties_with_orientation_its_search", "burnout", "lack_of_motivation", "procrastination", "i_don_t_know_what_i_want_to_do", "change_job_loss", "war", "moving_emigrating", "pregnancy", "birth_of_a_child", "financial_changes", "breakup_of_relations_divorce", "treason"], "education": {"mainAmount": 2, "additionalAmount": 5, "list": [{"years": "2020-2022", "name": {"ua": "Магістр психології, «Міжрегіональна академія управління персоналом»"}}, {"years": "2007-2011", "name": {"ua": "Магістр соціології, «Академія праці та соціальних відносин»"}}, {"years": "2018-2022", "name": {"ua": "Гештальт-терапевт, сертифікований Московським Гештальт Інститутом"}}]}, "methods": ["Gestalt_therapy", "Systemic_family_therapy", "Art_therapy", "Body_therapy"], "associationAndSupervision": [{"ua": "Європейська Асоціація Гештальт Терапії (EAGT)"}], "reviews": [{"name": "Анна", "body": "Очень внимательный и понимающий специалист. Помогла мне разобраться в сложной жизненной ситуации.", "created": "2024-01-15"}, {"name": "Марія", "body": "Рекомендую! Після декількох сесій почала краще розуміти себе та свої почуття.", "created": "2024-02-20"}]}'::jsonb, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE EXISTS (SELECT 1 FROM therapist WHERE id = 8)
+ON CONFLICT (therapist_id, locale) DO NOTHING;
+
+INSERT INTO therapist_profile_content (therapist_id, locale, content, version, created_at, updated_at)
+SELECT 8, 'ru', '{"singlePhrase": "gestalt_therapist_and_lgbt_friendly_psiholog", "specialties": ["Sexology", "Crisis_and_trauma", "Organizational_consulting", "Interpersonal_relations"], "experienceYears": 5, "profileCourses": 4, "hasPsychologistDiploma": true, "isNotTherapist": false, "therapyTypes": ["Individual", "Couple", "Teenager"], "about": {"ru": "<p>Я энергичная, внимательная, с уважением отношусь к инаковости другого. Я верю в уникальность каждого, и что эта уникальность имеет право проявляться во всех областях жизни. Готова быть рядом, когда трудно: слушать и слышать тебя, если надо выговориться; порадоваться вместе с тобой, твоим большим и маленьким успехам.</p>\n<p>Темы с которыми точно ко мне:<br>\n- Принятие себя.<br>\n- Кризисы в браке и вообще в отношениях.<br>\n- Сексуальность, женская идентичность.<br>\n- Как не потерять себя как женщину, как личность, в семье и с ребенком.</p>\n"}, "worksWith": ["stress", "anxiety", "depression", "panic_attacks", "decline_of_strength", "low_self_esteem", "mood_swings", "irritability", "aggression", "sleep_problems", "a_feeling_of_loneliness", "emotional_dependence", "relationship_with_a_partner", "relations_with_parents", "relationship_with_children", "relationships_in_general_with_others", "sexual_problems_disorders", "difficulties_with_orientation_its_search", "burnout", "lack_of_motivation", "procrastination", "i_don_t_know_what_i_want_to_do", "change_job_loss", "war", "moving_emigrating", "pregnancy", "birth_of_a_child", "financial_changes", "breakup_of_relations_divorce", "treason"], "education": {"mainAmount": 2, "additionalAmount": 5, "list": [{"years": "2020-2022", "name": {"ru": "Магистр психологии, «Межрегиональная академия управления персоналом»"}}, {"years": "2007-2011", "name": {"ru": "Магистр социологии, «Академия труда и социальных отношений»"}}, {"years": "2018-2022", "name": {"ru": "Гештальт-терапевт, сертифицированный Московским Гештальт Институтом"}}]}, "methods": ["Gestalt_therapy", "Systemic_family_therapy", "Art_therapy", "Body_therapy"], "associationAndSupervision": [{"ru": "Европейская Ассоциация Гештальт Терапии (EAGT)"}], "reviews": [{"name": "Анна", "body": "Очень внимательный и понимающий специалист. Помогла мне разобраться в сложной жизненной ситуации.", "created": "2024-01-15"}, {"name": "Марія", "body": "Рекомендую! Після декількох сесій почала краще розуміти себе та свої почуття.", "created": "2024-02-20"}]}'::jsonb, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE EXISTS (SELECT 1 FROM therapist WHERE id = 8)
+ON CONFLICT (therapist_id, locale) DO NOTHING;
+
+INSERT INTO therapist_profile_content (therapist_id, locale, content, version, created_at, updated_at)
+SELECT 8, 'en', '{"singlePhrase": "gestalt_therapist_and_lgbt_friendly_psiholog", "specialties": ["Sexology", "Crisis_and_trauma", "Organizational_consulting", "Interpersonal_relations"], "experienceYears": 5, "profileCourses": 4, "hasPsychologistDiploma": true, "isNotTherapist": false, "therapyTypes": ["Individual", "Couple", "Teenager"], "about": {"en": "<p>I am energetic, attentive, and respectful of others'' differences. I believe in the uniqueness of each person and that this uniqueness has the right to manifest in all areas of life. I am ready to be there when things are difficult: to listen and hear you if you need to talk; to rejoice with you in your big and small successes.</p>\n<p>Topics to definitely bring to me:<br>\n- Self-acceptance.<br>\n- Crises in marriage and relationships in general.<br>\n- Sexuality, female identity.<br>\n- How not to lose yourself as a woman, as a person, in family and with children.</p>\n"}, "worksWith": ["stress", "anxiety", "depression", "panic_attacks", "decline_of_strength", "low_self_esteem", "mood_swings", "irritability", "aggression", "sleep_problems", "a_feeling_of_loneliness", "emotional_dependence", "relationship_with_a_partner", "relations_with_parents", "relationship_with_children", "relationships_in_general_with_others", "sexual_problems_disorders", "difficulties_with_orientation_its_search", "burnout", "lack_of_motivation", "procrastination", "i_don_t_know_what_i_want_to_do", "change_job_loss", "war", "moving_emigrating", "pregnancy", "birth_of_a_child", "financial_changes", "breakup_of_relations_divorce", "treason"], "education": {"mainAmount": 2, "additionalAmount": 5, "list": [{"years": "2020-2022", "name": {"en": "Master of Psychology, Interregional Academy of Personnel Management"}}, {"years": "2007-2011", "name": {"en": "Master of Sociology, Academy of Labor and Social Relations"}}, {"years": "2018-2022", "name": {"en": "Gestalt therapist, certified by the Moscow Gestalt Institute"}}]}, "methods": ["Gestalt_therapy", "Systemic_family_therapy", "Art_therapy", "Body_therapy"], "associationAndSupervision": [{"en": "European Association for Gestalt Therapy (EAGT)"}], "reviews": [{"name": "Анна", "body": "Очень внимательный и понимающий специалист. Помогла мне разобраться в сложной жизненной ситуации.", "created": "2024-01-15"}, {"name": "Марія", "body": "Рекомендую! Після декількох сесій почала краще розуміти себе та свої почуття.", "created": "2024-02-20"}]}'::jsonb, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE EXISTS (SELECT 1 FROM therapist WHERE id = 8)
+ON CONFLICT (therapist_id, locale) DO NOTHING;
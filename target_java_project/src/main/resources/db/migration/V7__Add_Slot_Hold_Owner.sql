@@ -0,0 +1,4 @@
+-- Checkout that holds a slot (billing_checkout.slug), set together with held_until.
+-- Only that checkout may renew the hold or book the slot.
+
+ALTER TABLE therapist_schedule ADD COLUMN IF NOT EXISTS held_by VARCHAR(32);
@@ -141,6 +141,113 @@
         });
     }
 
+    /**
+     * Schedule slot states, as in TimeSlotSettingDto.SlotState
+     */
+    const SLOT_STATES = [
+        { key: 'available', code: 2, cssClass: 'slot-available' },
+        { key: 'booked', code: 3, cssClass: 'slot-booked' },
+        { key: 'done', code: 4, cssClass: 'slot-done' },
+        { key: 'passed', code: 15, cssClass: 'slot-passed' }
+    ];
+    const SLOT_UNUSED = { code: 1, cssClass: 'slot-unused' };
+
+    /**
+     * Check a cell in a hex-encoded bitset (cell i is bit i % 4 of hex digit i / 4)
+     */
+    function hasCell(hex, cell) {
+        return (parseInt(hex.charAt(cell >> 2), 16) >> (cell & 3) & 1) === 1;
+    }
+
+    function pad(value) {
+        return value < 10 ? '0' + value : String(value);
+    }
+
+    /**
+     * Build the weekly schedule grid from the compact JSON of
+     * /therapist/schedule/settings/week/compact. Produces the same markup as the
+     * schedule-settings-week fragment.
+     */
+    function renderWeekGrid(grid) {
+        const days = grid.days.length;
+        const [year, month, day] = grid.monday.split('-').map(Number);
+
+        const container = document.createElement('div');
+        container.id = 'week-grid';
+        const responsive = document.createElement('div');
+        responsive.className = 'table-responsive';
+        const table = document.createElement('table');
+        table.className = 'schedule-table';
+
+        const headerRow = document.createElement('tr');
+        headerRow.className = 'schedule-table__header';
+        grid.days.forEach(header => {
+            const th = document.createElement('th');
+            const wrapper = document.createElement('div');
+            wrapper.className = 'day-header';
+            const date = document.createElement('span');
+            date.className = 'day-header__date';
+            date.textContent = header.dateLabel;
+            const name = document.createElement('span');
+            name.className = 'day-header__name';
+            name.textContent = header.dayLabel;
+            wrapper.append(date, name);
+            th.appendChild(wrapper);
+            headerRow.appendChild(th);
+        });
+        const thead = document.createElement('thead');
+        thead.appendChild(headerRow);
+
+        // Date prefixes per day; UTC arithmetic keeps the browser's zone out of it
+        const datePrefixes = [];
+        for (let d = 0; d < days; d++) {
+            const date = new Date(Date.UTC(year, month - 1, day + d));
+            datePrefixes.push(date.getUTCFullYear() + '-' + pad(date.getUTCMonth() + 1) + '-' + pad(date.getUTCDate()));
+        }
+
+        const tbody = document.createElement('tbody');
+        tbody.className = 'schedule-table__body';
+        let bookedIndex = 0;
+        const bookedByCell = {};
+        for (let cell = 0; cell < days * grid.cellsPerDay; cell++) {
+            if (hasCell(grid.booked, cell)) {
+                bookedByCell[cell] = grid.bookedAtUtc[bookedIndex++];
+            }
+        }
+
+        for (let slot = 0; slot < grid.cellsPerDay; slot++) {
+            const minutes = slot * grid.cellMinutes;
+            const time = pad(Math.floor(minutes / 60)) + ':' + pad(minutes % 60);
+            const row = document.createElement('tr');
+            for (let d = 0; d < days; d++) {
+                const cell = d * grid.cellsPerDay + slot;
+                const state = SLOT_STATES.find(s => hasCell(grid[s.key], cell)) || SLOT_UNUSED;
+
+                const td = document.createElement('td');
+                td.className = 'time-cell ' + state.cssClass;
+                td.setAttribute('data-available-at', datePrefixes[d] + ' ' + time + ':00');
+                td.setAttribute('data-disabled', '0');
+                td.setAttribute('data-state', state.code);
+                if (cell in bookedByCell) {
+                    td.setAttribute('data-available-at-ts-utc', bookedByCell[cell]);
+                }
+                td.innerHTML = '<span class="time-cell__time">' + time + '</span>' +
+                    '<div class="time-cell__loader" style="display: none;"><div class="spinner-small"></div></div>';
+                row.appendChild(td);
+            }
+            tbody.appendChild(row);
+        }
+
+        table.append(thead, tbody);
+        responsive.appendChild(table);
+        container.appendChild(responsive);
+        return container;
+    }
+
+    window.GoodHelpCabinet = {
+        renderWeekGrid: renderWeekGrid
+    };
+
     /**
      * Initialize on DOM ready
      */
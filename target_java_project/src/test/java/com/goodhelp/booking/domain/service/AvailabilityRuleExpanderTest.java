@@ -0,0 +1,127 @@
+package com.goodhelp.booking.domain.service;
+
+import com.goodhelp.booking.domain.model.AvailabilityException;
+import com.goodhelp.booking.domain.model.AvailabilityRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityRuleExpanderTest {
+
+    private static final ZoneId KYIV = ZoneId.of("Europe/Kiev");
+    private static final Long THERAPIST_ID = 1L;
+
+    private final AvailabilityRuleExpander expander = new AvailabilityRuleExpander();
+
+    private final AvailabilityRule mondayMornings = rule(DayOfWeek.MONDAY, "10:00", "13:00", null, null);
+
+    @Test
+    void expandsWeeklyRuleIntoHourlyStarts() {
+        int[] starts = expander.expand(List.of(mondayMornings), List.of(), KYIV,
+            local("2026-06-01T00:00"), local("2026-06-15T00:00"));
+
+        // Summer time, UTC+3
+        assertThat(starts).containsExactly(
+            minute("2026-06-01T07:00:00Z"), minute("2026-06-01T08:00:00Z"), minute("2026-06-01T09:00:00Z"),
+            minute("2026-06-08T07:00:00Z"), minute("2026-06-08T08:00:00Z"), minute("2026-06-08T09:00:00Z"));
+    }
+
+    @Test
+    void respectsRuleValidity() {
+        AvailabilityRule fromJune5 = rule(DayOfWeek.MONDAY, "10:00", "11:00", "2026-06-05", "2026-06-10");
+
+        int[] starts = expander.expand(List.of(fromJune5), List.of(), KYIV,
+            local("2026-06-01T00:00"), local("2026-06-22T00:00"));
+
+        assertThat(starts).containsExactly(minute("2026-06-08T07:00:00Z"));
+    }
+
+    @Test
+    void appliesExceptionsOfTheirDateOnly() {
+        List<AvailabilityException> exceptions = List.of(
+            AvailabilityException.dayOff(THERAPIST_ID, LocalDate.parse("2026-06-01")),
+            AvailabilityException.blocked(THERAPIST_ID, LocalDate.parse("2026-06-08"),
+                LocalTime.parse("11:00"), LocalTime.parse("11:30")),
+            AvailabilityException.open(THERAPIST_ID, LocalDate.parse("2026-06-03"),
+                LocalTime.parse("18:00"), LocalTime.parse("20:00"))
+        );
+
+        int[] starts = expander.expand(List.of(mondayMornings), exceptions, KYIV,
+            local("2026-06-01T00:00"), local("2026-06-15T00:00"));
+
+        assertThat(starts).containsExactly(
+            minute("2026-06-03T15:00:00Z"), minute("2026-06-03T16:00:00Z"),
+            minute("2026-06-08T07:00:00Z"), minute("2026-06-08T09:00:00Z"));
+    }
+
+    @Test
+    void keepsStartsWithinTheHalfOpenWindow() {
+        int[] starts = expander.expand(List.of(mondayMornings), List.of(), KYIV,
+            local("2026-06-01T10:30"), local("2026-06-01T12:00"));
+
+        assertThat(starts).containsExactly(minute("2026-06-01T08:00:00Z"));
+    }
+
+    @Test
+    void skipsStartsInsideSpringForwardGap() {
+        // 2026-03-29: clocks jump from 03:00 (UTC+2) to 04:00 (UTC+3)
+        AvailabilityRule night = rule(DayOfWeek.SUNDAY, "02:00", "05:00", null, null);
+
+        int[] starts = expander.expand(List.of(night), List.of(), KYIV,
+            Instant.parse("2026-03-28T12:00:00Z"), Instant.parse("2026-03-29T12:00:00Z"));
+
+        assertThat(starts).containsExactly(minute("2026-03-29T00:00:00Z"), minute("2026-03-29T01:00:00Z"));
+    }
+
+    @Test
+    void opensRepeatedStartOnceInFallBackOverlap() {
+        // 2026-10-25: clocks fall back from 04:00 (UTC+3) to 03:00 (UTC+2)
+        AvailabilityRule night = rule(DayOfWeek.SUNDAY, "02:00", "05:00", null, null);
+
+        int[] starts = expander.expand(List.of(night), List.of(), KYIV,
+            Instant.parse("2026-10-24T12:00:00Z"), Instant.parse("2026-10-25T12:00:00Z"));
+
+        // 03:00 happens twice; the slot opens at the earlier instant
+        assertThat(starts).containsExactly(
+            minute("2026-10-24T23:00:00Z"), minute("2026-10-25T00:00:00Z"), minute("2026-10-25T02:00:00Z"));
+    }
+
+    @Test
+    void opensAtMatchesExactStartsOnly() {
+        List<AvailabilityRule> rules = List.of(mondayMornings);
+
+        assertThat(expander.opensAt(rules, List.of(), KYIV, Instant.parse("2026-06-01T08:00:00Z"))).isTrue();
+        assertThat(expander.opensAt(rules, List.of(), KYIV, Instant.parse("2026-06-01T08:30:00Z"))).isFalse();
+        assertThat(expander.opensAt(rules, List.of(), KYIV, Instant.parse("2026-06-02T08:00:00Z"))).isFalse();
+    }
+
+    @Test
+    void emptyInputsOrWindowExpandToNothing() {
+        assertThat(expander.expand(List.of(), List.of(), KYIV,
+            local("2026-06-01T00:00"), local("2026-06-15T00:00"))).isEmpty();
+        assertThat(expander.expand(List.of(mondayMornings), List.of(), KYIV,
+            local("2026-06-15T00:00"), local("2026-06-01T00:00"))).isEmpty();
+    }
+
+    private static AvailabilityRule rule(DayOfWeek day, String start, String end, String validFrom, String validUntil) {
+        return AvailabilityRule.create(THERAPIST_ID, day, LocalTime.parse(start), LocalTime.parse(end),
+            validFrom != null ? LocalDate.parse(validFrom) : null,
+            validUntil != null ? LocalDate.parse(validUntil) : null);
+    }
+
+    private static Instant local(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(KYIV).toInstant();
+    }
+
+    private static int minute(String instant) {
+        return (int) (Instant.parse(instant).getEpochSecond() / 60);
+    }
+}
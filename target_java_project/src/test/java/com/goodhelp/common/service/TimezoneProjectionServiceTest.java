@@ -0,0 +1,112 @@
+package com.goodhelp.common.service;
+
+import com.goodhelp.common.service.TimezoneProjectionService.LocalProjection;
+import com.goodhelp.common.service.TimezoneProjectionService.OffsetTable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimezoneProjectionServiceTest {
+
+    private static final ZoneId KYIV = ZoneId.of("Europe/Kiev");
+
+    private final TimezoneProjectionService service = new TimezoneProjectionService();
+
+    // Spans the 2026-03-29 spring-forward: 03:00 (UTC+2) becomes 04:00 (UTC+3)
+    private final OffsetTable spring = service.offsets(KYIV,
+        epochSecond("2026-03-28T00:00:00Z"), epochSecond("2026-03-30T00:00:00Z"));
+
+    // Spans the 2026-10-25 fall-back: 04:00 (UTC+3) becomes 03:00 (UTC+2)
+    private final OffsetTable autumn = service.offsets(KYIV,
+        epochSecond("2026-10-24T00:00:00Z"), epochSecond("2026-10-26T00:00:00Z"));
+
+    @Test
+    void offsetChangesAtTheTransitionInstant() {
+        assertThat(spring.offsetAt(epochSecond("2026-03-29T00:59:59Z"))).isEqualTo(2 * 3600);
+        assertThat(spring.offsetAt(epochSecond("2026-03-29T01:00:00Z"))).isEqualTo(3 * 3600);
+        assertThat(autumn.offsetAt(epochSecond("2026-10-25T00:59:59Z"))).isEqualTo(3 * 3600);
+        assertThat(autumn.offsetAt(epochSecond("2026-10-25T01:00:00Z"))).isEqualTo(2 * 3600);
+    }
+
+    @Test
+    void convertsOrdinaryLocalTimes() {
+        assertThat(spring.toEpochSecond(local("2026-03-28T12:00"))).isEqualTo(epochSecond("2026-03-28T10:00:00Z"));
+        assertThat(spring.toEpochSecond(local("2026-03-29T12:00"))).isEqualTo(epochSecond("2026-03-29T09:00:00Z"));
+    }
+
+    @Test
+    void shiftsGapLocalTimesForward() {
+        // 03:30 does not exist on 2026-03-29; like ZonedDateTime it is read with the
+        // offset before the gap and lands on 04:30 local time
+        assertThat(spring.toEpochSecond(local("2026-03-29T03:30"))).isEqualTo(epochSecond("2026-03-29T01:30:00Z"));
+        assertThat(spring.toEpochSecond(local("2026-03-29T03:00"))).isEqualTo(epochSecond("2026-03-29T01:00:00Z"));
+    }
+
+    @Test
+    void picksTheEarlierInstantOfOverlapLocalTimes() {
+        // 03:30 happens twice on 2026-10-25: at 00:30Z (UTC+3) and at 01:30Z (UTC+2)
+        assertThat(autumn.toEpochSecond(local("2026-10-25T03:30"))).isEqualTo(epochSecond("2026-10-25T00:30:00Z"));
+        assertThat(autumn.toEpochSecond(local("2026-10-25T04:00"))).isEqualTo(epochSecond("2026-10-25T02:00:00Z"));
+    }
+
+    @Test
+    void agreesWithZonedDateTimeAroundBothTransitions() {
+        for (String day : new String[] {"2026-03-29", "2026-10-25"}) {
+            OffsetTable table = day.startsWith("2026-03") ? spring : autumn;
+            LocalDateTime start = LocalDate.parse(day).minusDays(1).atStartOfDay();
+            for (LocalDateTime local = start; local.isBefore(start.plusDays(3)); local = local.plusMinutes(15)) {
+                assertThat(table.toEpochSecond(local.toEpochSecond(ZoneOffset.UTC)))
+                    .as("%s", local)
+                    .isEqualTo(ZonedDateTime.of(local, KYIV).toEpochSecond());
+            }
+        }
+    }
+
+    @Test
+    void fallsBackToZoneRulesOutsideTheWindow() {
+        assertThat(spring.toEpochSecond(local("2026-07-01T12:00"))).isEqualTo(epochSecond("2026-07-01T09:00:00Z"));
+        assertThat(spring.toEpochSecond(local("2026-01-01T12:00"))).isEqualTo(epochSecond("2026-01-01T10:00:00Z"));
+        assertThat(autumn.toEpochSecond(local("2027-03-28T03:30"))).isEqualTo(epochSecond("2027-03-28T01:30:00Z"));
+        assertThat(spring.offsetAt(epochSecond("2026-07-01T00:00:00Z"))).isEqualTo(3 * 3600);
+    }
+
+    @Test
+    void projectsEpochMinutesToLocalDaysAndTimes() {
+        int[] epochMinutes = {
+            (int) (epochSecond("2026-03-28T22:30:00Z") / 60),
+            (int) (epochSecond("2026-03-29T01:00:00Z") / 60)
+        };
+
+        LocalProjection projection = service.projectEpochMinutes(KYIV, epochMinutes, 2);
+
+        assertThat(projection.size()).isEqualTo(2);
+        assertThat(projection.localDate(0)).isEqualTo(LocalDate.parse("2026-03-29"));
+        assertThat(projection.localTime(0)).isEqualTo(LocalTime.parse("00:30"));
+        assertThat(projection.localDate(1)).isEqualTo(LocalDate.parse("2026-03-29"));
+        assertThat(projection.localTime(1)).isEqualTo(LocalTime.parse("04:00"));
+    }
+
+    @Test
+    void zoneOfFallsBackToDefaultForInvalidIdentifiers() {
+        assertThat(TimezoneProjectionService.zoneOf("Europe/Warsaw")).isEqualTo(ZoneId.of("Europe/Warsaw"));
+        assertThat(TimezoneProjectionService.zoneOf("+02:00")).isEqualTo(ZoneOffset.ofHours(2));
+        assertThat(TimezoneProjectionService.zoneOf("Not/AZone")).isEqualTo(KYIV);
+        assertThat(TimezoneProjectionService.zoneOf(null)).isEqualTo(KYIV);
+    }
+
+    private static long epochSecond(String instant) {
+        return Instant.parse(instant).getEpochSecond();
+    }
+
+    private static long local(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,180 @@
+package com.goodhelp.landing.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goodhelp.landing.application.dto.ProfileSearchHitDto;
+import com.goodhelp.landing.application.dto.TherapistListItemDto;
+import com.goodhelp.therapist.domain.model.TherapistProfileContent;
+import com.goodhelp.therapist.domain.model.TherapistProfileContentVersion;
+import com.goodhelp.therapist.domain.repository.TherapistProfileContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileSearchIndexTest {
+
+    private static final TherapistListItemDto KOVAL = card(1L, "Anna Koval");
+    private static final TherapistListItemDto MELNYK = card(2L, "Petro Melnyk");
+    private static final TherapistListItemDto BONDAR = card(3L, "Iryna Bondar");
+
+    private final InMemoryContentRepository contentRepository = new InMemoryContentRepository();
+    private ProfileSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        StaticMessageSource messages = new StaticMessageSource();
+        messages.addMessage("anxiety", Locale.ENGLISH, "Anxiety");
+        messages.addMessage("anxiety", Locale.forLanguageTag("uk"), "Тривожність");
+
+        contentRepository.put(1L, "en", """
+            {"about": {"en": "<p>I work with panic attacks & trauma after the war.</p>"}}""");
+        contentRepository.put(1L, "uk", """
+            {"about": {"ua": "Працюю з тривогою та травмою."}}""");
+        contentRepository.put(2L, "en", """
+            {"about": {"en": "Anxiety in couples, relationship crises and trust."}}""");
+        contentRepository.put(3L, "en", """
+            {"about": {"en": "Gestalt therapist."}, "worksWith": ["anxiety"]}""");
+        contentRepository.put(3L, "uk", """
+            {"worksWith": ["anxiety"]}""");
+
+        // Searches never fall back to the holder once a generation has been built
+        index = new ProfileSearchIndex(messages, null,
+            new TherapistProfileContentStore(contentRepository, new ObjectMapper(), 16));
+        index.onCatalogRebuilt(new TherapistCatalogRebuiltEvent(
+            snapshot(List.of(KOVAL, MELNYK, BONDAR), Map.of(1L, 1, 2L, 1, 3L, 1))));
+    }
+
+    @Test
+    void ranksWeightedFieldsWithBm25() {
+        List<ProfileSearchHitDto> hits = index.search("anxiety", "en", 10);
+
+        // A topic label outweighs the same word in the profile text
+        assertThat(ids(hits)).containsExactly(3L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void matchesNamesAndLimitsHits() {
+        assertThat(ids(index.search("Melnyk", "en", 10))).containsExactly(2L);
+        assertThat(index.search("anxiety", "en", 1)).hasSize(1);
+    }
+
+    @Test
+    void lastWordMatchesAsPrefixFromThreeLetters() {
+        List<ProfileSearchHitDto> hits = index.search("pan", "en", 10);
+
+        assertThat(ids(hits)).containsExactly(1L);
+        assertThat(hits.get(0).highlight()).contains("<mark>panic</mark>");
+        assertThat(index.search("pa", "en", 10)).isEmpty();
+    }
+
+    @Test
+    void highlightsMatchesInEscapedPlainText() {
+        List<ProfileSearchHitDto> hits = index.search("trauma", "en", 10);
+
+        assertThat(ids(hits)).containsExactly(1L);
+        assertThat(hits.get(0).highlight())
+            .isEqualTo("I work with panic attacks &amp; <mark>trauma</mark> after the war.");
+    }
+
+    @Test
+    void searchesTheLocaleIndexWithStemming() {
+        // "тривоги" and "тривогою" share the stem "тривог"
+        assertThat(ids(index.search("тривоги", "uk", 10))).containsExactly(1L);
+        assertThat(ids(index.search("тривоги", "de", 10))).containsExactly(1L);
+        assertThat(index.search("тривоги", "en", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildReloadsChangedProfilesOnlyAndDropsRemovedOnes() {
+        assertThat(contentRepository.requests).containsExactly(List.of(1L, 2L, 3L));
+
+        contentRepository.put(2L, "en", """
+            {"about": {"en": "Family systems."}}""");
+        TherapistCatalogSnapshot next = snapshot(List.of(KOVAL, MELNYK), Map.of(1L, 1, 2L, 2));
+        index.onCatalogRebuilt(new TherapistCatalogRebuiltEvent(next));
+        index.onCatalogRebuilt(new TherapistCatalogRebuiltEvent(next));
+
+        assertThat(contentRepository.requests).containsExactly(List.of(1L, 2L, 3L), List.of(2L));
+        assertThat(index.search("anxiety", "en", 10)).isEmpty();
+        assertThat(ids(index.search("family", "en", 10))).containsExactly(2L);
+        assertThat(ids(index.search("trauma", "en", 10))).containsExactly(1L);
+    }
+
+    private static List<Long> ids(List<ProfileSearchHitDto> hits) {
+        return hits.stream().map(hit -> hit.therapist().id()).toList();
+    }
+
+    private static TherapistCatalogSnapshot snapshot(List<TherapistListItemDto> items, Map<Long, Integer> versions) {
+        return new TherapistCatalogSnapshot(
+            items,
+            items.stream().collect(Collectors.toMap(TherapistListItemDto::id, Function.identity())),
+            Map.of(),
+            Map.of(),
+            null,
+            null,
+            versions,
+            Instant.now()
+        );
+    }
+
+    private static TherapistListItemDto card(Long id, String fullName) {
+        return new TherapistListItemDto(id, fullName, null, null, null, null, null, false, "₴", List.of(), null, 0);
+    }
+
+    /**
+     * Content documents by therapist and locale; records the therapist IDs of every batch read.
+     */
+    private static final class InMemoryContentRepository implements TherapistProfileContentRepository {
+
+        private final Map<Long, Map<String, String>> documents = new HashMap<>();
+        private final List<List<Long>> requests = new ArrayList<>();
+
+        void put(Long therapistId, String locale, String json) {
+            documents.computeIfAbsent(therapistId, id -> new HashMap<>()).put(locale, json);
+        }
+
+        @Override
+        public List<TherapistProfileContent> findByTherapistIdIn(Collection<Long> therapistIds) {
+            requests.add(List.copyOf(therapistIds));
+            List<TherapistProfileContent> result = new ArrayList<>();
+            for (Long id : therapistIds) {
+                documents.getOrDefault(id, Map.of()).forEach((locale, json) ->
+                    result.add(TherapistProfileContent.create(id, locale, json)));
+            }
+            return result;
+        }
+
+        @Override
+        public Optional<TherapistProfileContent> findByTherapistIdAndLocale(Long therapistId, String locale) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<TherapistProfileContent> findByTherapistIdInAndLocale(Collection<Long> therapistIds, String locale) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<TherapistProfileContentVersion> findVersionsByTherapistIds(Collection<Long> therapistIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TherapistProfileContent save(TherapistProfileContent content) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
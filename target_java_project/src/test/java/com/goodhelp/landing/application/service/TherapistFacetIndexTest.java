@@ -0,0 +1,149 @@
+package com.goodhelp.landing.application.service;
+
+import com.goodhelp.landing.application.dto.CatalogFacetsDto;
+import com.goodhelp.landing.application.service.TherapistFacetIndex.Filter;
+import com.goodhelp.therapist.domain.model.PriceType;
+import com.goodhelp.therapist.domain.model.Sex;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistPrice;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.therapist.domain.model.TherapistRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.goodhelp.therapist.domain.model.PriceType.COUPLE;
+import static com.goodhelp.therapist.domain.model.PriceType.INDIVIDUAL;
+import static com.goodhelp.therapist.domain.model.PriceType.TEENAGER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class TherapistFacetIndexTest {
+
+    // 0: female, 2 years, individual 800 + couple 1500, uk + en
+    // 1: male, 6 years, individual 1200, uk
+    // 2: female, 12 years, teenager 1000 + individual 2000, ru
+    // 3: female, no experience, no prices, no content
+    private final TherapistFacetIndex index = TherapistFacetIndex.build(
+        List.of(
+            therapist(1L, Sex.FEMALE, 2),
+            therapist(2L, Sex.MALE, 6),
+            therapist(3L, Sex.FEMALE, 12),
+            therapist(4L, Sex.FEMALE, null)
+        ),
+        List.of(
+            price(1L, 800, INDIVIDUAL),
+            price(1L, 1500, COUPLE),
+            price(2L, 1200, INDIVIDUAL),
+            price(3L, 1000, TEENAGER),
+            price(3L, 2000, INDIVIDUAL)
+        ),
+        Map.of(1L, List.of("uk", "en"), 2L, List.of("uk"), 3L, List.of("ru"))::get
+    );
+
+    @Test
+    void emptyFilterMatchesEveryone() {
+        assertThat(positions(index.match(Filter.NONE))).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void filtersBySexExperienceAndLanguage() {
+        assertThat(positions(index.match(filter(null, null, Set.of(Sex.FEMALE), null, null, null))))
+            .containsExactly(0, 2, 3);
+        assertThat(positions(index.match(filter(null, null, null, null, 5, null))))
+            .containsExactly(1, 2);
+        assertThat(positions(index.match(filter(null, null, null, null, null, Set.of("ru", "en")))))
+            .containsExactly(0, 2);
+    }
+
+    @Test
+    void priceRangeMatchesAnyTypeUnlessTypesAreGiven() {
+        assertThat(positions(index.match(filter(700, 1100, null, null, null, null))))
+            .containsExactly(0, 2);
+        assertThat(positions(index.match(filter(700, 1100, null, Set.of(INDIVIDUAL), null, null))))
+            .containsExactly(0);
+        assertThat(positions(index.match(filter(1100, null, null, Set.of(COUPLE), null, null))))
+            .containsExactly(0);
+    }
+
+    @Test
+    void attributesCombineWithAnd() {
+        assertThat(positions(index.match(filter(null, null, Set.of(Sex.FEMALE), null, null, Set.of("uk")))))
+            .containsExactly(0);
+        assertThat(positions(index.match(filter(null, null, Set.of(Sex.MALE), Set.of(TEENAGER), null, null))))
+            .isEmpty();
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnConstraint() {
+        CatalogFacetsDto facets = index.facets(filter(null, null, Set.of(Sex.FEMALE), null, null, null), all());
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.sex()).containsOnly(entry("FEMALE", 3), entry("MALE", 1));
+        assertThat(facets.types()).containsOnly(entry("INDIVIDUAL", 2), entry("COUPLE", 1), entry("TEENAGER", 1));
+        assertThat(facets.languages()).containsOnly(entry("en", 1), entry("ru", 1), entry("uk", 1));
+        assertThat(facets.experienceAtLeast()).containsOnly(entry(1, 2), entry(3, 1), entry(5, 1), entry(10, 1));
+        assertThat(facets.priceMin()).isEqualTo(800);
+        assertThat(facets.priceMax()).isEqualTo(2000);
+    }
+
+    @Test
+    void typeCountsCheckTheirOwnPriceAgainstTheRange() {
+        CatalogFacetsDto facets = index.facets(filter(700, 1100, null, null, null, null), all());
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.sex()).containsOnly(entry("FEMALE", 2), entry("MALE", 0));
+        assertThat(facets.types()).containsOnly(entry("INDIVIDUAL", 1), entry("COUPLE", 0), entry("TEENAGER", 1));
+        // The slider bounds ignore the price filter itself
+        assertThat(facets.priceMin()).isEqualTo(800);
+        assertThat(facets.priceMax()).isEqualTo(2000);
+    }
+
+    @Test
+    void facetsStayWithinScope() {
+        BitSet scope = new BitSet();
+        scope.set(1);
+
+        CatalogFacetsDto facets = index.facets(Filter.NONE, scope);
+
+        assertThat(facets.total()).isEqualTo(1);
+        assertThat(facets.sex()).containsOnly(entry("FEMALE", 0), entry("MALE", 1));
+        assertThat(facets.languages()).containsOnly(entry("en", 0), entry("ru", 0), entry("uk", 1));
+        assertThat(facets.priceMin()).isEqualTo(1200);
+        assertThat(facets.priceMax()).isEqualTo(1200);
+    }
+
+    private static Filter filter(Integer priceMin, Integer priceMax, Set<Sex> sexes, Set<PriceType> types,
+                                 Integer minExperienceYears, Set<String> languages) {
+        return new Filter(priceMin, priceMax, sexes, types, minExperienceYears, languages);
+    }
+
+    private static BitSet all() {
+        BitSet all = new BitSet();
+        all.set(0, 4);
+        return all;
+    }
+
+    private static List<Integer> positions(BitSet bits) {
+        return bits.stream().boxed().toList();
+    }
+
+    private static Therapist therapist(Long id, Sex sex, Integer experienceYears) {
+        LocalDate worksFrom = experienceYears != null
+            ? LocalDate.now().minusYears(experienceYears).minusDays(1)
+            : null;
+        Therapist therapist = Therapist.create("therapist" + id + "@example.com", TherapistRole.THERAPIST,
+            TherapistProfile.create("Name", "Surname" + id, null, worksFrom, null, sex));
+        ReflectionTestUtils.setField(therapist, "id", id);
+        return therapist;
+    }
+
+    private static TherapistPrice price(Long therapistId, int price, PriceType type) {
+        return TherapistPrice.create(therapistId, price, type, null);
+    }
+}
@@ -0,0 +1,107 @@
+package com.goodhelp.landing.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goodhelp.therapist.domain.model.TherapistProfileContent;
+import com.goodhelp.therapist.domain.model.TherapistProfileContentVersion;
+import com.goodhelp.therapist.domain.repository.TherapistProfileContentRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TherapistProfileContentStoreTest {
+
+    private final InMemoryContentRepository repository = new InMemoryContentRepository();
+    private final TherapistProfileContentStore store =
+        new TherapistProfileContentStore(repository, new ObjectMapper(), 16);
+
+    @Test
+    void cachesDocumentsAndFallsBackToEnglish() {
+        repository.put(1L, "en", """
+            {"about": {"en": "Gestalt therapist."}}""");
+
+        assertThat(store.find(1L, "ru").about()).containsEntry("en", "Gestalt therapist.");
+        assertThat(store.find(1L, "ru").about()).containsEntry("en", "Gestalt therapist.");
+        assertThat(repository.reads).isEqualTo(2);
+    }
+
+    @Test
+    void rebuiltCatalogEvictsDocumentsWhoseVersionChanged() {
+        repository.put(1L, "uk", """
+            {"about": {"ua": "Працюю з тривогою."}}""");
+        repository.put(2L, "uk", """
+            {"about": {"ua": "Працюю з парами."}}""");
+        store.onCatalogRebuilt(rebuilt(Map.of(1L, 1, 2L, 1)));
+        store.find(1L, "uk");
+        store.find(2L, "uk");
+
+        // Edited outside the application: no change event, only a new version in the next snapshot
+        repository.put(1L, "uk", """
+            {"about": {"ua": "Працюю з втратою."}}""");
+        store.onCatalogRebuilt(rebuilt(Map.of(1L, 2, 2L, 1)));
+
+        int readsBefore = repository.reads;
+        assertThat(store.find(1L, "uk").about()).containsEntry("ua", "Працюю з втратою.");
+        assertThat(store.find(2L, "uk").about()).containsEntry("ua", "Працюю з парами.");
+        assertThat(repository.reads - readsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void contentKeyUsesTheDocumentsKeyForUkrainian() {
+        assertThat(TherapistProfileContentStore.contentKey("uk")).isEqualTo("ua");
+        assertThat(TherapistProfileContentStore.contentKey("ru")).isEqualTo("ru");
+        assertThat(TherapistProfileContentStore.contentKey("en")).isEqualTo("en");
+        assertThat(TherapistProfileContentStore.contentKey("de")).isEqualTo("ua");
+    }
+
+    private static TherapistCatalogRebuiltEvent rebuilt(Map<Long, Integer> versions) {
+        return new TherapistCatalogRebuiltEvent(new TherapistCatalogSnapshot(
+            List.of(), Map.of(), Map.of(), Map.of(), null, null, versions, Instant.now()));
+    }
+
+    /**
+     * Content documents by therapist and locale; counts single-document reads.
+     */
+    private static final class InMemoryContentRepository implements TherapistProfileContentRepository {
+
+        private final Map<Long, Map<String, String>> documents = new HashMap<>();
+        private int reads;
+
+        void put(Long therapistId, String locale, String json) {
+            documents.computeIfAbsent(therapistId, id -> new HashMap<>()).put(locale, json);
+        }
+
+        @Override
+        public Optional<TherapistProfileContent> findByTherapistIdAndLocale(Long therapistId, String locale) {
+            reads++;
+            return Optional.ofNullable(documents.getOrDefault(therapistId, Map.of()).get(locale))
+                .map(json -> TherapistProfileContent.create(therapistId, locale, json));
+        }
+
+        @Override
+        public List<TherapistProfileContent> findByTherapistIdIn(Collection<Long> therapistIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<TherapistProfileContent> findByTherapistIdInAndLocale(Collection<Long> therapistIds, String locale) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<TherapistProfileContentVersion> findVersionsByTherapistIds(Collection<Long> therapistIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TherapistProfileContent save(TherapistProfileContent content) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.goodhelp.landing.application.service;
+
+import com.goodhelp.landing.application.dto.TherapistListItemDto;
+import com.goodhelp.landing.application.dto.TherapistProfileData;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.goodhelp.landing.application.dto.TherapistProfileData.ANXIETY;
+import static com.goodhelp.landing.application.dto.TherapistProfileData.BURNOUT;
+import static com.goodhelp.landing.application.dto.TherapistProfileData.STRESS;
+import static com.goodhelp.landing.application.dto.TherapistProfileData.WAR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TherapistTopicIndexTest {
+
+    // Positions: 0 = anxiety + war, 1 = stress, 2 = no profile content
+    private final TherapistTopicIndex index = TherapistTopicIndex.build(
+        List.of(card(1L), card(2L), card(3L)),
+        Map.of(1L, List.of(ANXIETY, WAR), 2L, List.of(STRESS))::get
+    );
+
+    @Test
+    void topicMatchesTherapistsWorkingWithIt() {
+        assertThat(positions(index.match(List.of(ANXIETY), true))).containsExactly(0);
+        assertThat(positions(index.match(List.of(STRESS), true))).containsExactly(1);
+    }
+
+    @Test
+    void groupMatchesAnyOfItsTopics() {
+        assertThat(positions(index.match(List.of(TherapistProfileData.GROUP_MY_STATE), true))).containsExactly(0, 1);
+        assertThat(positions(index.match(List.of(TherapistProfileData.GROUP_LIFE_EVENTS), true))).containsExactly(0);
+    }
+
+    @Test
+    void matchAllIntersectsAndMatchAnyUnites() {
+        assertThat(positions(index.match(List.of(ANXIETY, WAR), true))).containsExactly(0);
+        assertThat(positions(index.match(List.of(ANXIETY, STRESS), true))).isEmpty();
+        assertThat(positions(index.match(List.of(ANXIETY, STRESS), false))).containsExactly(0, 1);
+    }
+
+    @Test
+    void unknownTermEmptiesAndButIsIgnoredByOr() {
+        assertThat(positions(index.match(List.of(ANXIETY, BURNOUT), true))).isEmpty();
+        assertThat(positions(index.match(List.of(BURNOUT, STRESS), false))).containsExactly(1);
+        assertThat(positions(index.match(List.of(BURNOUT), false))).isEmpty();
+    }
+
+    @Test
+    void noTermsMatchWholeCatalog() {
+        assertThat(positions(index.match(List.of(), true))).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void resultsAreCopies() {
+        index.match(List.of(ANXIETY), true).set(2);
+
+        assertThat(positions(index.match(List.of(ANXIETY), true))).containsExactly(0);
+    }
+
+    @Test
+    void countsTherapistsPerTopicAndGroup() {
+        assertThat(index.count(ANXIETY)).isEqualTo(1);
+        assertThat(index.count(TherapistProfileData.GROUP_MY_STATE)).isEqualTo(2);
+        assertThat(index.count(TherapistProfileData.GROUP_RELATIONS)).isZero();
+        assertThat(index.count(BURNOUT)).isZero();
+    }
+
+    private static List<Integer> positions(BitSet bits) {
+        return bits.stream().boxed().toList();
+    }
+
+    private static TherapistListItemDto card(Long id) {
+        return new TherapistListItemDto(id, "Therapist " + id, null, null, null, null, null, false, "₴",
+            List.of(), null, 0);
+    }
+}
@@ -0,0 +1,70 @@
+package com.goodhelp.landing.application.usecase;
+
+import com.goodhelp.billing.domain.model.Order;
+import com.goodhelp.billing.domain.model.OrderSchedule;
+import com.goodhelp.booking.domain.model.PriceType;
+import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.booking.domain.model.TherapistPrice;
+import com.goodhelp.landing.application.dto.OrderStatusDto;
+import com.goodhelp.support.querybudget.QueryBudget;
+import com.goodhelp.support.querybudget.QueryBudgetTest;
+import com.goodhelp.therapist.domain.model.Sex;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.therapist.domain.model.TherapistRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QueryBudgetTest
+class GetOrderStatusUseCaseQueryBudgetTest {
+
+    @Autowired
+    private GetOrderStatusUseCase useCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void orderStatusStaysWithinBudget() {
+        String checkoutSlug = orderWithBookedSlot();
+
+        // Order, price, therapist (with its two inverse one-to-ones), order schedule, slot
+        OrderStatusDto status = QueryBudget.of(7, 5)
+            .run(() -> useCase.execute(checkoutSlug, "Europe/Kiev", "en"));
+
+        assertThat(status.status()).isEqualTo("pending");
+        assertThat(status.therapistName()).isEqualTo("Anna Budget");
+        assertThat(status.consultationTime()).isNotNull();
+    }
+
+    private String orderWithBookedSlot() {
+        return transactionTemplate.execute(status -> {
+            Therapist therapist = Therapist.create("therapist-" + UUID.randomUUID() + "@example.com",
+                TherapistRole.THERAPIST, TherapistProfile.minimal("Anna", "Budget", Sex.FEMALE));
+            entityManager.persist(therapist);
+            TherapistPrice price = TherapistPrice.create(therapist, 1200, "UAH", PriceType.INDIVIDUAL, 50);
+            entityManager.persist(price);
+            String checkoutSlug = UUID.randomUUID().toString().replace("-", "");
+            ScheduleSlot slot = ScheduleSlot.createAvailable(therapist, LocalDateTime.now().plusDays(2).withNano(0));
+            slot.hold(checkoutSlug, LocalDateTime.now().plusMinutes(15));
+            slot.book(checkoutSlug);
+            entityManager.persist(slot);
+
+            Order order = Order.create(checkoutSlug, 1200, "UAH", price.getId(), null, null,
+                "+380000000000", "client@example.com", "Client", "Europe/Kiev", "en", null, null);
+            entityManager.persist(order);
+            entityManager.persist(OrderSchedule.create(order.getId(), slot.getId()));
+            return checkoutSlug;
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.goodhelp.landing.presentation.web;
+
+import com.goodhelp.therapist.domain.model.Sex;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.therapist.domain.model.TherapistRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class TherapistProfileControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void rendersContentOfThePathLocaleWithoutSessionLocale() throws Exception {
+        Long therapistId = therapistWithContent();
+
+        // No session locale, so the request locale is the resolver's default (English)
+        mockMvc.perform(get("/profile/{id}", therapistId))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("Працюю з тривогою та втратою.")))
+            .andExpect(content().string(containsString("Київський університет")))
+            .andExpect(content().string(containsString("Асоціація психотерапевтів")));
+
+        mockMvc.perform(get("/ru/profile/{id}", therapistId))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("Работаю с тревогой и утратой.")))
+            .andExpect(content().string(not(containsString("Працюю з тривогою"))));
+    }
+
+    private Long therapistWithContent() {
+        return transactionTemplate.execute(status -> {
+            Therapist therapist = Therapist.create("therapist-" + UUID.randomUUID() + "@example.com",
+                TherapistRole.THERAPIST, TherapistProfile.minimal("Anna", "Profile", Sex.FEMALE));
+            entityManager.persist(therapist);
+            entityManager.flush();
+            insertContent(therapist.getId(), "uk", """
+                {"about": {"ua": "Працюю з тривогою та втратою."},
+                 "education": {"mainAmount": 1, "additionalAmount": 0,
+                               "list": [{"years": "2008-2013", "name": {"ua": "Київський університет"}}]},
+                 "associationAndSupervision": [{"ua": "Асоціація психотерапевтів"}]}""");
+            insertContent(therapist.getId(), "ru", """
+                {"about": {"ru": "Работаю с тревогой и утратой."}}""");
+            return therapist.getId();
+        });
+    }
+
+    private void insertContent(Long therapistId, String locale, String json) {
+        // Written as JSON text; binding a string to the JSON column would store a JSON string on H2
+        entityManager.createNativeQuery(
+                "INSERT INTO therapist_profile_content (therapist_id, locale, content, version, created_at, updated_at) " +
+                "VALUES (:therapistId, :locale, :content FORMAT JSON, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+            .setParameter("therapistId", therapistId)
+            .setParameter("locale", locale)
+            .setParameter("content", json)
+            .executeUpdate();
+    }
+}
@@ -0,0 +1,67 @@
+package com.goodhelp.support.querybudget;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource handing out connections whose statements report every execution to
+ * {@link QueryCounter}. A batch counts as one statement, the way it reaches the database.
+ */
+class CountingDataSource extends DelegatingDataSource {
+
+    CountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String preparedSql = args != null && args.length > 0 && args[0] instanceof String sql ? sql : null;
+                return countingStatement(statement, method.getReturnType(), preparedSql);
+            }
+            return result;
+        });
+    }
+
+    private static Object countingStatement(Statement statement, Class<?> type, String preparedSql) {
+        return proxy(type, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                QueryCounter.statementExecuted(method.getName().equals("executeBatch") ? "[batch] " + sql : sql);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
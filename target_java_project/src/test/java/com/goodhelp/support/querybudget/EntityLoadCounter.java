@@ -0,0 +1,37 @@
+package com.goodhelp.support.querybudget;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Hibernate post-load listener reporting every hydrated entity to {@link QueryCounter}.
+ *
+ * <p>Hibernate's {@code Statistics} count loads for the whole session factory; this
+ * listener attributes them to the thread that triggered them, like statement counting.</p>
+ */
+class EntityLoadCounter implements PostLoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    EntityLoadCounter(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryCounter.entityLoaded(event.getPersister().getEntityName());
+    }
+}
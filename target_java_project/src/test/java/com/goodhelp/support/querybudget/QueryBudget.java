@@ -0,0 +1,60 @@
+package com.goodhelp.support.querybudget;
+
+import com.goodhelp.support.querybudget.QueryCounter.QueryCount;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Maximum number of SQL statements and entity loads a use case may issue.
+ *
+ * <pre>
+ * var dashboard = QueryBudget.of(3, 0).run(() -&gt; useCase.execute(userId));
+ * </pre>
+ *
+ * <p>A block over budget fails with every statement it executed, so the offending query
+ * (typically a lazy association loaded in a loop) is visible in the test report.</p>
+ */
+public final class QueryBudget {
+
+    private final int maxStatements;
+    private final int maxEntityLoads;
+
+    private QueryBudget(int maxStatements, int maxEntityLoads) {
+        this.maxStatements = maxStatements;
+        this.maxEntityLoads = maxEntityLoads;
+    }
+
+    public static QueryBudget of(int maxStatements, int maxEntityLoads) {
+        return new QueryBudget(maxStatements, maxEntityLoads);
+    }
+
+    /**
+     * Run an action, failing if it exceeds the budget.
+     *
+     * @return the action's result
+     */
+    public <T> T run(Supplier<T> action) {
+        QueryCounter.Measured<T> measured = QueryCounter.measure(action);
+        check(measured.count());
+        return measured.result();
+    }
+
+    private void check(QueryCount count) {
+        if (count.statementCount() <= maxStatements && count.entityLoadCount() <= maxEntityLoads) {
+            return;
+        }
+        StringBuilder message = new StringBuilder()
+            .append("Query budget exceeded: ")
+            .append(count.statementCount()).append(" statements (max ").append(maxStatements).append("), ")
+            .append(count.entityLoadCount()).append(" entity loads (max ").append(maxEntityLoads).append(")");
+        for (Map.Entry<String, Integer> load : count.entityLoads().entrySet()) {
+            message.append("\n  loaded ").append(load.getValue()).append(" x ").append(load.getKey());
+        }
+        int index = 1;
+        for (String sql : count.statements()) {
+            message.append("\n  ").append(index++).append(": ").append(sql);
+        }
+        throw new AssertionError(message.toString());
+    }
+}
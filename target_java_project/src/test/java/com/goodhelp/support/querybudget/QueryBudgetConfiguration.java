@@ -0,0 +1,33 @@
+package com.goodhelp.support.querybudget;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires statement and entity-load counting into the test context; see {@link QueryBudgetTest}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryBudgetConfiguration {
+
+    @Bean
+    static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    EntityLoadCounter entityLoadCounter(EntityManagerFactory entityManagerFactory) {
+        return new EntityLoadCounter(entityManagerFactory);
+    }
+}
@@ -0,0 +1,24 @@
+package com.goodhelp.support.querybudget;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Full application context on the test profile (H2 in PostgreSQL mode) with query
+ * counting enabled, for tests asserting a {@link QueryBudget}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryBudgetConfiguration.class)
+public @interface QueryBudgetTest {
+}
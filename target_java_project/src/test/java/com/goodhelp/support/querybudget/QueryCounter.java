@@ -0,0 +1,84 @@
+package com.goodhelp.support.querybudget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Counts SQL statements and entity loads issued by the current thread.
+ *
+ * <p>Counting is per thread, so statements from background work (catalog snapshot
+ * rebuilds, schedulers) never leak into the measured block. Statements are reported by
+ * {@link CountingDataSource}, entity loads by {@link EntityLoadCounter}.</p>
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Run an action and return what it executed, along with its result.
+     */
+    public static <T> Measured<T> measure(Supplier<T> action) {
+        Recording previous = CURRENT.get();
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        try {
+            T result = action.get();
+            return new Measured<>(result, recording.toCount());
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void statementExecuted(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.statements.add(sql);
+        }
+    }
+
+    static void entityLoaded(String entityName) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.entityLoads.merge(entityName, 1, Integer::sum);
+        }
+    }
+
+    public record Measured<T>(T result, QueryCount count) {}
+
+    /**
+     * Statements and entity loads of a measured block.
+     *
+     * @param statements SQL of every executed statement, in order
+     * @param entityLoads number of entities hydrated, by entity name
+     */
+    public record QueryCount(List<String> statements, Map<String, Integer> entityLoads) {
+
+        public int statementCount() {
+            return statements.size();
+        }
+
+        public int entityLoadCount() {
+            return entityLoads.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    private static final class Recording {
+
+        private final List<String> statements = new ArrayList<>();
+        private final Map<String, Integer> entityLoads = new TreeMap<>();
+
+        private QueryCount toCount() {
+            return new QueryCount(List.copyOf(statements), Map.copyOf(entityLoads));
+        }
+    }
+}
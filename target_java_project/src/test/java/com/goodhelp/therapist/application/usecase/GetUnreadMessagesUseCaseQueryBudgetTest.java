@@ -0,0 +1,76 @@
+package com.goodhelp.therapist.application.usecase;
+
+import com.goodhelp.support.querybudget.QueryBudget;
+import com.goodhelp.support.querybudget.QueryBudgetTest;
+import com.goodhelp.therapist.application.dto.NewMessageItemDto;
+import com.goodhelp.therapist.domain.model.ChatMessage;
+import com.goodhelp.therapist.domain.model.Sex;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.therapist.domain.model.TherapistRole;
+import com.goodhelp.user.domain.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QueryBudgetTest
+class GetUnreadMessagesUseCaseQueryBudgetTest {
+
+    private static final int USERS = 3;
+
+    @Autowired
+    private GetUnreadMessagesUseCase useCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void newMessagesListLoadsOnlyLatestMessages() {
+        Long therapistId = therapistWithUnreadMessages();
+
+        // Conversations, latest messages, user names: one statement each
+        List<NewMessageItemDto> messages = QueryBudget.of(3, USERS)
+            .run(() -> useCase.getNewMessagesList(therapistId));
+
+        assertThat(messages).hasSize(USERS);
+        assertThat(messages).allSatisfy(message -> {
+            assertThat(message.unreadMessagesAmount()).isEqualTo(2);
+            assertThat(message.fullName()).isEqualTo("Budget Client");
+        });
+    }
+
+    @Test
+    void unreadCountIsSingleQuery() {
+        Long therapistId = therapistWithUnreadMessages();
+
+        int count = QueryBudget.of(1, 0)
+            .run(() -> useCase.getUnreadCount(therapistId).amount());
+
+        assertThat(count).isEqualTo(USERS * 2);
+    }
+
+    private Long therapistWithUnreadMessages() {
+        return transactionTemplate.execute(status -> {
+            Therapist therapist = Therapist.create("therapist-" + UUID.randomUUID() + "@example.com",
+                TherapistRole.THERAPIST, TherapistProfile.minimal("Anna", "Budget", Sex.FEMALE));
+            entityManager.persist(therapist);
+            for (int i = 0; i < USERS; i++) {
+                User user = User.create("budget-" + UUID.randomUUID() + "@example.com");
+                user.updateFullName("Budget Client");
+                entityManager.persist(user);
+                entityManager.persist(ChatMessage.fromUser(user.getId(), therapist.getId(), "Hello"));
+                entityManager.persist(ChatMessage.fromUser(user.getId(), therapist.getId(), "Are you there?"));
+            }
+            return therapist.getId();
+        });
+    }
+}
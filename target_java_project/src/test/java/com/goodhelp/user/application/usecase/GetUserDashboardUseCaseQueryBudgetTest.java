@@ -0,0 +1,85 @@
+package com.goodhelp.user.application.usecase;
+
+import com.goodhelp.user.domain.model.ConsultationType;
+import com.goodhelp.booking.domain.model.ScheduleSlot;
+import com.goodhelp.support.querybudget.QueryBudget;
+import com.goodhelp.support.querybudget.QueryBudgetTest;
+import com.goodhelp.support.querybudget.QueryCounter;
+import com.goodhelp.therapist.domain.model.Sex;
+import com.goodhelp.therapist.domain.model.Therapist;
+import com.goodhelp.therapist.domain.model.TherapistProfile;
+import com.goodhelp.therapist.domain.model.TherapistRole;
+import com.goodhelp.user.application.dto.UserDashboardDto;
+import com.goodhelp.user.domain.model.User;
+import com.goodhelp.user.domain.model.UserConsultation;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QueryBudgetTest
+class GetUserDashboardUseCaseQueryBudgetTest {
+
+    @Autowired
+    private GetUserDashboardUseCase useCase;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void upcomingConsultationsLoadInConstantQueries() {
+        Long userId = userWithUpcomingConsultations(5);
+
+        UserDashboardDto dashboard = QueryBudget.of(4, 1)
+            .run(() -> useCase.execute(userId, false, false));
+
+        assertThat(dashboard.nextConsultation()).isNotNull();
+        assertThat(dashboard.upcomingConsultations()).hasSize(4);
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithConsultations() {
+        Long oneConsultation = userWithUpcomingConsultations(1);
+        Long manyConsultations = userWithUpcomingConsultations(8);
+
+        int single = QueryCounter.measure(() -> useCase.execute(oneConsultation, false, false))
+            .count().statementCount();
+        int many = QueryCounter.measure(() -> useCase.execute(manyConsultations, false, false))
+            .count().statementCount();
+
+        assertThat(many).isEqualTo(single);
+    }
+
+    private Long userWithUpcomingConsultations(int count) {
+        return transactionTemplate.execute(status -> {
+            User user = User.create("budget-" + UUID.randomUUID() + "@example.com");
+            entityManager.persist(user);
+            LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+            for (int i = 0; i < count; i++) {
+                Therapist therapist = Therapist.create("therapist-" + UUID.randomUUID() + "@example.com",
+                    TherapistRole.THERAPIST,
+                    TherapistProfile.create("Anna", "Budget", null, LocalDate.of(2015, 1, 1),
+                        "001-budget", Sex.FEMALE));
+                entityManager.persist(therapist);
+                ScheduleSlot slot = ScheduleSlot.createAvailable(therapist, start.plusHours(i));
+                String checkoutSlug = UUID.randomUUID().toString().replace("-", "");
+                slot.hold(checkoutSlug, start);
+                slot.book(checkoutSlug);
+                entityManager.persist(slot);
+                UserConsultation consultation = UserConsultation.create(user, therapist, null, ConsultationType.INDIVIDUAL);
+                consultation.addScheduleSlot(slot);
+                entityManager.persist(consultation);
+            }
+            return user.getId();
+        });
+    }
+}